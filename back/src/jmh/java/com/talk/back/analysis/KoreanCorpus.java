@@ -0,0 +1,90 @@
+package com.talk.back.analysis;
+
+import java.util.SplittableRandom;
+
+/**
+ * 벤치마크용 한국어 텍스트 생성기
+ * - 같은 seed 면 항상 같은 텍스트 (실행마다 / 기기마다 결과 비교 가능)
+ * - 명사 + 조사, 부사, 서술어로 문장을 만들고 숫자·영문 용어, 문장부호, 줄바꿈을 섞어 실제 업로드 문서와 비슷하게 구성
+ * - 원문과 사용자 텍스트는 같은 어휘를 쓰되 seed 를 다르게 해서 일부만 겹치도록 함
+ */
+public final class KoreanCorpus {
+
+    public static final long ORIGINAL_SEED = 20240601L;
+    public static final long USER_SEED = 20240602L;
+
+    private static final String[] NOUNS = {
+            "인공지능", "기계학습", "신경망", "데이터", "알고리즘", "컴퓨터", "모델", "학습", "추론", "지각",
+            "언어", "문장", "단어", "의미", "문맥", "정보", "지식", "사람", "사회", "기술",
+            "연구", "실험", "결과", "방법", "과정", "구조", "분야", "역사", "경제", "환경",
+            "교육", "학생", "교사", "수업", "내용", "이해", "요약", "독해", "글쓰기", "토론",
+            "문제", "해결", "판단", "근거", "주장", "사례", "비교", "차이", "변화", "영향",
+            "도시", "인구", "에너지", "기후", "자원", "산업", "시장", "정책", "제도", "문화"
+    };
+    // {받침 있을 때, 받침 없을 때}
+    private static final String[][] PARTICLES = {
+            {"은", "는"}, {"이", "가"}, {"을", "를"}, {"과", "와"}, {"으로", "로"},
+            {"의", "의"}, {"에", "에"}, {"에서", "에서"}, {"도", "도"}
+    };
+    private static final String[] ADVERBS = {"또한", "그러나", "특히", "따라서", "예를 들어", "최근에는", "반면에", "결국"};
+    private static final String[] PREDICATES = {
+            "설명한다", "구현한다", "사용한다", "분석했다", "보여준다", "필요하다", "중요하다",
+            "발전했다", "연구한다", "제안했다", "달라진다", "늘어났다", "확인할 수 있다", "이해해야 한다"
+    };
+    private static final String[] TERMS = {"AI", "GPU", "API", "SNS", "OECD", "IT"};
+
+    private KoreanCorpus() {
+    }
+
+    /** chars 글자 길이의 원문 */
+    public static String original(int chars) {
+        return generate(chars, ORIGINAL_SEED);
+    }
+
+    /** chars 글자 길이의 사용자 텍스트 (원문과 어휘 일부가 겹침) */
+    public static String user(int chars) {
+        return generate(chars, USER_SEED);
+    }
+
+    public static String generate(int chars, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        StringBuilder sb = new StringBuilder(chars + 128);
+        int sentencesInParagraph = 0;
+
+        while (sb.length() < chars) {
+            if (random.nextInt(4) == 0) {
+                sb.append(pick(random, ADVERBS)).append(", ");
+            }
+            int phrases = 3 + random.nextInt(6);
+            for (int i = 0; i < phrases; i++) {
+                int kind = random.nextInt(20);
+                if (kind == 0) {
+                    sb.append(1990 + random.nextInt(35)).append("년");
+                } else if (kind == 1) {
+                    sb.append(pick(random, TERMS));
+                } else {
+                    if (random.nextInt(3) == 0) sb.append(pick(random, NOUNS)); // 복합 명사
+                    sb.append(pick(random, NOUNS));
+                }
+                String[] particle = PARTICLES[random.nextInt(PARTICLES.length)];
+                sb.append(hasFinalConsonant(sb.charAt(sb.length() - 1)) ? particle[0] : particle[1]).append(i == phrases / 2 && random.nextBoolean() ? ", " : " ");
+            }
+            sb.append(pick(random, PREDICATES)).append(random.nextInt(10) == 0 ? "? " : ". ");
+
+            if (++sentencesInParagraph >= 4 + random.nextInt(3)) {
+                sb.append('\n');
+                sentencesInParagraph = 0;
+            }
+        }
+        return sb.substring(0, chars);
+    }
+
+    // 한글 음절의 받침 유무 (한글이 아니면 받침 없는 것으로 취급)
+    private static boolean hasFinalConsonant(char c) {
+        return c >= '가' && c <= '힣' && (c - '가') % 28 != 0;
+    }
+
+    private static String pick(SplittableRandom random, String[] words) {
+        return words[random.nextInt(words.length)];
+    }
+}
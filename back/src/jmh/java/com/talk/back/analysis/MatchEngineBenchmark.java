@@ -0,0 +1,77 @@
+package com.talk.back.analysis;
+
+import com.sun.net.httpserver.HttpServer;
+import com.talk.back.analysis.dto.MatchDetailDto;
+import com.talk.back.analysis.service.KoSbertMatchEngine;
+import com.talk.back.analysis.service.TfIdfMatchEngine;
+import com.talk.back.analysis.service.WordOverlapMatchEngine;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 매칭 엔진 비교 벤치마크
+ * - tfidf / word-overlap: JVM 내부 채점 비용
+ * - kosbert: 고정 응답을 주는 로컬 스텁 서버 대상 → 모델 추론을 뺀 HTTP 왕복 비용만 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MatchEngineBenchmark {
+
+    private static final String ORIGINAL =
+            "인공지능은 인간의 학습 능력과 추론 능력, 지각 능력을 인공적으로 구현하려는 컴퓨터 과학의 세부 분야이다. "
+            + "기계 학습은 데이터로부터 규칙을 스스로 찾아내는 방법이며, 딥러닝은 여러 층의 신경망을 사용한다.";
+    private static final String USER =
+            "인공지능은 사람처럼 배우고 추론하는 능력을 컴퓨터로 만드는 분야이고, 기계 학습은 데이터에서 규칙을 찾는다.";
+
+    private TfIdfMatchEngine tfIdf;
+    private WordOverlapMatchEngine wordOverlap;
+    private KoSbertMatchEngine koSbert;
+    private HttpServer stubScorer;
+
+    @Setup
+    public void setUp() throws Exception {
+        tfIdf = new TfIdfMatchEngine();
+        wordOverlap = new WordOverlapMatchEngine();
+
+        stubScorer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        byte[] body = "{\"matchingRate\":73.5,\"original\":\"\",\"user\":\"\"}".getBytes(StandardCharsets.UTF_8);
+        stubScorer.createContext("/analyze", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        stubScorer.start();
+
+        String baseUrl = "http://127.0.0.1:" + stubScorer.getAddress().getPort();
+        koSbert = new KoSbertMatchEngine(new RestTemplateBuilder().rootUri(baseUrl).build(), null, false, 32);
+    }
+
+    @TearDown
+    public void tearDown() {
+        stubScorer.stop(0);
+    }
+
+    @Benchmark
+    public MatchDetailDto tfIdf() {
+        return tfIdf.analyze(ORIGINAL, USER);
+    }
+
+    @Benchmark
+    public MatchDetailDto wordOverlap() {
+        return wordOverlap.analyze(ORIGINAL, USER);
+    }
+
+    @Benchmark
+    public MatchDetailDto koSbertHttpOnly() {
+        return koSbert.analyze(ORIGINAL, USER);
+    }
+}
@@ -0,0 +1,66 @@
+package com.talk.back.analysis;
+
+import com.talk.back.analysis.dto.MatchDetailDto;
+import com.talk.back.analysis.service.WordOverlapMatchEngine;
+import com.talk.back.util.KoreanTokenizer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * WordOverlapMatchEngine 벤치마크 (KoreanCorpus 1 KB ~ 1 MB 원문, 사용자 텍스트는 원문의 절반 크기)
+ * - legacyHashSet: 이전 구현 (HashSet<String> 2개 + stream 3번)
+ * - primitiveHash: 현재 구현 (TokenHashSet, 한 번 훑기)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WordOverlapBenchmark {
+
+    @Param({"1024", "16384", "262144", "1048576"})
+    public int chars;
+
+    private String original;
+    private String user;
+    private WordOverlapMatchEngine engine;
+
+    @Setup
+    public void setUp() {
+        original = KoreanCorpus.original(chars);
+        user = KoreanCorpus.user(chars / 2);
+        engine = new WordOverlapMatchEngine();
+    }
+
+    @Benchmark
+    public MatchDetailDto primitiveHash() {
+        return engine.analyze(original, user);
+    }
+
+    @Benchmark
+    public MatchDetailDto legacyHashSet() {
+        Set<String> oSet = new HashSet<>(KoreanTokenizer.tokenize(original));
+        Set<String> uSet = new HashSet<>(KoreanTokenizer.tokenize(user));
+
+        Set<String> intersection = oSet.stream().filter(uSet::contains).collect(Collectors.toSet());
+        Set<String> originalOnly = oSet.stream().filter(w -> !uSet.contains(w)).collect(Collectors.toSet());
+        Set<String> userOnly = uSet.stream().filter(w -> !oSet.contains(w)).collect(Collectors.toSet());
+
+        double matchingRate = (intersection.size() / (double) Math.max(oSet.size(), uSet.size())) * 100.0;
+        List<String> matches = intersection.stream().limit(10).toList();
+        return MatchDetailDto.builder()
+                .matchingRate(Math.round(matchingRate * 100.0) / 100.0)
+                .totalOriginalWords(oSet.size())
+                .totalUserWords(uSet.size())
+                .matchedWords(intersection.size())
+                .keywordMatches(matches)
+                .missedKeywords(originalOnly.stream().limit(10).toList())
+                .extraKeywords(userOnly.stream().limit(10).toList())
+                .originalLength(original.length())
+                .userLength(user.length())
+                .build();
+    }
+}
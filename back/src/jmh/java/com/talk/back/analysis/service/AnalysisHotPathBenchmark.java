@@ -0,0 +1,90 @@
+package com.talk.back.analysis.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.talk.back.analysis.KoreanCorpus;
+import com.talk.back.analysis.dto.MatchDetailDto;
+import com.talk.back.analysis.entity.AnalysisRecord;
+import com.talk.back.util.KoreanTokenizer;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.util.DigestUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 분석 요청 1건이 거치는 JVM 내부 단계 벤치마크 (KoreanCorpus 원문 크기별)
+ * - 토큰화, 단어 겹침 채점, 제목 생성, 원문 해시(MD5), 결과 JSON 직렬화 / 역직렬화
+ * - 결과 저장 / 상세 조회: 예전 result_json (serializeResult / deserializeResult) 과
+ *   수치 컬럼 + 키워드 바이트 (writeTypedResult / readTypedResult) 비교 → -prof gc 의 gc.alloc.rate.norm 으로 할당량 확인
+ * - ./gradlew jmh -PjmhIncludes=AnalysisHotPathBenchmark 로 이것만 실행 가능
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class AnalysisHotPathBenchmark {
+
+    @Param({"1024", "32768", "262144", "1048576"})
+    public int chars;
+
+    private String original;
+    private String user;
+    private WordOverlapMatchEngine wordOverlap;
+    private ObjectMapper objectMapper;
+    private MatchDetailDto result;
+    private String resultJson;
+    private AnalysisRecord typedRecord;
+
+    @Setup
+    public void setUp() throws Exception {
+        original = KoreanCorpus.original(chars);
+        user = KoreanCorpus.user(Math.max(256, chars / 8)); // 사용자 요약은 원문보다 짧음
+        wordOverlap = new WordOverlapMatchEngine();
+        objectMapper = new ObjectMapper();
+        result = wordOverlap.analyze(original, user);
+        resultJson = objectMapper.writeValueAsString(result);
+        typedRecord = new AnalysisRecord();
+        MatchResultCodec.write(result, typedRecord);
+    }
+
+    @Benchmark
+    public List<String> tokenize() {
+        return KoreanTokenizer.tokenize(original);
+    }
+
+    @Benchmark
+    public MatchDetailDto wordOverlap() {
+        return wordOverlap.analyze(original, user);
+    }
+
+    @Benchmark
+    public String generateSubject() {
+        return AnalysisService.generateSubject(original);
+    }
+
+    @Benchmark
+    public String md5Hash() {
+        return DigestUtils.md5DigestAsHex(original.getBytes());
+    }
+
+    @Benchmark
+    public String serializeResult() throws Exception {
+        return objectMapper.writeValueAsString(result);
+    }
+
+    @Benchmark
+    public MatchDetailDto deserializeResult() throws Exception {
+        return objectMapper.readValue(resultJson, MatchDetailDto.class);
+    }
+
+    @Benchmark
+    public AnalysisRecord writeTypedResult() {
+        AnalysisRecord record = new AnalysisRecord();
+        MatchResultCodec.write(result, record);
+        return record;
+    }
+
+    @Benchmark
+    public MatchDetailDto readTypedResult() {
+        return MatchResultCodec.readDetail(typedRecord);
+    }
+}
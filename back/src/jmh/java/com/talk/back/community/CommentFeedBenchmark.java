@@ -0,0 +1,165 @@
+package com.talk.back.community;
+
+import com.talk.back.auth.entity.User;
+import com.talk.back.auth.repository.UserRepository;
+import com.talk.back.community.dto.CommentResponseDto;
+import com.talk.back.community.entity.Comment;
+import com.talk.back.community.repository.CommentLikeRepository;
+import com.talk.back.community.repository.CommentLikeWriter;
+import com.talk.back.community.repository.CommentReportRepository;
+import com.talk.back.community.repository.CommentRepository;
+import com.talk.back.community.service.CommentFeedCache;
+import com.talk.back.community.service.CommentInteractionIndex;
+import com.talk.back.community.service.CommentLikeCounter;
+import com.talk.back.community.service.CommentService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 커뮤니티 피드 0 페이지 응답 시간 분포 (스냅샷 캐시 사용 / 미사용)
+ * - DB 대신 왕복 시간(dbMicros)만큼 기다리는 가짜 저장소 사용
+ *   · 캐시 미사용: 목록(JOIN FETCH) + 전체 개수 + 내 좋아요 + 내 신고 = 4번 왕복
+ *   · 캐시 사용: 내 좋아요 + 내 신고 = 2번 왕복 (무효화된 직후 요청만 4번)
+ *   · index=true: 내 좋아요 / 신고는 CommentInteractionIndex 에서 확인 (첫 요청만 사용자 단위 2번 왕복)
+ * - invalidateEvery: 요청 N 번마다 새 글 작성처럼 전체 무효화 (0 이면 무효화 없음)
+ * - SampleTime 결과의 p0.99 로 비교, ./gradlew jmh -PjmhIncludes=CommentFeedBenchmark 로 이것만 실행 가능
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(4)
+public class CommentFeedBenchmark {
+
+    private static final int TOTAL_COMMENTS = 500;
+
+    @Param({"false", "true"})
+    public boolean cache;
+
+    @Param({"100", "500"})
+    public int dbMicros;
+
+    @Param({"0", "50"})
+    public int invalidateEvery;
+
+    @Param({"false", "true"})
+    public boolean index;
+
+    private CommentService commentService;
+    private CommentFeedCache feedCache;
+    private User viewer;
+    private List<Comment> comments;
+    private final AtomicLong requests = new AtomicLong();
+
+    @Setup
+    public void setUp() {
+        viewer = User.builder().userId(1L).email("viewer@test.com").name("조회자").build();
+        User author = User.builder().userId(2L).email("author@test.com").name("작성자").build();
+        comments = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (long id = TOTAL_COMMENTS; id > 0; id--) {
+            comments.add(Comment.builder()
+                    .commentId(id)
+                    .user(id % 7 == 0 ? viewer : author)
+                    .content("커뮤니티 댓글 " + id)
+                    .likeCount((int) (id % 13))
+                    .createdAt(now.minusMinutes(TOTAL_COMMENTS - id))
+                    .build());
+        }
+
+        feedCache = new CommentFeedCache(cache, 3, Duration.ofMinutes(10));
+        CommentLikeCounter likeCounter = new CommentLikeCounter(new JdbcTemplate(), new TransactionTemplate(), feedCache);
+        CommentLikeRepository likeRepository = commentLikeRepository();
+        CommentReportRepository reportRepository = commentReportRepository();
+        CommentInteractionIndex interactionIndex = new CommentInteractionIndex(likeRepository, reportRepository,
+                index, Duration.ofMinutes(30), 64L * 1024 * 1024);
+        commentService = new CommentService(commentRepository(), stub(UserRepository.class),
+                likeRepository, reportRepository, likeCounter, feedCache, interactionIndex,
+                new CommentLikeWriter(new JdbcTemplate()));
+    }
+
+    @Benchmark
+    public List<CommentResponseDto> firstPage() {
+        if (invalidateEvery > 0 && requests.incrementAndGet() % invalidateEvery == 0) {
+            feedCache.invalidateAll();
+        }
+        return commentService.getComments(0, viewer);
+    }
+
+    // 목록 + 전체 개수
+    private CommentRepository commentRepository() {
+        return stub(CommentRepository.class, (method, args) -> {
+            if (!method.equals("findByDeletedFalseOrderByCreatedAtDesc")) return null;
+            roundTrip(2);
+            Pageable pageable = (Pageable) args[0];
+            int from = (int) Math.min(pageable.getOffset(), comments.size());
+            int to = Math.min(from + pageable.getPageSize(), comments.size());
+            return new PageImpl<>(comments.subList(from, to), pageable, comments.size());
+        });
+    }
+
+    private CommentLikeRepository commentLikeRepository() {
+        return stub(CommentLikeRepository.class, (method, args) -> {
+            if (method.equals("findCommentIdsByUserId")) {
+                roundTrip(1);
+                return comments.stream().map(Comment::getCommentId).filter(id -> id % 3 == 0).toList();
+            }
+            if (!method.equals("findLikedCommentIds")) return null;
+            roundTrip(1);
+            return ((Collection<?>) args[0]).stream().filter(id -> (Long) id % 3 == 0).toList();
+        });
+    }
+
+    private CommentReportRepository commentReportRepository() {
+        return stub(CommentReportRepository.class, (method, args) -> {
+            if (!method.equals("findReportedCommentIds") && !method.equals("findActiveReportedCommentIdsByUserId")) return null;
+            roundTrip(1);
+            return List.of();
+        });
+    }
+
+    // DB 왕복 대기 (sleep 은 해상도가 거칠어서 바쁜 대기)
+    private void roundTrip(int times) {
+        long deadline = System.nanoTime() + TimeUnit.MICROSECONDS.toNanos((long) dbMicros * times);
+        while (System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private interface Handler {
+        Object handle(String method, Object[] args);
+    }
+
+    private static <T> T stub(Class<T> type) {
+        return stub(type, (method, args) -> null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> type, Handler handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> type.getSimpleName() + "Stub";
+                };
+            }
+            Object result = handler.handle(method.getName(), args);
+            if (result == null) {
+                throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+            }
+            return result;
+        });
+    }
+}
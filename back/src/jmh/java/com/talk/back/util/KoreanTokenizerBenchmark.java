@@ -0,0 +1,60 @@
+package com.talk.back.util;
+
+import com.talk.back.analysis.KoreanCorpus;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * KoreanTokenizer 벤치마크
+ * - regexLegacy : 이전 구현 (toLowerCase + 정규식 + String 목록)
+ * - tokenizeList: List<String> 어댑터
+ * - scanBuffer  : 재사용 버퍼에 위치 / 해시만 기록
+ * 할당량은 -prof gc 의 gc.alloc.rate.norm(B/op) 으로 확인 (입력 크기로 나누면 MB 당 할당량)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class KoreanTokenizerBenchmark {
+
+    private static final Pattern LEGACY_PATTERN = Pattern.compile("[가-힣]{2,}");
+
+    @Param({"1024", "102400", "1048576"})
+    public int chars;
+
+    private String text;
+    private KoreanTokenizer.TokenBuffer buffer;
+
+    @Setup
+    public void setUp() {
+        text = KoreanCorpus.original(chars);
+        buffer = new KoreanTokenizer.TokenBuffer();
+        KoreanTokenizer.scan(text, buffer); // 버퍼를 최종 크기까지 미리 키워 둠
+    }
+
+    @Benchmark
+    public List<String> regexLegacy() {
+        Matcher m = LEGACY_PATTERN.matcher(text.toLowerCase());
+        List<String> words = new ArrayList<>();
+        while (m.find()) {
+            words.add(m.group());
+        }
+        return words;
+    }
+
+    @Benchmark
+    public List<String> tokenizeList() {
+        return KoreanTokenizer.tokenize(text);
+    }
+
+    @Benchmark
+    public void scanBuffer(Blackhole bh) {
+        bh.consume(KoreanTokenizer.scan(text, buffer));
+        bh.consume(buffer.hash(buffer.size() - 1));
+    }
+}
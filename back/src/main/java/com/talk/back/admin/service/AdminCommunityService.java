@@ -6,6 +6,7 @@ import com.talk.back.community.entity.Comment;
 import com.talk.back.community.entity.ReportAction;
 import com.talk.back.community.entity.ReportStatus;
 import com.talk.back.community.repository.CommentRepository;
+import com.talk.back.community.service.CommentFeedCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -20,6 +21,7 @@ public class AdminCommunityService {
 
     private final CommentRepository commentRepository;
     private final AdminLogService adminLogService;
+    private final CommentFeedCache commentFeedCache; // 사용자 피드 스냅샷 (복구 / 삭제 시 무효화)
 
     /**
      * 🚩 관리자 모드 - 신고된 게시글 목록 조회
@@ -50,6 +52,7 @@ public class AdminCommunityService {
         comment.setReportStatus(ReportStatus.RESOLVED);     // ✅ 처리 완료
         comment.setReportAction(ReportAction.RESTORED);     // ✅ 복구 처리
         commentRepository.save(comment);
+        commentFeedCache.invalidateComment(commentId);      // 신고 수가 0 으로 바뀐 페이지만
 
         // 관리자 로그 기록
         String adminUsername = SecurityContextHolder.getContext().getAuthentication().getName();
@@ -71,6 +74,7 @@ public class AdminCommunityService {
         comment.setReportStatus(ReportStatus.RESOLVED);  // ✅ 처리 완료
         comment.setReportAction(ReportAction.DELETED);   // ✅ 삭제 처리
         commentRepository.save(comment);
+        commentFeedCache.invalidateAll();                // 피드에서 빠지면서 뒤 페이지가 당겨짐
 
         String adminUsername = SecurityContextHolder.getContext().getAuthentication().getName();
         adminLogService.saveLog(AdminLogType.DELETED_POST, adminUsername);
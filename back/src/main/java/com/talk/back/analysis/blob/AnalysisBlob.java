@@ -0,0 +1,35 @@
+package com.talk.back.analysis.blob;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 업로드 원본 파일 참조 수 (실제 내용은 로컬 디스크, LocalDiskBlobStore)
+ * - 같은 파일로 여러 번 재분석해도 파일은 하나, ref_count 만 증가
+ */
+@Entity
+@Table(name = "analysis_blob")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AnalysisBlob {
+
+    /** 파일 내용 SHA-256 (hex) */
+    @Id
+    @Column(name = "blob_key", length = 64)
+    private String blobKey;
+
+    @Column(nullable = false)
+    private long size;
+
+    @Column(name = "ref_count", nullable = false)
+    private int refCount;
+
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,111 @@
+package com.talk.back.analysis.blob;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * 기존 analysis_record.original_file_bytes (LOB) → BlobStore 이전 작업
+ * - 예전 버전은 업로드 파일을 기록 행에 통째로 저장했음 → 파일 저장소로 옮기고 키만 남김
+ * - id 순서로 chunk-size 건씩 읽고, 1건마다 별도 트랜잭션 (중간에 실패해도 다음 기동 때 이어서 진행)
+ * - 한 번에 한 행의 LOB 만 읽으므로 이전 중 메모리 사용량은 파일 1개 크기로 제한됨
+ * - 엔티티에서는 컬럼이 빠졌으므로 JdbcTemplate 으로만 접근, 컬럼 자체가 없으면 (신규 DB) 아무것도 하지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class AnalysisBlobMigrationJob {
+
+    private static final String LEGACY_COLUMN_SQL = """
+        SELECT COUNT(*) FROM information_schema.columns
+        WHERE table_schema = DATABASE() AND table_name = 'analysis_record' AND column_name = 'original_file_bytes'
+    """;
+
+    private static final String PENDING_IDS_SQL = """
+        SELECT id FROM analysis_record
+        WHERE id > ? AND original_file_bytes IS NOT NULL AND original_file_key IS NULL
+        ORDER BY id
+        LIMIT ?
+    """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BlobStore blobStore;
+
+    @Value("${analysis.blob.migration.enabled:true}")
+    private boolean enabled;
+
+    @Value("${analysis.blob.migration.chunk-size:50}")
+    private int chunkSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateOnStartup() {
+        if (!enabled || !hasLegacyColumn()) return;
+
+        long startedAt = System.nanoTime();
+        int moved = migrateAll();
+        System.out.println("==> [AnalysisBlobMigrationJob::migrateOnStartup] 원본 파일 " + moved + "건 이전 완료 ("
+                + (System.nanoTime() - startedAt) / 1_000_000 + "ms)");
+    }
+
+    /** 남은 LOB 을 모두 이전하고 이전한 건수 반환 */
+    public int migrateAll() {
+        int moved = 0;
+        long lastId = 0;
+        while (true) {
+            List<Long> ids = jdbcTemplate.queryForList(PENDING_IDS_SQL, Long.class, lastId, chunkSize);
+            if (ids.isEmpty()) break;
+
+            for (Long id : ids) {
+                Boolean done = transactionTemplate.execute(status -> migrateOne(id));
+                if (Boolean.TRUE.equals(done)) moved++;
+            }
+            lastId = ids.get(ids.size() - 1);
+        }
+        return moved;
+    }
+
+    private boolean hasLegacyColumn() {
+        Integer count = jdbcTemplate.queryForObject(LEGACY_COLUMN_SQL, Integer.class);
+        return count != null && count > 0;
+    }
+
+    // 행 잠금 → 저장소에 쓰기 → 키 기록 + LOB 비우기
+    private boolean migrateOne(Long id) {
+        String key = jdbcTemplate.query(
+                "SELECT original_file_bytes FROM analysis_record WHERE id = ? AND original_file_key IS NULL FOR UPDATE",
+                rs -> {
+                    if (!rs.next()) return null;
+                    try (InputStream in = rs.getBinaryStream(1)) {
+                        return in != null ? store(in) : null;
+                    } catch (IOException e) {
+                        throw new UncheckedIOException("원본 파일 이전 실패: id=" + id, e);
+                    }
+                },
+                id);
+        if (key == null) return false;
+
+        jdbcTemplate.update(
+                "UPDATE analysis_record SET original_file_key = ?, original_file_bytes = NULL WHERE id = ?", key, id);
+        return true;
+    }
+
+    private String store(InputStream in) throws IOException {
+        BlobUpload upload = blobStore.openUpload();
+        try {
+            in.transferTo(upload);
+            return blobStore.commit(upload);
+        } catch (IOException | RuntimeException e) {
+            upload.discard();
+            throw e;
+        }
+    }
+}
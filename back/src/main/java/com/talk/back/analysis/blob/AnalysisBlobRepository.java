@@ -0,0 +1,31 @@
+package com.talk.back.analysis.blob;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface AnalysisBlobRepository extends JpaRepository<AnalysisBlob, String> {
+
+    // 처음 저장이면 ref_count=1 로 생성, 이미 있으면 +1 (같은 파일 동시 업로드도 한 행으로 모임)
+    @Modifying
+    @Query(value = """
+        INSERT INTO analysis_blob (blob_key, size, ref_count, created_at)
+        VALUES (:key, :size, 1, NOW())
+        ON DUPLICATE KEY UPDATE ref_count = ref_count + 1
+    """, nativeQuery = true)
+    int upsertReference(@Param("key") String key, @Param("size") long size);
+
+    @Modifying
+    @Query(value = "UPDATE analysis_blob SET ref_count = ref_count + 1 WHERE blob_key = :key", nativeQuery = true)
+    int incrementReference(@Param("key") String key);
+
+    // release 시 행 잠금 → 같은 파일을 동시에 올리는 commit 과 순서가 꼬이지 않음
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from AnalysisBlob b where b.blobKey = :key")
+    Optional<AnalysisBlob> findForUpdate(@Param("key") String key);
+}
@@ -0,0 +1,57 @@
+package com.talk.back.analysis.blob;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 저장소 파일 다운로드 응답
+ * - Tomcat 이 sendfile 을 지원하면 요청 속성으로 파일 경로만 넘김 → 커널이 파일을 소켓으로 바로 전송 (JVM 힙 복사 없음)
+ * - 지원하지 않으면 FileChannel.transferTo 로 응답 스트림에 전송
+ */
+public final class BlobDownloads {
+
+    // Tomcat sendfile 요청 속성 (org.apache.coyote.Constants / DefaultServlet 과 동일)
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private BlobDownloads() {
+    }
+
+    public static void send(BlobFile file, String fileName, String contentType,
+                            HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setContentType(contentType != null ? contentType : MediaType.APPLICATION_OCTET_STREAM_VALUE);
+        response.setContentLengthLong(file.getSize());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(fileName != null ? fileName : file.getKey(), StandardCharsets.UTF_8)
+                .build()
+                .toString());
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            request.setAttribute(SENDFILE_FILENAME, file.getPath().toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, file.getSize());
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file.getPath(), StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = 0;
+            while (position < file.getSize()) {
+                position += channel.transferTo(position, file.getSize() - position, out);
+            }
+            response.flushBuffer();
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.talk.back.analysis.blob;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.nio.file.Path;
+
+/** 저장소에 있는 파일 1건 (다운로드 시 경로를 그대로 넘겨 sendfile / transferTo 로 전송) */
+@Getter
+@AllArgsConstructor
+@ToString
+public class BlobFile {
+    private final String key;
+    private final Path path;
+    private final long size;
+}
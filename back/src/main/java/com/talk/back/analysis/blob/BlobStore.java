@@ -0,0 +1,28 @@
+package com.talk.back.analysis.blob;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * 내용 주소(content-addressed) 파일 저장소
+ * - 키 = 파일 내용의 SHA-256 (같은 파일은 한 번만 저장)
+ * - 참조 수(ref count)로 관리: commit / retain 으로 +1, release 로 -1, 0 이 되면 실제 파일 삭제
+ * - 참조 수 변경은 호출자의 트랜잭션에 참여 (기록 저장이 롤백되면 참조 수도 롤백)
+ */
+public interface BlobStore {
+
+    /** 새 파일 쓰기 시작 (내용을 쓰면서 해시 계산) */
+    BlobUpload openUpload() throws IOException;
+
+    /** 다 쓴 업로드를 저장소에 반영하고 참조 +1 → 키 반환 */
+    String commit(BlobUpload upload) throws IOException;
+
+    /** 이미 저장된 파일 참조 +1 */
+    void retain(String key);
+
+    /** 참조 -1 (0 이 되면 파일 삭제) */
+    void release(String key);
+
+    /** 저장된 파일 위치 / 크기 */
+    Optional<BlobFile> find(String key);
+}
@@ -0,0 +1,16 @@
+package com.talk.back.analysis.blob;
+
+import java.io.OutputStream;
+
+/**
+ * 저장 중인 파일 (OutputStream 으로 쓰고 BlobStore.commit 으로 확정)
+ * - commit 하지 않고 끝내려면 discard 호출 (임시 파일 삭제)
+ */
+public abstract class BlobUpload extends OutputStream {
+
+    /** 지금까지 쓴 바이트 수 */
+    public abstract long size();
+
+    /** 확정하지 않고 버림 */
+    public abstract void discard();
+}
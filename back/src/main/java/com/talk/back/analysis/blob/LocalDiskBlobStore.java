@@ -0,0 +1,240 @@
+package com.talk.back.analysis.blob;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * 로컬 디스크 BlobStore
+ * - 파일 위치: {analysis.blob.dir}/ab/cd/{sha256}  (앞 4글자로 디렉터리 분산)
+ * - 업로드는 tmp/ 에 쓰면서 SHA-256 계산 → commit 시 최종 위치로 원자적 이동
+ * - 참조 수는 analysis_blob 테이블 (같은 키의 commit / release 는 행 잠금으로 순서 보장)
+ * - commit 으로 새로 옮긴 파일은 트랜잭션이 롤백되면 삭제 (참조 행도 같이 사라지므로)
+ * - release 로 참조가 0 이 되면 파일을 trash/ 로 옮겨 두고, 트랜잭션이 커밋되면 삭제 / 롤백되면 되돌림
+ */
+@Component
+public class LocalDiskBlobStore implements BlobStore {
+
+    private static final Pattern KEY_PATTERN = Pattern.compile("[0-9a-f]{64}");
+
+    private final AnalysisBlobRepository repository;
+    private final Path root;
+    private final Path tmpDir;
+    private final Path trashDir;
+
+    public LocalDiskBlobStore(AnalysisBlobRepository repository,
+                              @Value("${analysis.blob.dir:./data/analysis-blobs}") String dir) throws IOException {
+        this.repository = repository;
+        this.root = Paths.get(dir).toAbsolutePath().normalize();
+        this.tmpDir = Files.createDirectories(root.resolve("tmp"));
+        this.trashDir = Files.createDirectories(root.resolve("trash"));
+    }
+
+    @Override
+    public BlobUpload openUpload() throws IOException {
+        return new DiskUpload(Files.createTempFile(tmpDir, "upload-", ".part"));
+    }
+
+    @Override
+    @Transactional
+    public String commit(BlobUpload upload) throws IOException {
+        DiskUpload diskUpload = (DiskUpload) upload;
+        diskUpload.close();
+        String key = diskUpload.key();
+
+        // 행 잠금을 먼저 잡고 파일을 옮김 → 같은 키를 지우는 release 와 엇갈리지 않음
+        repository.upsertReference(key, diskUpload.size());
+
+        Path target = pathOf(key);
+        if (Files.exists(target) && Files.size(target) == diskUpload.size()) {
+            diskUpload.discard(); // 같은 내용이 이미 있음
+        } else {
+            Files.createDirectories(target.getParent());
+            move(diskUpload.temp, target);
+            deleteOnRollback(key, target);
+        }
+        return key;
+    }
+
+    @Override
+    @Transactional
+    public void retain(String key) {
+        if (repository.incrementReference(key) == 0) {
+            throw new IllegalArgumentException("저장된 파일이 없습니다: " + key);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void release(String key) {
+        repository.findForUpdate(key).ifPresent(blob -> {
+            if (blob.getRefCount() > 1) {
+                blob.setRefCount(blob.getRefCount() - 1);
+                return;
+            }
+            repository.delete(blob);
+            trash(key);
+        });
+    }
+
+    @Override
+    public Optional<BlobFile> find(String key) {
+        if (key == null || !KEY_PATTERN.matcher(key).matches()) {
+            return Optional.empty();
+        }
+        Path path = pathOf(key);
+        try {
+            return Optional.of(new BlobFile(key, path, Files.size(path)));
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    Path pathOf(String key) {
+        if (!KEY_PATTERN.matcher(key).matches()) {
+            throw new IllegalArgumentException("잘못된 파일 키입니다: " + key);
+        }
+        return root.resolve(key.substring(0, 2)).resolve(key.substring(2, 4)).resolve(key);
+    }
+
+    // 새로 옮긴 파일: 롤백되면 참조 행이 없으므로 삭제 (같은 키는 행 잠금으로 다른 트랜잭션이 기다리는 중)
+    private static void deleteOnRollback(String key, Path target) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) return;
+                System.out.println("⚠️ [LocalDiskBlobStore] 롤백으로 저장한 파일 삭제: " + key);
+                deleteQuietly(target);
+            }
+        });
+    }
+
+    // 참조 0 → trash 로 옮겨 두고 커밋되면 삭제, 롤백되면 원래 위치로 복구
+    private void trash(String key) {
+        Path target = pathOf(key);
+        Path trashed = trashDir.resolve(key + "-" + UUID.randomUUID());
+        try {
+            if (!Files.exists(target)) return;
+            move(target, trashed);
+        } catch (IOException e) {
+            throw new UncheckedIOException("파일 삭제 준비 실패: " + key, e);
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            deleteQuietly(trashed);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    deleteQuietly(trashed);
+                    return;
+                }
+                try {
+                    if (!Files.exists(target)) move(trashed, target);
+                    else deleteQuietly(trashed);
+                } catch (IOException e) {
+                    System.out.println("⚠️ [LocalDiskBlobStore] 롤백 후 파일 복구 실패: " + key + " " + e);
+                }
+            }
+        });
+    }
+
+    private static void move(Path from, Path to) throws IOException {
+        try {
+            Files.move(from, to, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(from, to, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            System.out.println("⚠️ [LocalDiskBlobStore] 파일 삭제 실패: " + path + " " + e);
+        }
+    }
+
+    /** tmp/ 에 쓰면서 SHA-256 계산 */
+    private static final class DiskUpload extends BlobUpload {
+
+        private final Path temp;
+        private final OutputStream out;
+        private final MessageDigest digest;
+        private long size;
+        private boolean closed;
+        private String key;
+
+        DiskUpload(Path temp) throws IOException {
+            this.temp = temp;
+            this.out = new BufferedOutputStream(Files.newOutputStream(temp), 64 * 1024);
+            try {
+                this.digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            digest.update((byte) b);
+            size++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            digest.update(b, off, len);
+            size += len;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) return;
+            closed = true;
+            out.close();
+            key = HexFormat.of().formatHex(digest.digest());
+        }
+
+        @Override
+        public long size() {
+            return size;
+        }
+
+        @Override
+        public void discard() {
+            try {
+                close();
+            } catch (IOException ignored) {
+                // 버리는 파일이라 닫기 실패는 무시
+            }
+            deleteQuietly(temp);
+        }
+
+        String key() {
+            return key;
+        }
+    }
+}
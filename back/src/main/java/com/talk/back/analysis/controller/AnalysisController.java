@@ -1,16 +1,22 @@
 package com.talk.back.analysis.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.talk.back.analysis.blob.BlobDownloads;
+import com.talk.back.analysis.dto.AnalysisBatchEventDto;
+import com.talk.back.analysis.dto.AnalysisBatchRequestDto;
 import com.talk.back.analysis.dto.AnalysisRecordDto;
 import com.talk.back.analysis.dto.AnalysisRequestDto;
 import com.talk.back.analysis.dto.AnalysisResponseDto;
 import com.talk.back.analysis.dto.ResetResponseDto;
 import com.talk.back.analysis.entity.AnalysisRecord;
-import com.talk.back.analysis.fastapi.FastApiResponseDto;
-import com.talk.back.analysis.fastapi.FastApiService;
 import com.talk.back.analysis.library.note.AnalysisNoteRepository;
 import com.talk.back.analysis.repository.AnalysisRecordRepository;
 import com.talk.back.analysis.service.AnalysisService;
+import com.talk.back.analysis.service.AnalysisStageTimer;
 import com.talk.back.auth.entity.CustomUserDetails;
+import com.talk.back.auth.entity.User;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.constraints.NotBlank;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
@@ -24,8 +30,13 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.Map;
+import java.util.Optional;
 
 
 //@CrossOrigin(origins = "http://localhost:5173", allowCredentials = "true")
@@ -38,36 +49,80 @@ public class AnalysisController {
     private final AnalysisService analysisService;
     private final AnalysisRecordRepository analysisRecordRepository;
     private final AnalysisNoteRepository analysisNoteRepository;
-    private final FastApiService fastApiService; //FastApi 기능 사용을 위한 객체선언
+    private final ObjectMapper objectMapper;
+
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
 
     /**
      * 분석 요청 (텍스트 + txt 파일)
+     * - 원문 추출 → 매칭 분석 → 저장을 AnalysisService 한 곳에서 처리 (스코어러 호출 1회)
+     * - 단계별 소요 시간은 Server-Timing 응답 헤더로 내려줌
      */
     @PostMapping(value = "/start", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    public AnalysisResponseDto analyze(
+    public ResponseEntity<AnalysisResponseDto> analyze(
             @RequestParam(required = false) String originalText,
             @RequestParam @NotBlank String userText,
             @RequestParam(required = false) MultipartFile originalFile
     ) throws Exception {
         System.out.println("==> [AnalysisController::AnalysisResponseDto 시작 .../api/start] ");
-        System.out.println("==> [AnalysisController::analyze - KoSBERT 호출 시작]");
-
-        // 🔹 FastAPI 분석 서버 호출
-        FastApiResponseDto fastApiResult = fastApiService.requestAnalysis(originalText, userText);
-        double matchingRate = fastApiResult.getMatchingRate();
 
         AnalysisRequestDto analysisRequestDto = AnalysisRequestDto.builder()
                 .originalText(originalText)
                 .userText(userText)
                 .originalFile(originalFile)
-                .matchingRate(matchingRate) //FastAPI 결과를 포함
                 .build();
 
         System.out.println("AnalysisRequestDto= " + analysisRequestDto);
+
+        AnalysisStageTimer timer = new AnalysisStageTimer();
+        AnalysisResponseDto analysisResponseDto = analysisService.analyzeAndSave(analysisRequestDto, timer);
+
         System.out.println("==> [AnalysisController::AnalysisResponseDto .../api/start 끝]");
 
-        return analysisService.analyzeAndSave(analysisRequestDto);
+        return ResponseEntity.ok()
+                .header(SERVER_TIMING_HEADER, timer.toServerTiming())
+                .body(analysisResponseDto);
+    }
 
+    /**
+     * 묶음 분석 (원문 1개 + 여러 사용자 텍스트, 예: 수업 시간 반 전체 답안)
+     * - 응답은 NDJSON 스트림: 채점되는 대로 item 줄을 보내고, 저장이 끝나면 done 줄(recordIds) 전송
+     */
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> analyzeBatch(@RequestBody AnalysisBatchRequestDto request,
+                                          @AuthenticationPrincipal CustomUserDetails userDetails) {
+        if (userDetails == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        try {
+            analysisService.validateBatch(request);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+
+        User user = userDetails.getUser();
+        StreamingResponseBody body = out -> {
+            try {
+                analysisService.analyzeBatch(request, user, event -> writeLine(out, event));
+            } catch (Exception e) {
+                System.out.println("==> [AnalysisController::analyzeBatch] 예외발생 " + e);
+                writeLine(out, AnalysisBatchEventDto.error("묶음 분석 중 오류 발생: " + e.getMessage()));
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    private void writeLine(OutputStream out, AnalysisBatchEventDto event) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(event));
+            out.write('\n');
+            out.flush(); // 한 줄씩 바로 내려보냄
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     /**
@@ -100,31 +155,85 @@ public class AnalysisController {
     }
 
     //library에 뿌려주기
+    // previewLength: 목록에 보여줄 userInput 최대 글자 수 (생략하면 전체)
     @GetMapping("/analysis-records/my")
     public ResponseEntity<Page<AnalysisRecordDto>> getMyAnalysisRecords(@AuthenticationPrincipal CustomUserDetails userDetails,
                                                                         @RequestParam(defaultValue = "0") int page,
-                                                                        @RequestParam(defaultValue = "10") int size) {
+                                                                        @RequestParam(defaultValue = "10") int size,
+                                                                        @RequestParam(required = false) Integer previewLength) {
         System.out.println("==> [AnalysisController::analysis-records/my 시작] ");
 
         Long currentUserId = userDetails.getUser().getUserId(); // 또는 userDetails.getId()
-        //System.out.println("==> [AnalysisController::analysis-records/my ::currentUserId] ===>" + currentUserId);
-
 
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        Page<AnalysisRecord> recordsPage = analysisRecordRepository.findVisibleRecordsByUserId(currentUserId, pageable);
-        //System.out.println("==> [AnalysisController::analysis-records/my ::recordsPage] ===>" + recordsPage);
-        Page<AnalysisRecordDto> dtoPage = recordsPage.map(record -> {
-            int noteCount = analysisNoteRepository.countByAnalysisRecordId(record.getId());
-            return AnalysisRecordDto.from(record, noteCount);
-        });
-
-        //dtoPage.forEach(dto -> System.out.println("dto.isImportant = " + dto.getIsImportant()));
+        Page<AnalysisRecordDto> dtoPage = analysisService.getLibraryPage(currentUserId, false, previewLength, pageable);
 
         System.out.println("[AnalysisController::analysis-records/my] dtoPage" + dtoPage);
         System.out.println("[AnalysisController::analysis-records/my 끝] ");
         return ResponseEntity.ok(dtoPage);
     }
 
+    /**
+     * 라이브러리 커서 조회 (무한 스크롤용, 최신순)
+     * - cursor: 이전 응답의 nextCursor (생략하면 첫 페이지)
+     * - includeCount: true 면 전체 개수도 포함 (첫 페이지에서만 요청 권장)
+     * - /analysis-records/hidden/cursor 도 같은 방식 (숨긴 기록)
+     */
+    @GetMapping("/analysis-records/my/cursor")
+    public ResponseEntity<?> getMyAnalysisRecordsByCursor(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                                          @RequestParam(required = false) String cursor,
+                                                          @RequestParam(defaultValue = "10") int size,
+                                                          @RequestParam(required = false) Integer previewLength,
+                                                          @RequestParam(defaultValue = "false") boolean includeCount) {
+        return librarySlice(userDetails, false, cursor, size, previewLength, includeCount);
+    }
+
+    @GetMapping("/analysis-records/hidden/cursor")
+    public ResponseEntity<?> getHiddenAnalysisRecordsByCursor(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                                              @RequestParam(required = false) String cursor,
+                                                              @RequestParam(defaultValue = "10") int size,
+                                                              @RequestParam(required = false) Integer previewLength,
+                                                              @RequestParam(defaultValue = "false") boolean includeCount) {
+        return librarySlice(userDetails, true, cursor, size, previewLength, includeCount);
+    }
+
+    private ResponseEntity<?> librarySlice(CustomUserDetails userDetails, boolean hidden, String cursor, int size,
+                                           Integer previewLength, boolean includeCount) {
+        try {
+            Long currentUserId = userDetails.getUser().getUserId();
+            return ResponseEntity.ok(analysisService.getLibrarySlice(
+                    currentUserId, hidden, cursor, size, previewLength, includeCount));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * 업로드했던 원본 파일 내려받기 (본인 기록만)
+     * - 파일 내용은 힙을 거치지 않고 디스크에서 소켓으로 바로 전송 (BlobDownloads)
+     * - 성공하면 응답을 직접 쓰므로 null 반환
+     */
+    @GetMapping("/{id}/original-file")
+    public ResponseEntity<?> downloadOriginalFile(@PathVariable Long id,
+                                                  @AuthenticationPrincipal CustomUserDetails userDetails,
+                                                  HttpServletRequest request,
+                                                  HttpServletResponse response) throws IOException {
+        Optional<AnalysisService.OriginalFile> originalFile;
+        try {
+            originalFile = analysisService.findOriginalFile(id, userDetails.getUser().getUserId());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", e.getMessage()));
+        }
+        if (originalFile.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", "저장된 원본 파일이 없습니다."));
+        }
+
+        AnalysisService.OriginalFile file = originalFile.get();
+        System.out.println("==> [AnalysisController::downloadOriginalFile] id=" + id + " " + file.blob());
+        BlobDownloads.send(file.blob(), file.fileName(), file.contentType(), request, response);
+        return null;
+    }
+
     @PutMapping("/{id}/toggle-important") //중요도를 누르면 is_import 올라가기
     public ResponseEntity<?> toggleImportant(@PathVariable Long id) {
         try {
@@ -140,10 +249,11 @@ public class AnalysisController {
     public ResponseEntity<Page<AnalysisRecord>> getRelated(
             @PathVariable Long analysisId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "3") int size) {
+            @RequestParam(defaultValue = "3") int size,
+            @RequestParam(defaultValue = "false") boolean nearDuplicate) { // true: 조금 고친 원문까지 (SimHash)
 
-        System.out.println("[AnalysisController::{analysisId}/related] ==> 연관 글 조회 완료 ");
-        return ResponseEntity.ok(analysisService.getRelatedAnalyses(analysisId, page, size));
+        System.out.println("[AnalysisController::{analysisId}/related] ==> 연관 글 조회 완료 nearDuplicate=" + nearDuplicate);
+        return ResponseEntity.ok(analysisService.getRelatedAnalyses(analysisId, page, size, nearDuplicate));
     }
 
     @PatchMapping("/{id}/hide")
@@ -172,19 +282,12 @@ public class AnalysisController {
     @GetMapping("/analysis-records/hidden")
     public ResponseEntity<Page<AnalysisRecordDto>> getHiddenAnalysisRecords(@AuthenticationPrincipal CustomUserDetails userDetails,
                                                                             @RequestParam(defaultValue = "0") int page,
-                                                                            @RequestParam(defaultValue = "10") int size) {
+                                                                            @RequestParam(defaultValue = "10") int size,
+                                                                            @RequestParam(required = false) Integer previewLength) {
         Long currentUserId = userDetails.getUser().getUserId();
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
 
-        Page<AnalysisRecord> hiddenRecordsPage = analysisRecordRepository
-                .findByCreatedByUserIdAndIsHiddenTrue(currentUserId, pageable);
-
-        Page<AnalysisRecordDto> dtoPage = hiddenRecordsPage.map(record -> {
-            int noteCount = analysisNoteRepository.countByAnalysisRecordId(record.getId());
-            return AnalysisRecordDto.from(record, noteCount);
-        });
-
-        return ResponseEntity.ok(dtoPage);
+        return ResponseEntity.ok(analysisService.getLibraryPage(currentUserId, true, previewLength, pageable));
     }
 
     //hidden 토탈 갯수 찾기
@@ -0,0 +1,83 @@
+package com.talk.back.analysis.controller;
+
+import com.talk.back.analysis.dto.AnalysisRequestDto;
+import com.talk.back.analysis.job.AnalysisJob;
+import com.talk.back.analysis.job.AnalysisJobService;
+import jakarta.validation.constraints.NotBlank;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 비동기 분석 (/analysis/start 의 비동기 버전)
+ * - POST /analysis/jobs            : 작업 등록 → 202 + jobId
+ * - GET  /analysis/jobs/{id}        : 상태 폴링 (DONE 이면 result 포함)
+ * - GET  /analysis/jobs/{id}/events : SSE 로 단계 진행(stage) / 완료(done) / 실패(failed) 수신
+ */
+@RestController
+@RequestMapping("/analysis/jobs")
+@RequiredArgsConstructor
+public class AnalysisJobController {
+
+    private final AnalysisJobService analysisJobService;
+
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<?> submit(
+            @RequestParam(required = false) String originalText,
+            @RequestParam @NotBlank String userText,
+            @RequestParam(required = false) MultipartFile originalFile
+    ) throws IOException {
+        System.out.println("==> [AnalysisJobController::submit 시작] ");
+
+        AnalysisRequestDto analysisRequestDto = AnalysisRequestDto.builder()
+                .originalText(originalText)
+                .userText(userText)
+                .originalFile(originalFile)
+                .build();
+
+        AnalysisJob job;
+        try {
+            job = analysisJobService.submit(analysisRequestDto);
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(Map.of("error", "분석 요청이 많아 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요."));
+        }
+
+        return ResponseEntity.accepted()
+                .location(URI.create("/analysis/jobs/" + job.getId()))
+                .body(job.toDto());
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<?> getJob(@PathVariable String jobId) {
+        Optional<AnalysisJob> job = analysisJobService.find(jobId);
+        if (job.isEmpty()) {
+            return notFound();
+        }
+        return ResponseEntity.ok(job.get().toDto());
+    }
+
+    @GetMapping(value = "/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter events(@PathVariable String jobId) {
+        // text/event-stream 요청이라 JSON 에러 본문 대신 상태 코드로만 응답
+        AnalysisJob job = analysisJobService.find(jobId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "분석 작업을 찾을 수 없습니다."));
+        return analysisJobService.subscribe(job);
+    }
+
+    private ResponseEntity<?> notFound() {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(Map.of("error", "분석 작업을 찾을 수 없습니다. (만료되었거나 잘못된 ID)"));
+    }
+}
@@ -0,0 +1,51 @@
+package com.talk.back.analysis.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 묶음 분석 스트림의 한 줄 (NDJSON)
+ * - item  : 사용자 텍스트 한 건의 채점 결과 (index = 요청 목록 순번)
+ * - done  : 모든 결과 저장 완료 (recordIds 는 요청 목록 순서)
+ * - error : 처리 중 오류
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AnalysisBatchEventDto {
+
+    private String type;
+    private Integer index;
+    private Integer versionNo;
+    private MatchDetailDto result;
+    private List<Long> recordIds;
+    private String message;
+
+    public static AnalysisBatchEventDto item(int index, int versionNo, MatchDetailDto result) {
+        return AnalysisBatchEventDto.builder()
+                .type("item")
+                .index(index)
+                .versionNo(versionNo)
+                .result(result)
+                .build();
+    }
+
+    public static AnalysisBatchEventDto done(List<Long> recordIds) {
+        return AnalysisBatchEventDto.builder()
+                .type("done")
+                .recordIds(recordIds)
+                .build();
+    }
+
+    public static AnalysisBatchEventDto error(String message) {
+        return AnalysisBatchEventDto.builder()
+                .type("error")
+                .message(message)
+                .build();
+    }
+}
@@ -0,0 +1,12 @@
+package com.talk.back.analysis.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder @ToString
+public class AnalysisBatchRequestDto {
+
+    private String originalText;      // 공통 원문
+    private List<String> userTexts;   // 사용자(학생)별 이해한 텍스트
+}
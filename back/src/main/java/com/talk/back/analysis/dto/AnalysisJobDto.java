@@ -0,0 +1,27 @@
+package com.talk.back.analysis.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+/**
+ * 비동기 분석 작업 상태 (폴링 응답 / SSE 이벤트 데이터 공용)
+ * - status : QUEUED → RUNNING → DONE | FAILED
+ * - stage  : 진행 중인 단계 (extract / score / persist)
+ * - result : DONE 일 때 /analysis/start 와 같은 분석 결과
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AnalysisJobDto {
+
+    private String jobId;
+    private String status;
+    private String stage;
+    private AnalysisResponseDto result;
+    private String serverTiming;
+    private String message;
+    private String createdAt;
+}
@@ -4,6 +4,7 @@ package com.talk.back.analysis.dto;
 import com.talk.back.analysis.entity.AnalysisRecord;
 import lombok.*;
 
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
 @Getter
@@ -24,19 +25,36 @@ public class AnalysisRecordDto {
     private int noteCount;
 
 
+    public static AnalysisRecordDto from(AnalysisRecord record) {
+        return from(record, record.getNoteCount());
+    }
+
     public static AnalysisRecordDto from(AnalysisRecord record, int noteCount) {
+        return of(record.getId(), record.getCreatedAt(), record.getMatchingRate(), record.getSubject(),
+                record.getUserText(), record.isImportant(), record.getHiddenAt(), noteCount);
+    }
+
+    /** 목록 전용 조회 결과 (AnalysisRecordSummary) → 응답 DTO */
+    public static AnalysisRecordDto from(AnalysisRecordSummary summary) {
+        return of(summary.getId(), summary.getCreatedAt(), summary.getMatchingRate(), summary.getSubject(),
+                summary.getUserText(), summary.getIsImportant(), summary.getHiddenAt(),
+                summary.getNoteCount());
+    }
+
+    private static AnalysisRecordDto of(Long id, LocalDateTime createdAt, Double matchingRate, String subject,
+                                        String userText, Boolean isImportant, LocalDateTime hiddenAt, int noteCount) {
         DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("yyyy년 M월 d일");
         DateTimeFormatter warningFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
 
         return AnalysisRecordDto.builder()
-                .id(record.getId())
-                .date(record.getCreatedAt().format(dateFormatter))
-                .matchingRate(record.getMatchingRate())
-                .subject(record.getSubject())
-                .userInput(record.getUserText())
-                .isImportant(record.isImportant())
-                .hiddenAt(record.getHiddenAt() != null ? record.getHiddenAt().format(warningFormatter) : null)
-                .scheduledDeletion(record.getHiddenAt() != null ? record.getHiddenAt().plusDays(30).format(warningFormatter) : null)
+                .id(id)
+                .date(createdAt.format(dateFormatter))
+                .matchingRate(matchingRate)
+                .subject(subject)
+                .userInput(userText)
+                .isImportant(isImportant)
+                .hiddenAt(hiddenAt != null ? hiddenAt.format(warningFormatter) : null)
+                .scheduledDeletion(hiddenAt != null ? hiddenAt.plusDays(30).format(warningFormatter) : null)
                 .noteCount(noteCount)
                 .build();
 
@@ -0,0 +1,26 @@
+package com.talk.back.analysis.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 라이브러리 목록 1행 (AnalysisRecordRepository 의 JPQL 생성자 표현식으로 바로 만들어짐)
+ * - 원문 / 결과 JSON / 파일 정보는 읽지 않고 목록에 보이는 컬럼 + 노트 수만 담음
+ * - userText 는 previewLength 로 잘린 미리보기일 수 있음
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class AnalysisRecordSummary {
+    private Long id;
+    private LocalDateTime createdAt;
+    private Double matchingRate;
+    private String subject;
+    private String userText;
+    private Boolean isImportant;
+    private LocalDateTime hiddenAt;
+    private Integer noteCount;
+}
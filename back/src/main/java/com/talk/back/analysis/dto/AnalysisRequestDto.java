@@ -10,6 +10,5 @@ public class AnalysisRequestDto {
     private String originalText;          // 첫 번째 박스 입력
     private String userText;              // 두 번째 박스 입력
     private MultipartFile originalFile;   // .txt 파일 (옵션)
-    private Double matchingRate;
 
 }
\ No newline at end of file
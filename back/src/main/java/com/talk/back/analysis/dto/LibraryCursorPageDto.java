@@ -0,0 +1,24 @@
+package com.talk.back.analysis.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * 라이브러리 커서 조회 응답
+ * - nextCursor: 다음 페이지 요청에 그대로 넘길 토큰 (마지막 페이지면 null)
+ * - totalCount: includeCount=true 로 요청했을 때만 채워짐 (잠시 캐시된 값일 수 있음)
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@ToString
+public class LibraryCursorPageDto {
+    private List<AnalysisRecordDto> content;
+    private String nextCursor;
+    private boolean hasNext;
+    private Long totalCount;
+}
@@ -3,7 +3,7 @@ package com.talk.back.analysis.dto;
 import lombok.*;
 import java.util.List;
 
-@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder @ToString
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder(toBuilder = true) @ToString
 public class MatchDetailDto {
     private double matchingRate;
     private int    totalOriginalWords;
@@ -14,4 +14,5 @@ public class MatchDetailDto {
     private List<String> extraKeywords;
     private int originalLength;
     private int userLength;
+    private boolean degraded; // true: 원격 엔진 장애로 단어 일치 엔진이 대신 채점한 결과
 }
\ No newline at end of file
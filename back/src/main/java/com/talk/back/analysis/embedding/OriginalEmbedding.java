@@ -0,0 +1,37 @@
+package com.talk.back.analysis.embedding;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 원문 임베딩 벡터 저장소
+ * - 같은 원문(originalTextHash)은 한 번만 인코딩하고 재분석 시 재사용
+ * - 벡터는 float32 리틀엔디언 바이트 배열로 저장 (768차원 기준 3KB)
+ */
+@Entity
+@Table(name = "original_embedding")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OriginalEmbedding {
+
+    /** AnalysisRecord.originalTextHash 와 같은 값 (원문 MD5) */
+    @Id
+    @Column(name = "original_text_hash", length = 32)
+    private String originalTextHash;
+
+    @Column(nullable = false)
+    private int dimension;
+
+    @Lob
+    @Column(nullable = false, columnDefinition = "MEDIUMBLOB")
+    private byte[] vector;
+
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+}
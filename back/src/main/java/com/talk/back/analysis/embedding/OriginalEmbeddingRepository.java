@@ -0,0 +1,19 @@
+package com.talk.back.analysis.embedding;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface OriginalEmbeddingRepository extends JpaRepository<OriginalEmbedding, String> {
+
+    // 같은 원문이 동시에 처음 분석돼도 충돌 없이 한 건만 남도록 INSERT IGNORE 사용
+    @Modifying
+    @Query(value = """
+        INSERT IGNORE INTO original_embedding (original_text_hash, dimension, vector, created_at)
+        VALUES (:hash, :dimension, :vector, NOW())
+    """, nativeQuery = true)
+    int insertIgnore(@Param("hash") String hash,
+                     @Param("dimension") int dimension,
+                     @Param("vector") byte[] vector);
+}
@@ -0,0 +1,48 @@
+package com.talk.back.analysis.embedding;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * 원문 임베딩 저장소
+ * - 1차: 메모리 캐시 (최근 사용한 원문 벡터)
+ * - 2차: original_embedding 테이블 (재시작 후에도 재사용)
+ */
+@Component
+public class OriginalEmbeddingStore {
+
+    private final OriginalEmbeddingRepository repository;
+    private final Cache<String, float[]> memory;
+
+    public OriginalEmbeddingStore(OriginalEmbeddingRepository repository,
+                                  @Value("${analysis.embedding-cache.memory-entries:2000}") long memoryEntries) {
+        this.repository = repository;
+        this.memory = Caffeine.newBuilder()
+                .maximumSize(memoryEntries)
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<float[]> find(String originalTextHash) {
+        float[] cached = memory.getIfPresent(originalTextHash);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Optional<float[]> stored = repository.findById(originalTextHash)
+                .map(embedding -> FloatVectors.fromBytes(embedding.getVector()));
+        stored.ifPresent(vector -> memory.put(originalTextHash, vector));
+        return stored;
+    }
+
+    @Transactional
+    public void save(String originalTextHash, float[] vector) {
+        memory.put(originalTextHash, vector);
+        repository.insertIgnore(originalTextHash, vector.length, FloatVectors.toBytes(vector));
+    }
+}
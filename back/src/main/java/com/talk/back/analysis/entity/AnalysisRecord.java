@@ -1,8 +1,10 @@
 package com.talk.back.analysis.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import com.talk.back.auth.entity.User;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
@@ -15,7 +17,17 @@ import java.time.LocalDateTime;
     @Builder
     @Entity
     @ToString
-    @Table(name = "analysis_record")
+    @Table(name = "analysis_record", uniqueConstraints = {
+            // 원문별 버전은 하나씩만 (AnalysisVersionAllocator 가 배정, 같은 원문 버전 조회 / 연관 기록 versionNo 정렬에도 사용)
+            // 기존 DB 에 중복 버전이 있으면 제약이 만들어지지 않음 → AnalysisVersionConstraintCheck 가 기동을 멈추고
+            // db/migration/analysis_record_dedupe_versions.sql (중복 번호 다시 매김 + 제약 추가) 실행을 안내
+            @UniqueConstraint(name = "uk_analysis_record_hash_version", columnNames = {"original_text_hash", "version_no"})
+    }, indexes = {
+            // 보관 기간 지난 숨김 기록 삭제 (HiddenRecordPurgeJob 의 (hidden_at, id) keyset)
+            @Index(name = "idx_analysis_record_hidden_at", columnList = "is_hidden, hidden_at, id"),
+            // 라이브러리 커서 조회 (AnalysisRecordRepository.findSummariesAfterCursor)
+            @Index(name = "idx_analysis_record_library", columnList = "created_by, is_hidden, created_at, id")
+    })
     public class AnalysisRecord {
 
         @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -37,19 +49,37 @@ import java.time.LocalDateTime;
         @Column(name = "userText", columnDefinition = "LONGTEXT")
         private String userText;
 
-        /** 매칭률 등 결과 JSON 문자열 (프론트에서 쓰는 구조 그대로) */
+        /**
+         * 매칭률 등 결과 JSON 문자열 (예전 기록만, 새 기록은 아래 수치 컬럼 + keywordLists 에 저장)
+         * - MatchResultMigrationJob 이 컬럼 형식으로 옮기면서 비움
+         */
         @Lob
         @Column(name = "result_json", columnDefinition = "LONGTEXT")
         private String resultJson;
 
+        /** 채점 수치 (MatchDetailDto 와 같은 이름, MatchResultCodec 이 채움) */
+        private Integer totalOriginalWords;
+        private Integer totalUserWords;
+        private Integer matchedWords;
+        private Integer originalLength;
+        private Integer userLength;
+        private Boolean degraded;
+
+        /** 일치 / 누락 / 추가 키워드 목록 (MatchResultCodec 바이트 형식, 상세 조회 때만 풀어냄) */
+        @JsonIgnore
+        @ToString.Exclude
+        @Lob
+        @Column(name = "keyword_lists", columnDefinition = "MEDIUMBLOB")
+        private byte[] keywordLists;
+
         /** 업로드 원본 파일 메타정보 */
         private String originalFileName;
         private String originalFileContentType;
         private Long   originalFileSize;
 
-        /** 원본 파일 RAW 데이터 (옵션) */
-        @Lob
-        private byte[] originalFileBytes;
+        /** 원본 파일 저장소 키 (파일 내용의 SHA-256, 실제 파일은 BlobStore 에 보관) */
+        @Column(name = "original_file_key", length = 64)
+        private String originalFileKey;
 
         @CreationTimestamp
         private LocalDateTime createdAt;
@@ -81,6 +111,25 @@ import java.time.LocalDateTime;
         @Column(name = "hidden_at")
         private LocalDateTime hiddenAt;
 
+        /** 이해 초기화 기록 (resetUnderstanding 이 원문마다 하나 만들어 다시 씀, 작성자 없음) */
+        @Builder.Default
+        @ColumnDefault("false")
+        @Column(name = "is_reset", nullable = false)
+        private Boolean isReset = false;
+
+        /** 원문 64비트 SimHash (조금 고친 원문도 연관 기록으로 묶기 위한 지문, SimHashIndex) */
+        @Column(name = "sim_hash")
+        private Long simHash;
+
+        /**
+         * 노트 수 (AnalysisNoteService 가 SQL 증감으로 관리, 어긋나면 AnalysisNoteCountReconciler 가 보정)
+         * - updatable = false: 기록을 읽고 다른 필드만 바꿔 저장해도 읽을 때의 (옛) 값으로 덮어쓰지 않음
+         */
+        @Builder.Default
+        @ColumnDefault("0")
+        @Column(name = "note_count", nullable = false, updatable = false)
+        private int noteCount = 0;
+
 
     }
 
@@ -0,0 +1,29 @@
+package com.talk.back.analysis.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.*;
+
+/**
+ * 원문 해시별 마지막 버전 번호 (AnalysisRecord.versionNo 배정용)
+ * - 값은 AnalysisVersionAllocator 가 SQL 로만 증가시킴 (엔티티는 테이블 정의용)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "analysis_version_seq")
+public class AnalysisVersionSequence {
+
+    /** AnalysisRecord.originalTextHash (MD5 hex) */
+    @Id
+    @Column(name = "original_text_hash", length = 32)
+    private String originalTextHash;
+
+    /** 지금까지 배정된 마지막 버전 */
+    @Column(name = "last_version", nullable = false)
+    private int lastVersion;
+}
@@ -0,0 +1,14 @@
+package com.talk.back.analysis.fastapi;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class FastApiEmbedRequestDto {
+    private List<String> texts;
+}
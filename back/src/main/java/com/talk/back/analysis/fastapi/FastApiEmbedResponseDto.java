@@ -0,0 +1,12 @@
+package com.talk.back.analysis.fastapi;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FastApiEmbedResponseDto {
+    private float[][] vectors; // 요청한 texts 순서대로 정규화된 임베딩 벡터
+    private int dimension;
+}
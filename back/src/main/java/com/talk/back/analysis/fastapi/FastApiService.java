@@ -1,7 +1,6 @@
 package com.talk.back.analysis.fastapi;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
@@ -10,11 +9,8 @@ import org.springframework.web.client.RestTemplate;
 @RequiredArgsConstructor
 public class FastApiService {
 
-    private final RestTemplate restTemplate = new RestTemplate();
-
-    // properties에서 읽어오는 FastAPI 서버 주소
-    @Value("${fastapi.url}")
-    private String fastApiUrl;
+    // 채점 서버 공용 클라이언트 (RestTemplateConfig: 커넥션 풀 + 타임아웃, 주소는 fastapi.base-url)
+    private final RestTemplate scoringRestTemplate;
 
     public FastApiResponseDto requestAnalysis(String originalText, String userText) {
 
@@ -26,8 +22,8 @@ public class FastApiService {
         HttpEntity<FastApiRequestDto> request = new HttpEntity<>(requestDto, headers);
 
         ResponseEntity<FastApiResponseDto> response =
-                restTemplate.postForEntity(fastApiUrl, request, FastApiResponseDto.class);
+                scoringRestTemplate.postForEntity("/analyze", request, FastApiResponseDto.class);
 
         return response.getBody();
     }
-}
\ No newline at end of file
+}
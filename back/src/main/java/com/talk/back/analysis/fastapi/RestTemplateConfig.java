@@ -1,13 +1,75 @@
 package com.talk.back.analysis.fastapi;
 
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
+
+/**
+ * FastAPI(KoSBERT) 채점 서버 전용 HTTP 클라이언트
+ * - 커넥션 풀(최대 개수 제한) + keep-alive 재사용
+ * - 연결 / 응답 / 풀 대기 타임아웃 → 멈춘 파이썬 워커가 Tomcat 스레드를 붙잡지 않도록 함
+ * - 긴 본문은 gzip 으로 압축해서 전송 (FastAPI 쪽 GzipRequestMiddleware 가 해제)
+ * - RestTemplateBuilder 로 만들어서 엔드포인트별 http.client.requests 타이머가 actuator 에 기록됨
+ */
 @Configuration
 public class RestTemplateConfig {
+
+    @Value("${fastapi.base-url:http://127.0.0.1:8046}")
+    private String fastApiBaseUrl;
+
+    @Value("${fastapi.client.max-connections:20}")
+    private int maxConnections;
+
+    @Value("${fastapi.client.connect-timeout:PT2S}")
+    private Duration connectTimeout;
+
+    @Value("${fastapi.client.read-timeout:PT15S}")
+    private Duration readTimeout;
+
+    @Value("${fastapi.client.pool-acquire-timeout:PT2S}")
+    private Duration poolAcquireTimeout;
+
+    @Value("${fastapi.client.gzip-min-bytes:8192}")
+    private int gzipMinBytes;
+
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate scoringRestTemplate(RestTemplateBuilder builder) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections) // 대상 서버가 하나뿐이므로 전체 = 라우트당
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(connectTimeout))
+                        .setSocketTimeout(Timeout.of(readTimeout))
+                        .setTimeToLive(TimeValue.ofMinutes(5))
+                        .build())
+                .build();
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(poolAcquireTimeout))
+                        .setResponseTimeout(Timeout.of(readTimeout))
+                        .build())
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                .build();
+
+        return builder
+                .rootUri(fastApiBaseUrl)
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient))
+                .additionalInterceptors(new GzipRequestInterceptor(gzipMinBytes))
+                .build();
     }
-}
\ No newline at end of file
+}
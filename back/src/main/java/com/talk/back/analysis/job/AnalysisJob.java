@@ -0,0 +1,124 @@
+package com.talk.back.analysis.job;
+
+import com.talk.back.analysis.dto.AnalysisJobDto;
+import com.talk.back.analysis.dto.AnalysisResponseDto;
+import lombok.Getter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 비동기 분석 작업 1건
+ * - 상태 변경과 SSE 구독자 관리는 작업 단위로 synchronized (구독 직후 완료되는 경우에도 이벤트 누락 없음)
+ */
+public class AnalysisJob {
+
+    public enum Status { QUEUED, RUNNING, DONE, FAILED }
+
+    @Getter
+    private final String id;
+    @Getter
+    private final String ownerEmail; // 비회원 작업은 null
+    private final LocalDateTime createdAt = LocalDateTime.now();
+
+    private Status status = Status.QUEUED;
+    private String stage;
+    private AnalysisResponseDto result;
+    private String serverTiming;
+    private String message;
+
+    private final List<SseEmitter> emitters = new ArrayList<>();
+
+    public AnalysisJob(String id, String ownerEmail) {
+        this.id = id;
+        this.ownerEmail = ownerEmail;
+    }
+
+    public synchronized void markStage(String stage) {
+        this.status = Status.RUNNING;
+        this.stage = stage;
+        broadcast("stage");
+    }
+
+    public synchronized void complete(AnalysisResponseDto result, String serverTiming) {
+        this.status = Status.DONE;
+        this.stage = null;
+        this.result = result;
+        this.serverTiming = serverTiming;
+        broadcast("done");
+        closeAll();
+    }
+
+    public synchronized void fail(String message) {
+        this.status = Status.FAILED;
+        this.message = message;
+        broadcast("failed");
+        closeAll();
+    }
+
+    public synchronized boolean isFinished() {
+        return status == Status.DONE || status == Status.FAILED;
+    }
+
+    /** 구독 시점의 상태를 먼저 보내고, 이미 끝난 작업이면 바로 스트림을 닫음 */
+    public synchronized void subscribe(SseEmitter emitter) {
+        if (!send(emitter, eventName())) {
+            return;
+        }
+        if (isFinished()) {
+            emitter.complete();
+            return;
+        }
+        emitters.add(emitter);
+        emitter.onCompletion(() -> remove(emitter));
+        emitter.onTimeout(() -> remove(emitter));
+    }
+
+    public synchronized AnalysisJobDto toDto() {
+        return AnalysisJobDto.builder()
+                .jobId(id)
+                .status(status.name())
+                .stage(stage)
+                .result(result)
+                .serverTiming(serverTiming)
+                .message(message)
+                .createdAt(createdAt.toString())
+                .build();
+    }
+
+    private String eventName() {
+        return switch (status) {
+            case DONE -> "done";
+            case FAILED -> "failed";
+            default -> "stage";
+        };
+    }
+
+    private void broadcast(String eventName) {
+        emitters.removeIf(emitter -> !send(emitter, eventName));
+    }
+
+    private boolean send(SseEmitter emitter, String eventName) {
+        try {
+            emitter.send(SseEmitter.event().name(eventName).data(toDto()));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // 연결이 끊긴 구독자
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    private void closeAll() {
+        List<SseEmitter> subscribers = List.copyOf(emitters);
+        emitters.clear();
+        subscribers.forEach(SseEmitter::complete);
+    }
+
+    private synchronized void remove(SseEmitter emitter) {
+        emitters.remove(emitter);
+    }
+}
@@ -0,0 +1,136 @@
+package com.talk.back.analysis.job;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.talk.back.analysis.dto.AnalysisRequestDto;
+import com.talk.back.analysis.dto.AnalysisResponseDto;
+import com.talk.back.analysis.service.AnalysisService;
+import com.talk.back.analysis.service.AnalysisStageTimer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비동기 분석 작업 관리
+ * - 요청 스레드는 작업 등록만 하고 바로 jobId 를 돌려줌
+ * - 실제 분석(추출 → 채점 → 저장)은 고정 크기 스레드 풀 + 제한된 대기열에서 실행 (가득 차면 거절)
+ * - 작업 표는 최대 개수 / 보관 기간이 정해진 메모리 캐시 (완료 시점부터 retention 동안 조회 가능)
+ * - JDK 17 기준이라 플랫폼 스레드 풀 사용 (툴체인을 21 로 올리면 가상 스레드로 교체 가능)
+ */
+@Service
+public class AnalysisJobService {
+
+    private final AnalysisService analysisService;
+    private final ThreadPoolExecutor executor;
+    private final Cache<String, AnalysisJob> jobs;
+    private final long sseTimeoutMillis;
+
+    public AnalysisJobService(AnalysisService analysisService,
+                              @Value("${analysis.jobs.threads:4}") int threads,
+                              @Value("${analysis.jobs.queue-capacity:50}") int queueCapacity,
+                              @Value("${analysis.jobs.max-retained:1000}") long maxRetained,
+                              @Value("${analysis.jobs.retention:PT10M}") Duration retention,
+                              @Value("${analysis.jobs.sse-timeout:PT2M}") Duration sseTimeout) {
+        this.analysisService = analysisService;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("analysis-job-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.jobs = Caffeine.newBuilder()
+                .maximumSize(maxRetained)
+                .expireAfterWrite(retention)
+                .build();
+        this.sseTimeoutMillis = sseTimeout.toMillis();
+    }
+
+    /**
+     * 분석 작업 등록
+     * - 업로드 파일은 요청이 끝나면 사라지므로 먼저 메모리로 복사
+     * - 로그인 정보(SecurityContext)는 작업 스레드로 넘겨서 기존 저장 로직(작성자 확인)이 그대로 동작하게 함
+     *
+     * @throws RejectedExecutionException 대기열이 가득 찬 경우
+     */
+    public AnalysisJob submit(AnalysisRequestDto req) throws IOException {
+        MultipartFile file = req.getOriginalFile();
+        AnalysisRequestDto detached = AnalysisRequestDto.builder()
+                .originalText(req.getOriginalText())
+                .userText(req.getUserText())
+                .originalFile(file != null && !file.isEmpty() ? new DetachedMultipartFile(file) : null)
+                .build();
+
+        SecurityContext context = SecurityContextHolder.getContext();
+        AnalysisJob job = new AnalysisJob(UUID.randomUUID().toString(), currentEmail());
+        jobs.put(job.getId(), job);
+
+        try {
+            executor.execute(DelegatingSecurityContextRunnable.create(() -> run(job, detached), context));
+        } catch (RejectedExecutionException e) {
+            jobs.invalidate(job.getId());
+            throw e;
+        }
+        System.out.println("==> [AnalysisJobService::submit] jobId = " + job.getId()
+                + ", 대기 중 = " + executor.getQueue().size());
+        return job;
+    }
+
+    /** 작업 조회 (회원 작업은 본인만 조회 가능, 비회원 작업은 jobId 를 아는 사람만) */
+    public Optional<AnalysisJob> find(String jobId) {
+        AnalysisJob job = jobs.getIfPresent(jobId);
+        if (job == null) {
+            return Optional.empty();
+        }
+        if (job.getOwnerEmail() != null && !job.getOwnerEmail().equals(currentEmail())) {
+            return Optional.empty();
+        }
+        return Optional.of(job);
+    }
+
+    /** 진행 상황 SSE 구독 (현재 상태를 바로 한 번 보내고, 단계가 바뀔 때마다 전송) */
+    public SseEmitter subscribe(AnalysisJob job) {
+        SseEmitter emitter = new SseEmitter(sseTimeoutMillis);
+        job.subscribe(emitter);
+        return emitter;
+    }
+
+    private void run(AnalysisJob job, AnalysisRequestDto req) {
+        AnalysisStageTimer timer = new AnalysisStageTimer(job::markStage);
+        try {
+            AnalysisResponseDto result = analysisService.analyzeAndSave(req, timer);
+            job.complete(result, timer.toServerTiming());
+        } catch (Exception e) {
+            System.out.println("==> [AnalysisJobService::run] 예외발생 jobId = " + job.getId() + " " + e);
+            job.fail("분석 중 오류 발생: " + e.getMessage());
+        }
+        // 보관 기간을 완료 시점부터 다시 계산
+        jobs.put(job.getId(), job);
+    }
+
+    private String currentEmail() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !auth.isAuthenticated() || "anonymousUser".equals(auth.getPrincipal())) {
+            return null;
+        }
+        return auth.getName();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
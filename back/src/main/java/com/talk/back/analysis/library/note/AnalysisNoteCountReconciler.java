@@ -0,0 +1,76 @@
+package com.talk.back.analysis.library.note;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * analysis_record.note_count 보정 작업
+ * - 기동 시 1회: 컬럼 추가 전에 달린 노트까지 채우는 백필 (이미 맞는 행은 쓰지 않으므로 두 번째 기동부터는 읽기만 함)
+ * - 주기 실행: 수동 DB 수정 등으로 어긋난 값을 실제 노트 수로 되돌림
+ * - id 순서로 chunk-size 건씩 나눠 UPDATE 1번 (chunk 마다 자동 커밋 → 긴 잠금 없음)
+ */
+@Component
+@RequiredArgsConstructor
+public class AnalysisNoteCountReconciler {
+
+    // 다음 chunk 의 마지막 id
+    private static final String CHUNK_END_SQL = """
+        SELECT MAX(id) FROM (
+            SELECT id FROM analysis_record WHERE id > ? ORDER BY id LIMIT ?
+        ) chunk
+    """;
+
+    // 실제 노트 수와 다른 행만 갱신
+    private static final String REPAIR_SQL = """
+        UPDATE analysis_record
+        SET note_count = (SELECT COUNT(*) FROM analysis_note n WHERE n.analysis_id = analysis_record.id)
+        WHERE id > ? AND id <= ?
+          AND note_count <> (SELECT COUNT(*) FROM analysis_note n WHERE n.analysis_id = analysis_record.id)
+    """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${analysis.note-count.backfill-on-startup:true}")
+    private boolean backfillOnStartup;
+
+    @Value("${analysis.note-count.reconcile-enabled:true}")
+    private boolean reconcileEnabled;
+
+    @Value("${analysis.note-count.chunk-size:1000}")
+    private int chunkSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (!backfillOnStartup) return;
+        int repaired = reconcileAll();
+        System.out.println("==> [AnalysisNoteCountReconciler::backfill] note_count 보정 " + repaired + "건");
+    }
+
+    @Scheduled(cron = "${analysis.note-count.reconcile-cron:0 30 4 * * *}")
+    public void reconcile() {
+        if (!reconcileEnabled) return;
+        int repaired = reconcileAll();
+        if (repaired > 0) {
+            System.out.println("⚠️ [AnalysisNoteCountReconciler::reconcile] 어긋난 note_count " + repaired + "건 보정");
+        }
+    }
+
+    /** 전체 기록을 chunk 단위로 훑으며 보정, 고친 행 수 반환 */
+    public int reconcileAll() {
+        int repaired = 0;
+        long lastId = 0;
+        while (true) {
+            Long chunkEnd = jdbcTemplate.queryForObject(CHUNK_END_SQL, Long.class, lastId, chunkSize);
+            if (chunkEnd == null) break;
+
+            repaired += jdbcTemplate.update(REPAIR_SQL, lastId, chunkEnd);
+            lastId = chunkEnd;
+        }
+        return repaired;
+    }
+}
@@ -2,11 +2,24 @@ package com.talk.back.analysis.library.note;
 
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface AnalysisNoteRepository extends JpaRepository<AnalysisNote, Long> {
     List<AnalysisNote> findByAnalysisRecordIdOrderByCreatedAtDesc(Long recordId);
 
     int countByAnalysisRecordId(Long analysisId);
-}
\ No newline at end of file
+
+    // 노트가 달린 분석 기록 id (노트 내용은 읽지 않음)
+    @Query("SELECT n.analysisRecord.id FROM AnalysisNote n WHERE n.id = :noteId")
+    Optional<Long> findRecordIdById(@Param("noteId") Long noteId);
+
+    // 실제로 지운 건수 반환 (같은 노트를 동시에 지우면 한 쪽만 1)
+    @Modifying
+    @Query("DELETE FROM AnalysisNote n WHERE n.id = :noteId")
+    int deleteNoteById(@Param("noteId") Long noteId);
+}
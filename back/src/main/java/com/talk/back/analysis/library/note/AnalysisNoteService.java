@@ -18,11 +18,13 @@ public class AnalysisNoteService {
     private final AnalysisNoteRepository analysisNoteRepository;
     private final AnalysisRecordRepository analysisRecordRepository;
 
-    // 노트 저장
+    // 노트 저장 (기록의 note_count +1 을 먼저 해서 기록 존재 확인 + 행 잠금을 한 번에)
     @Transactional
     public AnalysisNote saveNote(Long recordId, String content) {
-        AnalysisRecord record = analysisRecordRepository.findById(recordId)
-                .orElseThrow(() -> new IllegalArgumentException("분석 기록을 찾을 수 없습니다: " + recordId));
+        if (analysisRecordRepository.incrementNoteCount(recordId) == 0) {
+            throw new IllegalArgumentException("분석 기록을 찾을 수 없습니다: " + recordId);
+        }
+        AnalysisRecord record = analysisRecordRepository.getReferenceById(recordId);
 
         AnalysisNote note = AnalysisNote.builder()
                 .analysisRecord(record)
@@ -46,13 +48,15 @@ public class AnalysisNoteService {
 
     }
 
-    //노트 삭제
+    //노트 삭제 (실제로 지운 경우에만 note_count -1)
     @Transactional
     public void deleteNote(Long noteId) {
-        if (!analysisNoteRepository.existsById(noteId)) {
+        Long recordId = analysisNoteRepository.findRecordIdById(noteId)
+                .orElseThrow(() -> new IllegalArgumentException("노트가 존재하지 않습니다: " + noteId));
+        if (analysisNoteRepository.deleteNoteById(noteId) == 0) {
             throw new IllegalArgumentException("노트가 존재하지 않습니다: " + noteId);
         }
-        analysisNoteRepository.deleteById(noteId);
+        analysisRecordRepository.decrementNoteCount(recordId);
     }
 
 
@@ -0,0 +1,234 @@
+package com.talk.back.analysis.purge;
+
+import com.talk.back.analysis.blob.BlobStore;
+import com.talk.back.analysis.service.LibraryCountCache;
+import com.talk.back.analysis.simhash.SimHashIndex;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 숨긴 지 보관 기간이 지난 분석 기록 삭제 (AnalysisRecordDto.scheduledDeletion = hiddenAt + 30일)
+ * - (hidden_at, id) keyset 으로 chunk-size 건씩 잠그고 노트 → 기록 순서로 삭제, chunk 마다 커밋 (긴 잠금 없음)
+ * - 원본 파일은 참조만 해제 (BlobStore.release, 마지막 참조면 커밋 후 파일 삭제), 커밋 후 SimHash 색인에서도 제거
+ * - 지운 기록의 작성자는 커밋 후 라이브러리 개수 캐시에서도 지움 (LibraryCountCache.evict)
+ * - chunk 사이에 pause-between-chunks 만큼 쉬어서 DB 부하를 나눔
+ * - dry-run: 대상 건수 / 크기만 세고 아무것도 지우지 않음
+ * - 메트릭: analysis.purge.records / analysis.purge.notes / analysis.purge.bytes(kind=row|file), dry_run 태그로 구분
+ */
+@Component
+public class HiddenRecordPurgeJob {
+
+    private static final LocalDateTime KEYSET_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    // 다음 chunk (숨김 해제된 기록은 조건에서 빠짐), payload_bytes = 본문 / 결과 컬럼 크기 합
+    private static final String CHUNK_SQL = """
+        SELECT id, created_by, hidden_at, original_file_key, original_file_size, sim_hash,
+               COALESCE(OCTET_LENGTH(original_text), 0) + COALESCE(OCTET_LENGTH(user_text), 0)
+                 + COALESCE(OCTET_LENGTH(result_json), 0) + COALESCE(OCTET_LENGTH(keyword_lists), 0) AS payload_bytes
+        FROM analysis_record
+        WHERE is_hidden = true AND hidden_at < ?
+          AND (hidden_at > ? OR (hidden_at = ? AND id > ?))
+        ORDER BY hidden_at, id
+        LIMIT ?
+    """;
+
+    private static final String COUNT_NOTES_SQL = "SELECT COUNT(*) FROM analysis_note WHERE analysis_id IN (:ids)";
+    private static final String DELETE_NOTES_SQL = "DELETE FROM analysis_note WHERE analysis_id IN (:ids)";
+    private static final String DELETE_RECORDS_SQL = "DELETE FROM analysis_record WHERE id IN (:ids)";
+
+    private static final RowMapper<Target> TARGET_MAPPER = (rs, i) -> new Target(
+            rs.getLong("id"),
+            rs.getObject("created_by", Long.class),
+            rs.getTimestamp("hidden_at").toLocalDateTime(),
+            rs.getString("original_file_key"),
+            rs.getLong("original_file_size"),
+            rs.getObject("sim_hash", Long.class),
+            rs.getLong("payload_bytes"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BlobStore blobStore;
+    private final SimHashIndex simHashIndex;
+    private final LibraryCountCache libraryCountCache;
+    private final MeterRegistry meterRegistry;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Value("${analysis.purge.enabled:true}")
+    private boolean enabled;
+
+    @Value("${analysis.purge.retention:P30D}")
+    private Duration retention;
+
+    @Value("${analysis.purge.chunk-size:200}")
+    private int chunkSize;
+
+    @Value("${analysis.purge.pause-between-chunks:PT0.5S}")
+    private Duration pauseBetweenChunks;
+
+    @Value("${analysis.purge.dry-run:false}")
+    private boolean dryRun;
+
+    public HiddenRecordPurgeJob(JdbcTemplate jdbcTemplate,
+                                TransactionTemplate transactionTemplate,
+                                BlobStore blobStore,
+                                SimHashIndex simHashIndex,
+                                LibraryCountCache libraryCountCache,
+                                MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.transactionTemplate = transactionTemplate;
+        this.blobStore = blobStore;
+        this.simHashIndex = simHashIndex;
+        this.libraryCountCache = libraryCountCache;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Scheduled(cron = "${analysis.purge.cron:0 0 3 * * *}")
+    public void purgeExpired() {
+        if (!enabled) return;
+        PurgeResult result = purge(LocalDateTime.now().minus(retention), dryRun);
+        if (result.records() > 0) {
+            System.out.println("==> [HiddenRecordPurgeJob::purgeExpired] " + result);
+        }
+    }
+
+    /**
+     * hiddenBefore 이전에 숨긴 기록 삭제 (dryRun 이면 세기만 함)
+     * - 이미 실행 중이면 아무것도 하지 않고 빈 결과 반환
+     */
+    public PurgeResult purge(LocalDateTime hiddenBefore, boolean dryRun) {
+        if (!running.compareAndSet(false, true)) {
+            return PurgeResult.empty(dryRun);
+        }
+        try {
+            PurgeResult total = PurgeResult.empty(dryRun);
+            LocalDateTime lastHiddenAt = KEYSET_START;
+            long lastId = 0;
+
+            while (true) {
+                Chunk chunk = dryRun
+                        ? countChunk(hiddenBefore, lastHiddenAt, lastId)
+                        : deleteChunk(hiddenBefore, lastHiddenAt, lastId);
+                if (chunk.targets().isEmpty()) break;
+
+                total = total.plus(record(chunk, dryRun));
+                Target last = chunk.targets().get(chunk.targets().size() - 1);
+                lastHiddenAt = last.hiddenAt();
+                lastId = last.id();
+
+                if (chunk.targets().size() < chunkSize) break;
+                if (!pause()) break;
+            }
+            return total;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private Chunk countChunk(LocalDateTime hiddenBefore, LocalDateTime lastHiddenAt, long lastId) {
+        List<Target> targets = findChunk(CHUNK_SQL, hiddenBefore, lastHiddenAt, lastId);
+        if (targets.isEmpty()) return Chunk.EMPTY;
+
+        Long notes = namedJdbcTemplate.queryForObject(COUNT_NOTES_SQL, idParams(targets), Long.class);
+        return new Chunk(targets, notes == null ? 0 : notes);
+    }
+
+    // 대상 잠금 → 노트 삭제 → 기록 삭제 → 파일 참조 해제를 한 트랜잭션으로, 색인 / 개수 캐시 정리는 커밋 후
+    private Chunk deleteChunk(LocalDateTime hiddenBefore, LocalDateTime lastHiddenAt, long lastId) {
+        Chunk deleted = transactionTemplate.execute(status -> {
+            List<Target> targets = findChunk(CHUNK_SQL + " FOR UPDATE", hiddenBefore, lastHiddenAt, lastId);
+            if (targets.isEmpty()) return Chunk.EMPTY;
+
+            Map<String, List<Long>> ids = idParams(targets);
+            int notes = namedJdbcTemplate.update(DELETE_NOTES_SQL, ids);
+            namedJdbcTemplate.update(DELETE_RECORDS_SQL, ids);
+            targets.stream()
+                    .map(Target::originalFileKey)
+                    .filter(Objects::nonNull)
+                    .forEach(blobStore::release);
+            targets.stream()
+                    .map(Target::ownerId)
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .forEach(libraryCountCache::evict); // 트랜잭션 안이라 커밋 후에 지워짐
+            return new Chunk(targets, notes);
+        });
+        if (deleted == null) return Chunk.EMPTY;
+
+        deleted.targets().stream()
+                .filter(target -> target.simHash() != null)
+                .forEach(target -> simHashIndex.remove(target.id(), target.simHash()));
+        return deleted;
+    }
+
+    private List<Target> findChunk(String sql, LocalDateTime hiddenBefore, LocalDateTime lastHiddenAt, long lastId) {
+        Timestamp after = Timestamp.valueOf(lastHiddenAt);
+        return jdbcTemplate.query(sql, TARGET_MAPPER,
+                Timestamp.valueOf(hiddenBefore), after, after, lastId, chunkSize);
+    }
+
+    private static Map<String, List<Long>> idParams(List<Target> targets) {
+        return Map.of("ids", targets.stream().map(Target::id).toList());
+    }
+
+    // chunk 결과를 메트릭에 반영 (원본 파일은 다른 기록과 공유될 수 있어 실제 회수량보다 클 수 있음)
+    private PurgeResult record(Chunk chunk, boolean dryRun) {
+        long rowBytes = 0;
+        long fileBytes = 0;
+        for (Target target : chunk.targets()) {
+            rowBytes += target.payloadBytes();
+            if (target.originalFileKey() != null) fileBytes += target.originalFileSize();
+        }
+        int records = chunk.targets().size();
+        long notes = chunk.notes();
+
+        String mode = String.valueOf(dryRun);
+        counter("analysis.purge.records", "삭제한 숨김 분석 기록 수", mode, null).increment(records);
+        counter("analysis.purge.notes", "함께 삭제한 노트 수", mode, null).increment(notes);
+        counter("analysis.purge.bytes", "회수한 바이트 (row: 본문 / 결과 컬럼, file: 원본 파일)", mode, "row").increment(rowBytes);
+        counter("analysis.purge.bytes", "회수한 바이트 (row: 본문 / 결과 컬럼, file: 원본 파일)", mode, "file").increment(fileBytes);
+        return new PurgeResult(dryRun, records, notes, rowBytes, fileBytes, 1);
+    }
+
+    private Counter counter(String name, String description, String dryRun, String kind) {
+        Counter.Builder builder = Counter.builder(name).description(description).tag("dry_run", dryRun);
+        if (kind != null) builder.tag("kind", kind);
+        return builder.register(meterRegistry);
+    }
+
+    // chunk 사이 쉬기, 인터럽트되면 중단
+    private boolean pause() {
+        if (pauseBetweenChunks.isZero() || pauseBetweenChunks.isNegative()) return true;
+        try {
+            Thread.sleep(pauseBetweenChunks.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private record Chunk(List<Target> targets, long notes) {
+        static final Chunk EMPTY = new Chunk(List.of(), 0);
+    }
+
+    private record Target(long id, Long ownerId, LocalDateTime hiddenAt, String originalFileKey, long originalFileSize,
+                          Long simHash, long payloadBytes) {
+    }
+}
@@ -0,0 +1,17 @@
+package com.talk.back.analysis.purge;
+
+/**
+ * 숨김 기록 삭제 결과 (dryRun 이면 삭제 대상 집계)
+ * - rowBytes: 본문 / 결과 컬럼 크기 합, fileBytes: 참조 해제한 원본 파일 크기 합
+ */
+public record PurgeResult(boolean dryRun, long records, long notes, long rowBytes, long fileBytes, int chunks) {
+
+    public static PurgeResult empty(boolean dryRun) {
+        return new PurgeResult(dryRun, 0, 0, 0, 0, 0);
+    }
+
+    public PurgeResult plus(PurgeResult other) {
+        return new PurgeResult(dryRun, records + other.records, notes + other.notes,
+                rowBytes + other.rowBytes, fileBytes + other.fileBytes, chunks + other.chunks);
+    }
+}
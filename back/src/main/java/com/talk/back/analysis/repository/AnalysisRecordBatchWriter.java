@@ -0,0 +1,101 @@
+package com.talk.back.analysis.repository;
+
+import com.talk.back.analysis.entity.AnalysisRecord;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * analysis_record 묶음 저장 (JDBC batch)
+ * - IDENTITY 키 엔티티는 Hibernate 가 insert 를 묶어주지 않으므로 묶음 분석 저장은 JdbcTemplate 으로 처리
+ * - 한 트랜잭션 + 한 번의 batch 로 저장하고, 생성된 id 를 요청 순서대로 돌려줌
+ */
+@Repository
+@RequiredArgsConstructor
+public class AnalysisRecordBatchWriter {
+
+    private static final String INSERT_SQL = """
+        INSERT INTO analysis_record
+            (created_by, original_text, user_text, result_json, original_text_hash, version_no,
+             matching_rate, is_important, subject, is_hidden, created_at, updated_at, sim_hash,
+             total_original_words, total_user_words, matched_words, original_length, user_length, degraded,
+             keyword_lists)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+    """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    public List<Long> insertAll(List<AnalysisRecord> records) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        AnalysisRecord r = records.get(i);
+                        if (r.getCreatedBy() != null) ps.setLong(1, r.getCreatedBy().getUserId());
+                        else ps.setNull(1, Types.BIGINT);
+                        ps.setString(2, r.getOriginalText());
+                        ps.setString(3, r.getUserText());
+                        ps.setString(4, r.getResultJson());
+                        ps.setString(5, r.getOriginalTextHash());
+                        ps.setInt(6, r.getVersionNo());
+                        ps.setDouble(7, r.getMatchingRate());
+                        ps.setBoolean(8, r.isImportant());
+                        ps.setString(9, r.getSubject());
+                        ps.setBoolean(10, Boolean.TRUE.equals(r.getIsHidden()));
+                        ps.setTimestamp(11, now);
+                        ps.setTimestamp(12, now);
+                        if (r.getSimHash() != null) ps.setLong(13, r.getSimHash());
+                        else ps.setNull(13, Types.BIGINT);
+                        setInt(ps, 14, r.getTotalOriginalWords());
+                        setInt(ps, 15, r.getTotalUserWords());
+                        setInt(ps, 16, r.getMatchedWords());
+                        setInt(ps, 17, r.getOriginalLength());
+                        setInt(ps, 18, r.getUserLength());
+                        if (r.getDegraded() != null) ps.setBoolean(19, r.getDegraded());
+                        else ps.setNull(19, Types.BOOLEAN);
+                        ps.setBytes(20, r.getKeywordLists());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return records.size();
+                    }
+                },
+                keyHolder);
+
+        List<Long> ids = keyHolder.getKeyList().stream()
+                .map(AnalysisRecordBatchWriter::firstKey)
+                .toList();
+        for (int i = 0; i < ids.size() && i < records.size(); i++) {
+            records.get(i).setId(ids.get(i));
+        }
+        return ids;
+    }
+
+    private static void setInt(PreparedStatement ps, int index, Integer value) throws SQLException {
+        if (value != null) ps.setInt(index, value);
+        else ps.setNull(index, Types.INTEGER);
+    }
+
+    private static Long firstKey(Map<String, Object> keys) {
+        return ((Number) keys.values().iterator().next()).longValue();
+    }
+}
@@ -1,13 +1,18 @@
 package com.talk.back.analysis.repository;
 
+import com.talk.back.analysis.dto.AnalysisRecordSummary;
 import com.talk.back.analysis.entity.AnalysisRecord;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,11 +20,13 @@ import java.util.Optional;
 public interface AnalysisRecordRepository extends JpaRepository<AnalysisRecord, Long> {
 
 
-    @Query("SELECT MAX(a.versionNo) FROM AnalysisRecord a WHERE a.originalTextHash = :textHash")
-    Optional<Integer> findMaxVersionByOriginalTextHash(@Param("textHash") String textHash);
+    // 버전 번호 배정은 AnalysisVersionAllocator (MAX 조회 대신 해시별 시퀀스)
 
     Optional<AnalysisRecord> findByOriginalTextHashAndVersionNo(String textHash, int i);
 
+    // 원문별 이해 초기화 기록 (버전 번호와 상관없이 is_reset 표시로 찾음)
+    Optional<AnalysisRecord> findFirstByOriginalTextHashAndIsResetTrueOrderByIdAsc(String textHash);
+
     List<AnalysisRecord> findByCreatedByUserId(Long userId);
     // Page<AnalysisRecord> findByCreatedByUserId(Long userId, Pageable pageable); // 기본분석목록 Hidden조건 추가로 변경
 
@@ -33,6 +40,60 @@ public interface AnalysisRecordRepository extends JpaRepository<AnalysisRecord,
 
     Page<AnalysisRecord> findByOriginalTextHashAndIdNot(String hash, Long excludeId, Pageable pageable);
 
+    // 근접 중복 연관 기록 (SimHashIndex 가 찾은 id 목록)
+    Page<AnalysisRecord> findByIdIn(Collection<Long> ids, Pageable pageable);
+
+    // 라이브러리 목록 전용 조회 (목록 컬럼 + 노트 수 컬럼만, 원문 / 결과 JSON 같은 LONGTEXT 는 읽지 않음)
+    // 페이지당 목록 1번 + 전체 개수 1번만 실행됨 (기록마다 노트 수를 따로 세지 않음)
+    String SUMMARY_SELECT = """
+        SELECT new com.talk.back.analysis.dto.AnalysisRecordSummary(
+            a.id, a.createdAt, a.matchingRate, a.subject, SUBSTRING(a.userText, 1, :previewLength),
+            a.isImportant, a.hiddenAt, a.noteCount)
+        FROM AnalysisRecord a
+    """;
+
+    @Query(value = SUMMARY_SELECT + "WHERE a.createdBy.userId = :userId AND (a.isHidden IS NULL OR a.isHidden = false)",
+            countQuery = "SELECT COUNT(a) FROM AnalysisRecord a WHERE a.createdBy.userId = :userId AND (a.isHidden IS NULL OR a.isHidden = false)")
+    Page<AnalysisRecordSummary> findVisibleSummariesByUserId(@Param("userId") Long userId,
+                                                             @Param("previewLength") int previewLength,
+                                                             Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + "WHERE a.createdBy.userId = :userId AND a.isHidden = true",
+            countQuery = "SELECT COUNT(a) FROM AnalysisRecord a WHERE a.createdBy.userId = :userId AND a.isHidden = true")
+    Page<AnalysisRecordSummary> findHiddenSummariesByUserId(@Param("userId") Long userId,
+                                                            @Param("previewLength") int previewLength,
+                                                            Pageable pageable);
+
+    // 라이브러리 커서 조회 (createdAt, id 내림차순 seek → COUNT / OFFSET 없음)
+    // is_hidden 은 NOT NULL 이라 보이는 목록도 "= false" 로 걸어야 (created_by, is_hidden, created_at, id) 인덱스를 그대로 탐
+    String CURSOR_CONDITION = """
+        WHERE a.createdBy.userId = :userId AND a.isHidden = :hidden
+          AND (a.createdAt < :createdAt OR (a.createdAt = :createdAt AND a.id < :id))
+        ORDER BY a.createdAt DESC, a.id DESC
+    """;
+
+    @Query(SUMMARY_SELECT + CURSOR_CONDITION)
+    List<AnalysisRecordSummary> findSummariesAfterCursor(@Param("userId") Long userId,
+                                                         @Param("hidden") boolean hidden,
+                                                         @Param("createdAt") LocalDateTime createdAt,
+                                                         @Param("id") Long id,
+                                                         @Param("previewLength") int previewLength,
+                                                         Limit limit);
+
+    // 노트 수 증감 (행 잠금 안에서 SQL 로 계산 → 동시에 노트를 달아도 값이 유실되지 않음)
+    // note_count 는 엔티티에서 updatable = false 라 여기 (native) 와 보정 작업만 씀
+    @Modifying
+    @Query(value = "UPDATE analysis_record SET note_count = note_count + 1 WHERE id = :id", nativeQuery = true)
+    int incrementNoteCount(@Param("id") Long id);
+
+    @Modifying
+    @Query(value = "UPDATE analysis_record SET note_count = note_count - 1 WHERE id = :id AND note_count > 0",
+            nativeQuery = true)
+    int decrementNoteCount(@Param("id") Long id);
+
     //숨겨진 목록 전체 갯수 조회
     long countByCreatedByUserIdAndIsHiddenTrue(Long userId);
+
+    // 보이는 목록 전체 갯수 (커서 조회에서 includeCount=true 일 때, LibraryCountCache 가 캐시)
+    long countByCreatedByUserIdAndIsHiddenFalse(Long userId);
 }
@@ -0,0 +1,63 @@
+package com.talk.back.analysis.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 원문 해시별 버전 번호 배정 (analysis_version_seq)
+ * - 해시 1건당 행 1개, UPDATE last_version = last_version + n 한 문장으로 증가 → 같은 원문을 동시에 저장해도 번호가 겹치지 않음
+ * - analysis_record 를 MAX 로 훑지 않으므로 기록이 늘어나도 비용이 같음
+ * - 처음 보는 해시는 기존 기록의 MAX(version_no) 다음부터 시작 (시퀀스 도입 전 기록과 이어짐)
+ * - 행 잠금은 호출한 트랜잭션이 끝날 때까지 유지 → 같은 트랜잭션에서 저장하다 롤백되면 번호도 되돌아감
+ * - 보장하는 것은 "원문별로 유일 + 증가" 까지 (빈 번호는 생길 수 있음)
+ *   · 묶음 분석은 채점 전에 따로 예약하므로 채점 / 저장이 실패하면 예약한 번호는 비어 있게 됨
+ *     (저장 트랜잭션에서 예약하면 채점 결과와 함께 번호를 바로 내려줄 수 없고, 채점 동안 시퀀스 행 잠금을 잡게 됨)
+ *   · 유일성은 analysis_record 의 (original_text_hash, version_no) 유니크 제약으로도 막음 (AnalysisVersionConstraintCheck)
+ */
+@Repository
+@RequiredArgsConstructor
+public class AnalysisVersionAllocator {
+
+    private static final String INCREMENT_SQL =
+            "UPDATE analysis_version_seq SET last_version = last_version + ? WHERE original_text_hash = ?";
+    private static final String CURRENT_SQL =
+            "SELECT last_version FROM analysis_version_seq WHERE original_text_hash = ?";
+    private static final String SEED_SQL =
+            "INSERT INTO analysis_version_seq (original_text_hash, last_version) VALUES (?, ?)";
+    private static final String LEGACY_MAX_SQL =
+            "SELECT MAX(version_no) FROM analysis_record WHERE original_text_hash = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** 다음 버전 1개 */
+    @Transactional
+    public int next(String originalTextHash) {
+        return reserve(originalTextHash, 1);
+    }
+
+    /** 연속된 버전 count 개 예약 → 첫 번호 반환 (first ~ first + count - 1) */
+    @Transactional
+    public int reserve(String originalTextHash, int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException("예약할 버전 수는 1 이상이어야 합니다: " + count);
+        }
+
+        if (jdbcTemplate.update(INCREMENT_SQL, count, originalTextHash) == 0) {
+            Integer legacyMax = jdbcTemplate.queryForObject(LEGACY_MAX_SQL, Integer.class, originalTextHash);
+            int last = (legacyMax != null ? legacyMax : -1) + count;
+            try {
+                jdbcTemplate.update(SEED_SQL, originalTextHash, last);
+                return last - count + 1;
+            } catch (DuplicateKeyException e) {
+                // 같은 해시를 다른 요청이 먼저 만들었음 → 그 행에 이어서 증가
+                jdbcTemplate.update(INCREMENT_SQL, count, originalTextHash);
+            }
+        }
+
+        Integer last = jdbcTemplate.queryForObject(CURRENT_SQL, Integer.class, originalTextHash);
+        return last - count + 1;
+    }
+}
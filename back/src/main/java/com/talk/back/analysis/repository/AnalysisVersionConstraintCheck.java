@@ -0,0 +1,85 @@
+package com.talk.back.analysis.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * analysis_record (original_text_hash, version_no) 유니크 제약 확인 (기동 시, 요청을 받기 전)
+ * - 제약이 있으면 아무것도 하지 않음
+ * - 제약이 없고 중복 버전이 남아 있으면 기동 실패 → db/migration/analysis_record_dedupe_versions.sql 로 정리 후 다시 시작
+ *   (스키마 자동 갱신은 중복 때문에 제약을 못 만들어도 경고만 남기고 넘어가므로 여기서 멈춤)
+ * - 제약이 없지만 중복도 없으면 경고만 남김 (스크립트의 ALTER TABLE 로 추가)
+ * - DDL 은 실행하지 않음 (읽기만)
+ */
+@Component
+@RequiredArgsConstructor
+public class AnalysisVersionConstraintCheck implements SmartLifecycle {
+
+    private static final String DEDUPE_SCRIPT = "db/migration/analysis_record_dedupe_versions.sql";
+
+    private static final String TABLE_SQL = """
+        SELECT COUNT(*) FROM information_schema.tables
+        WHERE table_schema = DATABASE() AND table_name = 'analysis_record'
+    """;
+
+    private static final String CONSTRAINT_SQL = """
+        SELECT COUNT(*) FROM information_schema.statistics
+        WHERE table_schema = DATABASE() AND table_name = 'analysis_record'
+          AND index_name = 'uk_analysis_record_hash_version'
+    """;
+
+    private static final String DUPLICATES_SQL = """
+        SELECT COUNT(*) FROM (
+            SELECT 1 FROM analysis_record
+            GROUP BY original_text_hash, version_no
+            HAVING COUNT(*) > 1
+        ) d
+    """;
+
+    // 웹 서버 (DEFAULT_PHASE - 1024) 보다 먼저
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile boolean running;
+
+    @Value("${analysis.version-check.enabled:true}")
+    private boolean enabled;
+
+    @Override
+    public void start() {
+        running = true;
+        if (!enabled || count(TABLE_SQL) == 0 || count(CONSTRAINT_SQL) > 0) return;
+
+        int duplicates = count(DUPLICATES_SQL);
+        if (duplicates > 0) {
+            throw new IllegalStateException("analysis_record 에 버전이 겹치는 (original_text_hash, version_no) 묶음이 "
+                    + duplicates + "개 있어 uk_analysis_record_hash_version 제약을 만들 수 없습니다. "
+                    + DEDUPE_SCRIPT + " 로 정리한 뒤 다시 시작하세요.");
+        }
+        System.out.println("⚠️ [AnalysisVersionConstraintCheck::start] uk_analysis_record_hash_version 제약 없음 (중복은 없음) → "
+                + DEDUPE_SCRIPT + " 의 ALTER TABLE 로 추가하세요.");
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private int count(String sql) {
+        Integer count = jdbcTemplate.queryForObject(sql, Integer.class);
+        return count != null ? count : 0;
+    }
+}
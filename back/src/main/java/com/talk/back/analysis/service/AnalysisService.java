@@ -1,13 +1,23 @@
 package com.talk.back.analysis.service;
 
+import com.talk.back.analysis.blob.BlobFile;
+import com.talk.back.analysis.blob.BlobStore;
+import com.talk.back.analysis.blob.BlobUpload;
 import com.talk.back.analysis.dto.*;
 import com.talk.back.analysis.entity.AnalysisRecord;
 import com.talk.back.analysis.library.note.AnalysisNoteRepository;
+import com.talk.back.analysis.repository.AnalysisRecordBatchWriter;
 import com.talk.back.analysis.repository.AnalysisRecordRepository;
+import com.talk.back.analysis.repository.AnalysisVersionAllocator;
+import com.talk.back.analysis.simhash.SimHashIndex;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.talk.back.auth.entity.User;
 import com.talk.back.auth.repository.UserRepository;
+import com.talk.back.util.SimHash;
+import com.talk.back.util.TextHash;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -17,12 +27,18 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.DigestUtils;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
@@ -31,13 +47,32 @@ public class AnalysisService {
 
     private final AnalysisRecordRepository analysisRecordRepository;
     private final TextExtractor textExtractor;
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectMapper objectMapper; // Spring 설정 ObjectMapper (예전 result_json 기록 읽기용)
     private final AnalysisNoteRepository analysisNoteRepository;
     private final MatchEngine matchEngine; // KoSbertMatchEngine이 주입되도록
 
     //User_Id 를 Create_by로 들어가게 하기위해 변수 선언
     private final UserRepository userRepository;
 
+    // 묶음 분석 저장용 (JDBC batch insert)
+    private final AnalysisRecordBatchWriter analysisRecordBatchWriter;
+
+    // 업로드 원본 파일 저장소 (내용 해시 기준으로 중복 제거)
+    private final BlobStore blobStore;
+
+    // 원문 해시별 버전 번호 배정
+    private final AnalysisVersionAllocator analysisVersionAllocator;
+
+    // 조금 고친 원문까지 연관 기록으로 찾기 위한 SimHash 색인
+    private final SimHashIndex simHashIndex;
+
+    // 라이브러리 전체 개수 캐시 (커서 조회에서 요청할 때만 사용)
+    private final LibraryCountCache libraryCountCache;
+
+    // 묶음 분석 1회 요청에 담을 수 있는 최대 사용자 텍스트 수
+    @Value("${analysis.batch.max-items:200}")
+    private int batchMaxItems;
+
 
     // 작성자 받아오기
     private User getCurrentUser() {
@@ -48,7 +83,8 @@ public class AnalysisService {
 
     // originalText 를 가지고 subject 추출 하기 위한 선언 및 메서드
 
-    private String generateSubject(String originalText) {
+    // 벤치마크(src/jmh)에서 직접 호출할 수 있도록 package-private static
+    static String generateSubject(String originalText) {
         if (originalText == null || originalText.isBlank()) return "";
 
         // 마침표, 줄바꿈 기준으로 첫 문장을 자르거나 없으면 앞 20자
@@ -58,94 +94,198 @@ public class AnalysisService {
 
     @Transactional
     public AnalysisResponseDto analyzeAndSave(AnalysisRequestDto req) throws Exception {
+        return analyzeAndSave(req, new AnalysisStageTimer());
+    }
+
+    /**
+     * 분석 파이프라인 (단일 경로)
+     * - 원문 추출 → 매칭 분석(MatchEngine 1회 호출) → 저장
+     * - 각 단계 소요 시간은 timer 에 기록되어 컨트롤러에서 응답 헤더로 내려감
+     */
+    @Transactional
+    public AnalysisResponseDto analyzeAndSave(AnalysisRequestDto req, AnalysisStageTimer timer) throws Exception {
         System.out.println("==> [AnalysisService::AnalysisResponseDto 시작] ");
 
         AnalysisResponseDto analysisResponseDto = null;
 
+        // 현재 유저 확인 (비로그인 시 null) → 원본 파일은 저장할 때만 보관
+        User currentUser = getCurrentUserIfLoggedIn();
 
+        // 1. 파일 처리 (스트림으로 읽으며 인코딩 감지 + 디코딩 + 원문 해시를 한 번에)
+        timer.start(AnalysisStageTimer.EXTRACT);
+        String inputText = req.getOriginalText();
+        boolean hasInputText = inputText != null && !inputText.isBlank();
 
-        // 1. 파일 처리
         String extracted = "";
-        byte[] fileBytes = null;
+        String fileKey = null;
         String fileName = null;
         String contentType = null;
         Long fileSize = null;
+        MessageDigest originalDigest = null;
+        BlobUpload rawCopy = null;
 
         MultipartFile file = req.getOriginalFile();
         if (file != null && !file.isEmpty()) {
-            fileBytes   = file.getBytes();
             fileName    = file.getOriginalFilename();
             contentType = file.getContentType();
             fileSize    = file.getSize();
 
-            extracted = textExtractor.extractTxt(fileBytes); // txt 가정
+            // 해시 대상은 combine() 결과와 같은 "입력값 + \n\n + 파일내용" 이므로 앞부분을 먼저 넣어 둠
+            originalDigest = MessageDigest.getInstance("MD5");
+            if (hasInputText) {
+                originalDigest.update((inputText + "\n\n").getBytes(StandardCharsets.UTF_8));
+            }
+
+            // 원본 파일은 추출하면서 같은 스트림으로 임시 파일에 씀 (메모리에 통째로 올리지 않음)
+            // 저장소 반영(commit)은 채점이 끝난 뒤 저장 직전에 → analysis_blob 행 잠금을 원격 채점 동안 잡지 않음
+            rawCopy = currentUser != null ? blobStore.openUpload() : null;
+            try (InputStream in = file.getInputStream()) {
+                ExtractedText extractedText = textExtractor.extract(in, originalDigest, rawCopy); // txt 가정
+                extracted = extractedText.getText();
+                System.out.println("[AnalysisService::AnalysisResponseDto] 파일 추출 " + extractedText);
+            } catch (Exception e) {
+                if (rawCopy != null) rawCopy.discard();
+                throw e;
+            }
         }
 
-        // 2. originalText 구성 (입력값 + 파일추출내용)
-        String combinedOriginal = combine(req.getOriginalText(), extracted);
-
-        // 3. 매칭 분석
-        var result = matchEngine.analyze(combinedOriginal, req.getUserText() );
-        String resultJson = objectMapper.writeValueAsString(result);
-
-        // 4. 해시 생성 (해당 originalText로부터)
-        String originalTextHash = DigestUtils.md5DigestAsHex(combinedOriginal.getBytes());
+        try {
+            // 2. originalText 구성 (입력값 + 파일추출내용)
+            String combinedOriginal = combine(inputText, extracted);
+
+            // 3. 매칭 분석 (스코어러 호출은 여기 한 번뿐)
+            timer.start(AnalysisStageTimer.SCORE);
+            var result = matchEngine.analyze(combinedOriginal, req.getUserText() );
+
+            timer.start(AnalysisStageTimer.PERSIST);
+
+            // 4. 해시 생성 (해당 originalText로부터)
+            //    파일 내용이 원문에 들어간 경우 추출하면서 계산한 해시를 그대로 사용
+            String originalTextHash = originalDigest != null && !extracted.isBlank()
+                    ? HexFormat.of().formatHex(originalDigest.digest())
+                    : TextHash.md5Hex(combinedOriginal);
+
+            // 5. subject 주제 입력 ( original text 첫 문장 추출 )
+            String subject = generateSubject(req.getOriginalText());
+
+            // 6. 저장
+            AnalysisRecord record = null;
+            if (currentUser != null) {
+                // 로그인한 경우에만 저장 (버전 번호도 저장할 때만 배정 → 비회원 요청이 번호를 소모하지 않음)
+                int versionNo = analysisVersionAllocator.next(originalTextHash);
+                // 원본 파일 저장소 반영 (참조 +1, 이 트랜잭션이 롤백되면 LocalDiskBlobStore 가 옮긴 파일도 지움)
+                if (rawCopy != null) {
+                    fileKey = blobStore.commit(rawCopy);
+                }
+                record = AnalysisRecord.builder()
+                        .originalText(combinedOriginal)
+                        .originalTextHash(originalTextHash)
+                        .versionNo(versionNo)
+                        .userText(req.getUserText())
+                        .originalFileKey(fileKey)
+                        .originalFileName(fileName)
+                        .originalFileContentType(contentType)
+                        .originalFileSize(fileSize)
+                        .createdBy(currentUser) // 작성자 정보 저장
+                        .matchingRate(result.getMatchingRate()) // 매칭률 저장
+                        .isImportant(false) // 기본은 false
+                        .subject(subject) //자동 subject 설정
+                        .simHash(SimHash.fingerprint(combinedOriginal))
+                        .build();
+                MatchResultCodec.write(result, record); // 수치 컬럼 + 키워드 바이트
+
+
+                System.out.println("[AnalysisService::AnalysisResponseDto] record = " + record);
+
+                analysisRecordRepository.save(record);
+                // 롤백되면 색인에 없는 id 가 남지만 조회 시 DB 에서 걸러지므로 무해
+                simHashIndex.add(record.getId(), currentUser.getUserId(), record.getSimHash());
+                libraryCountCache.evict(currentUser.getUserId());
+            }
+            timer.stop();
+
+            // 7. 결과 반환
+            analysisResponseDto = AnalysisResponseDto.builder()
+                    .recordId(record != null ? record.getId() : null) // 비회원은 null
+                    .result(result)
+                    .createdAt(LocalDateTime.now().toString())
+                    .originalText(combinedOriginal)
+                    .subject(subject)
+                    .build();
 
-        int versionNo = analysisRecordRepository
-                .findMaxVersionByOriginalTextHash(originalTextHash)
-                .map(v -> v + 1)
-                .orElse(0);
+            System.out.println("==> [AnalysisService::AnalysisResponseDto 끝] " + timer.toServerTiming()
+                    + " analysisResponseDto = " + analysisResponseDto);
 
-        // 5. subject 주제 입력 ( original text 첫 문장 추출 )
-        String subject = generateSubject(req.getOriginalText());
+            return analysisResponseDto;
+        } finally {
+            // 채점 / 저장 도중 실패해서 반영하지 못한 임시 파일 정리
+            if (rawCopy != null && fileKey == null) {
+                rawCopy.discard();
+            }
+        }
+    }
 
-        // 6. 현재 유저 확인 (비로그인 시 null)
-        User currentUser = getCurrentUserIfLoggedIn();
+    /** 묶음 분석 요청 검증 (스트리밍 시작 전에 호출해서 잘못된 요청은 400 으로 돌려보냄) */
+    public void validateBatch(AnalysisBatchRequestDto req) {
+        if (req.getOriginalText() == null || req.getOriginalText().isBlank()) {
+            throw new IllegalArgumentException("원문이 비어 있습니다.");
+        }
+        List<String> userTexts = req.getUserTexts();
+        if (userTexts == null || userTexts.isEmpty()) {
+            throw new IllegalArgumentException("분석할 사용자 텍스트가 없습니다.");
+        }
+        if (userTexts.size() > batchMaxItems) {
+            throw new IllegalArgumentException("한 번에 분석할 수 있는 텍스트는 최대 " + batchMaxItems + "개입니다.");
+        }
+        if (userTexts.stream().anyMatch(t -> t == null || t.isBlank())) {
+            throw new IllegalArgumentException("비어 있는 사용자 텍스트가 있습니다.");
+        }
+    }
 
-        // 7. 저장
-        AnalysisRecord record = null;
-        if (currentUser != null) {
-            // 로그인한 경우에만 저장
-            record = AnalysisRecord.builder()
-                    .originalText(combinedOriginal)
+    /**
+     * 묶음 분석 (원문 1개 + 사용자 텍스트 여러 개)
+     * - 원문은 한 번만 인코딩하고 사용자 텍스트는 묶어서 채점 (MatchEngine.analyzeBatch)
+     * - 버전 번호는 채점 전에 요청 개수만큼 연속으로 예약 (채점 중 events 로 바로 내려주기 위해)
+     *   · 예약은 저장과 다른 트랜잭션이라 중간에 실패하면 그 번호들은 비어 있게 됨 (유일 + 증가만 보장)
+     * - 채점 결과는 나오는 대로 events 로 흘려보내고, 저장은 마지막에 JDBC batch 한 번으로 처리
+     */
+    public void analyzeBatch(AnalysisBatchRequestDto req, User user, Consumer<AnalysisBatchEventDto> events) {
+        validateBatch(req);
+        System.out.println("==> [AnalysisService::analyzeBatch 시작] count = " + req.getUserTexts().size());
+
+        String originalText = req.getOriginalText();
+        List<String> userTexts = req.getUserTexts();
+
+        String originalTextHash = TextHash.md5Hex(originalText);
+        int versionFrom = analysisVersionAllocator.reserve(originalTextHash, userTexts.size());
+        String subject = generateSubject(originalText);
+        long simHash = SimHash.fingerprint(originalText);
+
+        AnalysisRecord[] records = new AnalysisRecord[userTexts.size()];
+        matchEngine.analyzeBatch(originalText, userTexts, (index, result) -> {
+            records[index] = AnalysisRecord.builder()
+                    .originalText(originalText)
                     .originalTextHash(originalTextHash)
-                    .versionNo(versionNo)
-                    .userText(req.getUserText())
-                    .resultJson(resultJson)
-                    .originalFileBytes(fileBytes)
-                    .originalFileName(fileName)
-                    .originalFileContentType(contentType)
-                    .originalFileSize(fileSize)
-                    .createdBy(currentUser) // 작성자 정보 저장
-                    .matchingRate(result.getMatchingRate()) // 매칭률 저장
-                    .isImportant(false) // 기본은 false
-                    .subject(subject) //자동 subject 설정
+                    .versionNo(versionFrom + index)
+                    .userText(userTexts.get(index))
+                    .createdBy(user)
+                    .isImportant(false)
+                    .subject(subject)
+                    .simHash(simHash)
                     .build();
+            MatchResultCodec.write(result, records[index]);
 
+            events.accept(AnalysisBatchEventDto.item(index, versionFrom + index, result));
+        });
 
-            System.out.println("[AnalysisService::AnalysisResponseDto] record = " + record);
-
-            analysisRecordRepository.save(record);
+        List<Long> recordIds = analysisRecordBatchWriter.insertAll(Arrays.asList(records));
+        for (Long recordId : recordIds) {
+            simHashIndex.add(recordId, user != null ? user.getUserId() : null, simHash);
         }
-//        System.out.println("recordId = " + record.getId());
-//        System.out.println("result = " + result);
-//        System.out.println("createdAt = " + record.getCreatedAt());
-//        System.out.println("originalText = " + record.getOriginalText());
-//        System.out.println("originalTextHash = " + record.getOriginalTextHash());
-//        System.out.println("versionNo = " + record.getVersionNo());
+        if (user != null) libraryCountCache.evict(user.getUserId());
+        events.accept(AnalysisBatchEventDto.done(recordIds));
 
-        // 7. 결과 반환
-        analysisResponseDto = AnalysisResponseDto.builder()
-                .recordId(record != null ? record.getId() : null) // 비회원은 null
-                .result(result)
-                .createdAt(LocalDateTime.now().toString())
-                .originalText(combinedOriginal)
-                .subject(subject)
-                .build();
-
-        System.out.println("==> [AnalysisService::AnalysisResponseDto 끝] analysisResponseDto = " + analysisResponseDto) ;
-
-        return analysisResponseDto;
+        System.out.println("==> [AnalysisService::analyzeBatch 끝] recordIds = " + recordIds);
     }
 
     private String combine(String a, String b) {
@@ -164,7 +304,10 @@ public class AnalysisService {
         AnalysisRecord record = analysisRecordRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Not found: " + id));
 
-        MatchDetailDto mtchDetailDto = objectMapper.readValue(record.getResultJson(), MatchDetailDto.class);
+        // 컬럼 형식 기록은 키워드 바이트만 풀고, 이전 전의 예전 기록만 JSON 파싱
+        MatchDetailDto mtchDetailDto = MatchResultCodec.isTyped(record)
+                ? MatchResultCodec.readDetail(record)
+                : objectMapper.readValue(record.getResultJson(), MatchDetailDto.class);
         System.out.println("[AnalysisService::getResult] MatchDetailDto = " + mtchDetailDto);
 
 //        System.out.println("recordId = " + record.getId());
@@ -192,6 +335,7 @@ public class AnalysisService {
         return analysisResponseDto;
     }
 
+    @Transactional
     public ResetResponseDto resetUnderstanding(Long recordId) throws Exception {
         System.out.println("==> [AnalysisService::resetUnderstanding 시작] ");
 
@@ -210,10 +354,11 @@ public class AnalysisService {
                     .build();
         }
 
-        String textHash = DigestUtils.md5DigestAsHex(original.getOriginalText().getBytes());
+        String textHash = TextHash.md5Hex(original.getOriginalText());
 
+        // 초기화 기록은 is_reset 표시로 찾음 (버전은 배정받은 번호라 1 이 아님, 버전 1 은 다른 사용자의 기록일 수 있음)
         Optional<AnalysisRecord> existingRecordOpt = analysisRecordRepository
-                .findByOriginalTextHashAndVersionNo(textHash, 1);
+                .findFirstByOriginalTextHashAndIsResetTrueOrderByIdAsc(textHash);
 
         AnalysisRecord recordToUse;
 
@@ -221,17 +366,20 @@ public class AnalysisService {
             // 이미 초기화된 기록이 존재하면 그걸 update
             recordToUse = existingRecordOpt.get();
             recordToUse.setUserText("");
-            recordToUse.setResultJson("{}");
+            // 결과 비우기 (목록에 보이는 매칭률은 그대로)
+            MatchResultCodec.write(MatchDetailDto.builder().matchingRate(recordToUse.getMatchingRate()).build(), recordToUse);
             System.out.println("[resetUnderstanding] 기존 레코드 업데이트: id=" + recordToUse.getId());
         } else {
-            // 없으면 새로 생성
+            // 없으면 새로 생성 (버전은 다른 저장과 같이 AnalysisVersionAllocator 에서 배정)
             recordToUse = AnalysisRecord.builder()
                     .originalText(original.getOriginalText())
                     .originalTextHash(textHash)
-                    .versionNo(1)
+                    .versionNo(analysisVersionAllocator.next(textHash))
                     .userText("")
-                    .resultJson("{}")
+                    .isReset(true)
                     .build();
+            // 빈 결과도 다른 저장과 같은 형식으로 (수치 컬럼 + 키워드 바이트, degraded 컬럼)
+            MatchResultCodec.write(MatchDetailDto.builder().matchingRate(0.0).build(), recordToUse);
             System.out.println("[resetUnderstanding] 새로운 레코드 생성");
             analysisRecordRepository.save(recordToUse); // insert
         }
@@ -274,28 +422,111 @@ public class AnalysisService {
 
     // 연관 대화 불러오는 메서드
     public Page<AnalysisRecord> getRelatedAnalyses(Long analysisId, int page, int size) {
+        return getRelatedAnalyses(analysisId, page, size, false);
+    }
+
+    /**
+     * 연관 기록
+     * - 기본: 원문 MD5 가 같은 기록 (versionNo 순)
+     * - nearDuplicate: 같은 사용자의 기록 중 SimHash 해밍 거리가 가까운 기록 (공백 / 오타 / 다시 저장한 파일 포함, 작성 순)
+     */
+    public Page<AnalysisRecord> getRelatedAnalyses(Long analysisId, int page, int size, boolean nearDuplicate) {
         AnalysisRecord base = analysisRecordRepository.findById(analysisId)
                 .orElseThrow(() -> new IllegalArgumentException("분석 기록 없음"));
 
-        Pageable pageable = PageRequest.of(page, size, Sort.by("versionNo").ascending());
+        if (!nearDuplicate) {
+            Pageable pageable = PageRequest.of(page, size, Sort.by("versionNo").ascending());
+            return analysisRecordRepository.findByOriginalTextHashAndIdNot(
+                    base.getOriginalTextHash(), base.getId(), pageable);
+        }
+
+        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").ascending());
+        long fingerprint = base.getSimHash() != null ? base.getSimHash() : SimHash.fingerprint(base.getOriginalText());
+        Long ownerId = base.getCreatedBy() != null ? base.getCreatedBy().getUserId() : null;
+
+        Set<Long> nearIds = simHashIndex.findNear(fingerprint, ownerId, base.getId());
+        if (nearIds.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        return analysisRecordRepository.findByIdIn(nearIds, pageable);
+    }
+
 
-        return analysisRecordRepository.findByOriginalTextHashAndIdNot(
-                base.getOriginalTextHash(), base.getId(), pageable);
+    /**
+     * 라이브러리 목록 (숨김 / 기본)
+     * - 목록 전용 조회 1번 + 전체 개수 1번 (페이지 크기와 상관없이 쿼리 2개, 노트 수는 note_count 컬럼)
+     * - previewLength 가 있으면 userInput 을 그 글자 수까지만 내려줌 (없거나 0 이하면 전체)
+     */
+    @Transactional(readOnly = true)
+    public Page<AnalysisRecordDto> getLibraryPage(Long userId, boolean hidden, Integer previewLength, Pageable pageable) {
+        int length = previewLength != null && previewLength > 0 ? previewLength : Integer.MAX_VALUE;
+        Page<AnalysisRecordSummary> summaries = hidden
+                ? analysisRecordRepository.findHiddenSummariesByUserId(userId, length, pageable)
+                : analysisRecordRepository.findVisibleSummariesByUserId(userId, length, pageable);
+        return summaries.map(AnalysisRecordDto::from);
     }
 
+    /**
+     * 라이브러리 커서 조회 (스크롤용)
+     * - cursor 이후 size 건을 (createdAt, id) 내림차순으로, 1건 더 읽어서 다음 페이지 유무 판단
+     * - includeCount=true 일 때만 전체 개수 포함 (LibraryCountCache)
+     */
+    @Transactional(readOnly = true)
+    public LibraryCursorPageDto getLibrarySlice(Long userId, boolean hidden, String cursor, int size,
+                                                Integer previewLength, boolean includeCount) {
+        if (size <= 0) throw new IllegalArgumentException("size 는 1 이상이어야 합니다.");
+        LibraryCursor after = LibraryCursor.decode(cursor);
+        int length = previewLength != null && previewLength > 0 ? previewLength : Integer.MAX_VALUE;
+
+        List<AnalysisRecordSummary> rows = analysisRecordRepository.findSummariesAfterCursor(
+                userId, hidden, after.createdAt(), after.id(), length, Limit.of(size + 1));
+        boolean hasNext = rows.size() > size;
+        List<AnalysisRecordSummary> page = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            AnalysisRecordSummary last = page.get(page.size() - 1);
+            nextCursor = new LibraryCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return LibraryCursorPageDto.builder()
+                .content(page.stream().map(AnalysisRecordDto::from).toList())
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .totalCount(includeCount ? libraryCountCache.count(userId, hidden) : null)
+                .build();
+    }
 
     // noteCount 불러오기 메서드
     public List<AnalysisRecordDto> getMyAnalysisRecords(Long userId) {
         List<AnalysisRecord> records = analysisRecordRepository.findByCreatedByUserId(userId);
 
         return records.stream()
-                .map(record -> {
-                    int noteCount = analysisNoteRepository.countByAnalysisRecordId(record.getId());
-                    return AnalysisRecordDto.from(record, noteCount);
-                })
+                .map(AnalysisRecordDto::from) // 노트 수는 analysis_record.note_count 컬럼
                 .toList();
     }
 
+    /**
+     * 원본 파일 다운로드용 조회 (본인 기록만)
+     * - 파일이 없거나 저장소에서 사라졌으면 Optional.empty()
+     */
+    @Transactional(readOnly = true)
+    public Optional<OriginalFile> findOriginalFile(Long recordId, Long userId) {
+        AnalysisRecord record = analysisRecordRepository.findById(recordId)
+                .orElseThrow(() -> new IllegalArgumentException("분석 기록을 찾을 수 없습니다: " + recordId));
+        if (record.getCreatedBy() == null || !record.getCreatedBy().getUserId().equals(userId)) {
+            throw new IllegalArgumentException("본인의 분석 기록만 내려받을 수 있습니다.");
+        }
+        if (record.getOriginalFileKey() == null) {
+            return Optional.empty();
+        }
+        return blobStore.find(record.getOriginalFileKey())
+                .map(blob -> new OriginalFile(blob, record.getOriginalFileName(), record.getOriginalFileContentType()));
+    }
+
+    /** 저장소 파일 + 업로드 당시 파일 이름 / 타입 */
+    public record OriginalFile(BlobFile blob, String fileName, String contentType) {
+    }
+
     //라이브러리 숨기기
 
     @Transactional
@@ -307,6 +538,7 @@ public class AnalysisService {
         record.setHiddenAt(LocalDateTime.now());
 
         analysisRecordRepository.save(record);
+        evictLibraryCount(record);
     }
 
     @Transactional
@@ -318,6 +550,11 @@ public class AnalysisService {
         record.setHiddenAt(null);
 
         analysisRecordRepository.save(record);
+        evictLibraryCount(record);
+    }
+
+    private void evictLibraryCount(AnalysisRecord record) {
+        if (record.getCreatedBy() != null) libraryCountCache.evict(record.getCreatedBy().getUserId());
     }
 
 //--------------------- 차후 정리
@@ -0,0 +1,76 @@
+package com.talk.back.analysis.service;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.function.Consumer;
+
+/**
+ * 분석 파이프라인 단계별 소요 시간 측정기
+ * - extract(원문 추출) → score(매칭 분석) → persist(저장) 순서로 단계 시간을 기록
+ * - 기록된 값은 Server-Timing 헤더 형식으로 변환해 응답에 실어 보냄
+ * - 요청 1건당 1개씩 생성해서 사용 (스레드 안전하지 않음)
+ * - onStage 를 넘기면 단계가 시작될 때마다 단계 이름을 알려줌 (비동기 분석 작업의 진행 상황 전송용)
+ */
+public class AnalysisStageTimer {
+
+    public static final String EXTRACT = "extract";
+    public static final String SCORE = "score";
+    public static final String PERSIST = "persist";
+
+    private final Map<String, Long> stageNanos = new LinkedHashMap<>();
+    private final Consumer<String> onStage;
+    private String currentStage;
+    private long startedAt;
+
+    public AnalysisStageTimer() {
+        this(stage -> { });
+    }
+
+    public AnalysisStageTimer(Consumer<String> onStage) {
+        this.onStage = onStage;
+    }
+
+    /** 새 단계 시작 (진행 중인 단계가 있으면 먼저 종료) */
+    public void start(String stage) {
+        stop();
+        this.currentStage = stage;
+        this.startedAt = System.nanoTime();
+        onStage.accept(stage);
+    }
+
+    /** 진행 중인 단계 종료 */
+    public void stop() {
+        if (currentStage == null) return;
+        stageNanos.merge(currentStage, System.nanoTime() - startedAt, Long::sum);
+        currentStage = null;
+    }
+
+    /** 단계별 소요 시간 (나노초, 기록 순서 유지) */
+    public Map<String, Long> getStageNanos() {
+        return Collections.unmodifiableMap(stageNanos);
+    }
+
+    /** 전체 소요 시간 (밀리초) */
+    public double getTotalMillis() {
+        return stageNanos.values().stream().mapToLong(Long::longValue).sum() / 1_000_000.0;
+    }
+
+    /**
+     * Server-Timing 헤더 값 생성
+     * 예) extract;dur=0.42, score;dur=183.10, persist;dur=12.77, total;dur=196.29
+     */
+    public String toServerTiming() {
+        stop();
+        StringJoiner joiner = new StringJoiner(", ");
+        stageNanos.forEach((stage, nanos) -> joiner.add(format(stage, nanos / 1_000_000.0)));
+        joiner.add(format("total", getTotalMillis()));
+        return joiner.toString();
+    }
+
+    private static String format(String stage, double millis) {
+        return String.format(Locale.ROOT, "%s;dur=%.2f", stage, millis);
+    }
+}
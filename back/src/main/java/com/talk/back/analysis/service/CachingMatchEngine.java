@@ -0,0 +1,105 @@
+package com.talk.back.analysis.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.talk.back.analysis.dto.MatchDetailDto;
+import com.talk.back.util.TextHash;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.BiConsumer;
+
+/**
+ * 매칭 결과 캐시 엔진 (MatchEngine 데코레이터)
+ * - 키: 엔진 ID + originalTextHash(원문 MD5, AnalysisRecord 와 동일한 방식) + userText MD5
+ * - 최대 개수 / TTL 기준으로 오래된 결과를 제거
+ * - 같은 키로 동시에 들어온 요청은 먼저 들어온 요청의 백엔드 호출 결과를 함께 기다림 (single-flight)
+ * - 실패한 호출은 (Error 포함) 기다리던 요청에도 그대로 전달되고 캐시에서 바로 빠지므로 다음 요청에서 다시 시도됨
+ * - 캐시된 결과와 호출자가 받는 결과는 키워드 목록까지 서로 다른 인스턴스 (호출자가 고쳐도 캐시는 그대로)
+ */
+public class CachingMatchEngine implements MatchEngine {
+
+    private final MatchEngine delegate;
+    private final AsyncCache<String, MatchDetailDto> cache;
+
+    public CachingMatchEngine(MatchEngine delegate, long maxSize, Duration ttl) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+    }
+
+    @Override
+    public MatchDetailDto analyze(String originalText, String userText) {
+        String key = cacheKey(originalText, userText);
+
+        // 캐시에는 "진행 중인 호출"(future)을 먼저 넣고, 실제 호출은 맵 잠금 밖에서 수행
+        CompletableFuture<MatchDetailDto> mine = new CompletableFuture<>();
+        CompletableFuture<MatchDetailDto> future = cache.get(key, (k, executor) -> mine);
+
+        if (future == mine) {
+            try {
+                mine.complete(delegate.analyze(originalText, userText));
+            } catch (Throwable e) {
+                // 여기서 끝내지 않으면 같은 키를 기다리는 요청과 이후 요청이 영영 풀리지 않음
+                mine.completeExceptionally(e);
+                throw e;
+            }
+        }
+
+        try {
+            // 캐시된 인스턴스를 호출자가 수정하지 못하도록 복사본을 반환
+            return copy(future.join());
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /** 묶음 채점은 그대로 위임하고, 나온 결과는 단건 분석에서 재사용할 수 있도록 캐시에 채워 둠 */
+    @Override
+    public void analyzeBatch(String originalText, List<String> userTexts, BiConsumer<Integer, MatchDetailDto> onResult) {
+        delegate.analyzeBatch(originalText, userTexts, (index, result) -> {
+            cache.put(cacheKey(originalText, userTexts.get(index)), CompletableFuture.completedFuture(copy(result)));
+            onResult.accept(index, result);
+        });
+    }
+
+    @Override
+    public String engineId() {
+        return delegate.engineId();
+    }
+
+    /** 메트릭 등록용 (hit / miss / eviction 카운터) */
+    public Cache<String, MatchDetailDto> getCache() {
+        return cache.synchronous();
+    }
+
+    // toBuilder 는 목록을 그대로 공유하므로 목록도 새로 만듦
+    private static MatchDetailDto copy(MatchDetailDto result) {
+        return result.toBuilder()
+                .keywordMatches(copy(result.getKeywordMatches()))
+                .missedKeywords(copy(result.getMissedKeywords()))
+                .extraKeywords(copy(result.getExtraKeywords()))
+                .build();
+    }
+
+    private static List<String> copy(List<String> words) {
+        return words == null ? null : new ArrayList<>(words);
+    }
+
+    private String cacheKey(String originalText, String userText) {
+        return engineId() + ":" + TextHash.md5Hex(originalText) + ":" + TextHash.md5Hex(userText);
+    }
+}
@@ -0,0 +1,233 @@
+package com.talk.back.analysis.service;
+
+import com.talk.back.analysis.dto.MatchDetailDto;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.LongSupplier;
+
+/**
+ * 서킷 브레이커 엔진 (MatchEngine 데코레이터)
+ * - 원격 엔진(KoSBERT) 호출 결과를 최근 windowSize 건 단위로 집계
+ * - 실패율 또는 느린 호출 비율이 기준을 넘으면 OPEN → openDuration 동안 원격 호출 없이 바로 대체 엔진으로 응답
+ * - openDuration 이 지나면 HALF_OPEN → halfOpenProbes 건만 원격으로 시험 호출하고, 결과에 따라 CLOSED / OPEN 결정
+ * - 대체 엔진(단어 일치) 결과에는 degraded=true 를 표시 (MatchResultCodec 이 analysis_record.degraded 컬럼에 저장)
+ * - 원격 호출이 실패한 요청도 예외 대신 대체 엔진 결과로 응답
+ */
+public class CircuitBreakerMatchEngine implements MatchEngine {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    @Getter
+    @Builder
+    public static class Settings {
+        @Builder.Default private int windowSize = 20;                          // 집계할 최근 호출 수
+        @Builder.Default private int minimumCalls = 10;                        // 이만큼 쌓이기 전에는 열지 않음
+        @Builder.Default private double failureRateThreshold = 50.0;           // 실패율(%) 기준
+        @Builder.Default private double slowCallRateThreshold = 80.0;          // 느린 호출 비율(%) 기준
+        @Builder.Default private Duration slowCallDuration = Duration.ofSeconds(3);
+        @Builder.Default private Duration openDuration = Duration.ofSeconds(30);
+        @Builder.Default private int halfOpenProbes = 3;                       // HALF_OPEN 에서 허용할 시험 호출 수
+    }
+
+    private static final long REJECTED = -1;
+
+    private final MatchEngine primary;
+    private final MatchEngine fallback;
+    private final Settings settings;
+    private final LongSupplier nanoClock;
+
+    // 최근 호출 결과 링 버퍼 (synchronized 로 보호)
+    private final boolean[] failedCalls;
+    private final boolean[] slowCalls;
+    private int recorded;
+    private int cursor;
+    private int failureCount;
+    private int slowCount;
+
+    private State state = State.CLOSED;
+    private long generation;        // 상태가 바뀔 때마다 증가 → 이전 상태에서 시작된 호출의 결과는 무시
+    private long openedAt;
+    private int probesIssued;
+
+    private final AtomicLong degradedCount = new AtomicLong();
+
+    public CircuitBreakerMatchEngine(MatchEngine primary, MatchEngine fallback, Settings settings) {
+        this(primary, fallback, settings, System::nanoTime);
+    }
+
+    /** 테스트에서 시간을 직접 움직이기 위한 생성자 */
+    public CircuitBreakerMatchEngine(MatchEngine primary, MatchEngine fallback, Settings settings, LongSupplier nanoClock) {
+        if (settings.getHalfOpenProbes() > settings.getWindowSize()) {
+            throw new IllegalArgumentException("halfOpenProbes 는 windowSize 보다 클 수 없습니다.");
+        }
+        this.primary = primary;
+        this.fallback = fallback;
+        this.settings = settings;
+        this.nanoClock = nanoClock;
+        this.failedCalls = new boolean[settings.getWindowSize()];
+        this.slowCalls = new boolean[settings.getWindowSize()];
+    }
+
+    @Override
+    public MatchDetailDto analyze(String originalText, String userText) {
+        long permit = tryAcquire();
+        if (permit == REJECTED) {
+            return degraded(fallback.analyze(originalText, userText));
+        }
+
+        long startedAt = nanoClock.getAsLong();
+        MatchDetailDto result;
+        boolean failed = true;
+        try {
+            result = primary.analyze(originalText, userText);
+            failed = false;
+        } catch (RuntimeException e) {
+            System.out.println("⚠️ [CircuitBreakerMatchEngine] 원격 채점 실패 → 대체 엔진 사용: " + e.getMessage());
+            result = null;
+        } finally {
+            // Error 등 어떤 예외로 끝나도 결과를 남김 (HALF_OPEN 시험 호출 자리가 반납되지 않으면 계속 REJECTED)
+            record(permit, failed, isSlow(startedAt));
+        }
+        return failed ? degraded(fallback.analyze(originalText, userText)) : result;
+    }
+
+    /**
+     * 묶음 채점은 원격 호출 1번으로 집계
+     * - 묶음은 원래 오래 걸리므로 느린 호출 판정은 하지 않음
+     * - 도중에 실패하면 아직 결과가 나가지 않은 항목만 대체 엔진으로 채점
+     * - onResult 가 던진 예외는 원격 엔진 실패가 아니므로 성공으로 집계하고 그대로 던짐
+     */
+    @Override
+    public void analyzeBatch(String originalText, List<String> userTexts, BiConsumer<Integer, MatchDetailDto> onResult) {
+        long permit = tryAcquire();
+        if (permit == REJECTED) {
+            fallback.analyzeBatch(originalText, userTexts, (index, result) -> onResult.accept(index, degraded(result)));
+            return;
+        }
+
+        boolean[] delivered = new boolean[userTexts.size()];
+        RuntimeException[] consumerFailure = new RuntimeException[1];
+        boolean failed = true;
+        try {
+            primary.analyzeBatch(originalText, userTexts, (index, result) -> {
+                delivered[index] = true;
+                try {
+                    onResult.accept(index, result);
+                } catch (RuntimeException e) {
+                    consumerFailure[0] = e; // 응답 쓰기 실패 등은 원격 엔진 실패가 아님
+                    throw e;
+                }
+            });
+            failed = false;
+        } catch (RuntimeException e) {
+            if (e == consumerFailure[0]) {
+                failed = false;
+                throw e;
+            }
+            System.out.println("⚠️ [CircuitBreakerMatchEngine] 원격 묶음 채점 실패 → 남은 항목 대체 엔진 사용: " + e.getMessage());
+        } finally {
+            // 어떤 경로로 끝나도 허가 반납 (analyze 와 같음)
+            record(permit, failed, false);
+        }
+
+        if (!failed) return;
+        for (int i = 0; i < userTexts.size(); i++) {
+            if (!delivered[i]) {
+                onResult.accept(i, degraded(fallback.analyze(originalText, userTexts.get(i))));
+            }
+        }
+    }
+
+    @Override
+    public String engineId() {
+        return primary.engineId();
+    }
+
+    /** 현재 상태 (OPEN → HALF_OPEN 전환은 다음 호출 시점에 일어남) */
+    public synchronized State getState() {
+        return state;
+    }
+
+    /** 대체 엔진으로 응답한 누적 건수 */
+    public long getDegradedCount() {
+        return degradedCount.get();
+    }
+
+    /** 원격 호출 허가: 허가되면 현재 세대 번호, 아니면 REJECTED */
+    private synchronized long tryAcquire() {
+        if (state == State.OPEN) {
+            if (nanoClock.getAsLong() - openedAt < settings.getOpenDuration().toNanos()) {
+                return REJECTED;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (probesIssued >= settings.getHalfOpenProbes()) {
+                return REJECTED;
+            }
+            probesIssued++;
+        }
+        return generation;
+    }
+
+    private synchronized void record(long permit, boolean failed, boolean slow) {
+        if (permit != generation) return;
+
+        if (recorded == failedCalls.length) {
+            // 가장 오래된 결과를 밀어냄
+            if (failedCalls[cursor]) failureCount--;
+            if (slowCalls[cursor]) slowCount--;
+        } else {
+            recorded++;
+        }
+        failedCalls[cursor] = failed;
+        slowCalls[cursor] = slow;
+        if (failed) failureCount++;
+        if (slow) slowCount++;
+        cursor = (cursor + 1) % failedCalls.length;
+
+        if (state == State.HALF_OPEN) {
+            if (recorded >= settings.getHalfOpenProbes()) {
+                transitionTo(exceedsThresholds() ? State.OPEN : State.CLOSED);
+            }
+        } else if (recorded >= settings.getMinimumCalls() && exceedsThresholds()) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    private boolean exceedsThresholds() {
+        double failureRate = failureCount * 100.0 / recorded;
+        double slowRate = slowCount * 100.0 / recorded;
+        return failureRate >= settings.getFailureRateThreshold() || slowRate >= settings.getSlowCallRateThreshold();
+    }
+
+    private void transitionTo(State next) {
+        System.out.println("==> [CircuitBreakerMatchEngine] " + state + " → " + next
+                + " (실패 " + failureCount + ", 느린 호출 " + slowCount + " / " + recorded + ")");
+        state = next;
+        generation++;
+        recorded = 0;
+        cursor = 0;
+        failureCount = 0;
+        slowCount = 0;
+        probesIssued = 0;
+        if (next == State.OPEN) {
+            openedAt = nanoClock.getAsLong();
+        }
+    }
+
+    private boolean isSlow(long startedAt) {
+        return nanoClock.getAsLong() - startedAt >= settings.getSlowCallDuration().toNanos();
+    }
+
+    private MatchDetailDto degraded(MatchDetailDto result) {
+        degradedCount.incrementAndGet();
+        result.setDegraded(true);
+        return result;
+    }
+}
@@ -0,0 +1,20 @@
+package com.talk.back.analysis.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * TextExtractor 결과
+ * - text     : 디코딩된 본문
+ * - charset  : 감지된 인코딩 (UTF-8 / UTF-16LE / UTF-16BE / x-windows-949)
+ * - byteCount: 읽은 원본 바이트 수
+ */
+@Getter
+@AllArgsConstructor
+@ToString(exclude = "text")
+public class ExtractedText {
+    private final String text;
+    private final String charset;
+    private final long byteCount;
+}
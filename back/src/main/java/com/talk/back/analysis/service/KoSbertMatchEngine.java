@@ -1,8 +1,13 @@
 package com.talk.back.analysis.service;
 
 import com.talk.back.analysis.dto.MatchDetailDto;
+import com.talk.back.analysis.embedding.FloatVectors;
+import com.talk.back.analysis.embedding.OriginalEmbeddingStore;
+import com.talk.back.analysis.fastapi.FastApiEmbedRequestDto;
+import com.talk.back.analysis.fastapi.FastApiEmbedResponseDto;
 import com.talk.back.analysis.fastapi.FastApiResponseDto;
-import org.springframework.context.annotation.Primary;
+import com.talk.back.util.TextHash;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
@@ -10,52 +15,161 @@ import org.springframework.web.client.RestTemplate;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiConsumer;
 
-@Primary
 @Component
 public class KoSbertMatchEngine implements MatchEngine {
 
-    private final RestTemplate restTemplate;
+    private final RestTemplate restTemplate; // 채점 서버 공용 클라이언트 (RestTemplateConfig, 주소는 fastapi.base-url)
+    private final OriginalEmbeddingStore embeddingStore;
+    private final boolean embeddingCacheEnabled;
+    private final int batchSize;
 
-    public KoSbertMatchEngine() {
-        this.restTemplate = new RestTemplate();
+    public KoSbertMatchEngine(RestTemplate restTemplate,
+                              OriginalEmbeddingStore embeddingStore,
+                              @Value("${analysis.embedding-cache.enabled:true}") boolean embeddingCacheEnabled,
+                              @Value("${analysis.batch.scorer-chunk-size:32}") int batchSize) {
+        this.restTemplate = restTemplate;
+        this.embeddingStore = embeddingStore;
+        this.embeddingCacheEnabled = embeddingCacheEnabled;
+        this.batchSize = Math.max(1, batchSize);
     }
 
     @Override
     public MatchDetailDto analyze(String originalText, String userText) {
-        Map<String, String> request = new HashMap<>();
-        request.put("original", originalText);
-        request.put("user", userText);
-
         try {
-            ResponseEntity<FastApiResponseDto> response = restTemplate.postForEntity(
-                    "http://localhost:8046/analyze",  // FastAPI 주소
-                    request,
-                    FastApiResponseDto.class
-            );
-
-            FastApiResponseDto body = response.getBody();
-            if (body == null) {
-                throw new RuntimeException("FastAPI 응답이 null입니다.");
-            }
+            double matchingRate = embeddingCacheEnabled
+                    ? scoreWithCachedOriginal(originalText, userText)
+                    : scoreRemotely(originalText, userText);
 
-            double matchingRate = body.getMatchingRate();  // 이제 제대로 접근 가능
+            return toDetail(originalText, userText, matchingRate);
 
+        } catch (Exception e) {
+            throw new RuntimeException("KoSBERT 서버 요청 실패: " + e.getMessage(), e);
+        }
+    }
 
-            return MatchDetailDto.builder()
-                    .matchingRate(matchingRate)
-                    .totalOriginalWords(originalText.length()) // 문맥 분석이므로 단어 수는 의미 없음
-                    .totalUserWords(userText.length())
-                    .matchedWords(0)
-                    .keywordMatches(List.of())  // 문맥 기반은 키워드 없음
-                    .missedKeywords(List.of())
-                    .extraKeywords(List.of())
-                    .originalLength(originalText.length())
-                    .userLength(userText.length())
-                    .build();
+    /**
+     * 원문 하나 + 사용자 텍스트 여러 개 채점
+     * - 원문 벡터는 한 번만 구하고, 사용자 텍스트는 batchSize 개씩 묶어서 /embed 호출
+     * - 묶음 하나가 끝날 때마다 결과를 onResult 로 바로 넘겨줌
+     */
+    @Override
+    public void analyzeBatch(String originalText, List<String> userTexts, BiConsumer<Integer, MatchDetailDto> onResult) {
+        if (!embeddingCacheEnabled) {
+            MatchEngine.super.analyzeBatch(originalText, userTexts, onResult);
+            return;
+        }
 
+        float[] originalVector;
+        try {
+            originalVector = originalVector(originalText);
         } catch (Exception e) {
             throw new RuntimeException("KoSBERT 서버 요청 실패: " + e.getMessage(), e);
         }
+
+        for (int from = 0; from < userTexts.size(); from += batchSize) {
+            List<String> chunk = userTexts.subList(from, Math.min(userTexts.size(), from + batchSize));
+            float[][] vectors;
+            try {
+                vectors = embed(chunk);
+            } catch (Exception e) {
+                throw new RuntimeException("KoSBERT 서버 요청 실패: " + e.getMessage(), e);
+            }
+
+            for (int j = 0; j < chunk.size(); j++) {
+                double matchingRate = toMatchingRate(FloatVectors.cosine(originalVector, vectors[j]));
+                onResult.accept(from + j, toDetail(originalText, chunk.get(j), matchingRate));
+            }
+        }
+    }
+
+    private MatchDetailDto toDetail(String originalText, String userText, double matchingRate) {
+        return MatchDetailDto.builder()
+                .matchingRate(matchingRate)
+                .totalOriginalWords(originalText.length()) // 문맥 분석이므로 단어 수는 의미 없음
+                .totalUserWords(userText.length())
+                .matchedWords(0)
+                .keywordMatches(List.of())  // 문맥 기반은 키워드 없음
+                .missedKeywords(List.of())
+                .extraKeywords(List.of())
+                .originalLength(originalText.length())
+                .userLength(userText.length())
+                .build();
+    }
+
+    /**
+     * 원문 임베딩 재사용 경로
+     * - 처음 보는 원문: 원문 + 사용자 텍스트를 한 번에 인코딩하고 원문 벡터를 저장
+     * - 이미 본 원문: 사용자 텍스트만 인코딩하고 코사인 유사도는 여기서 계산
+     */
+    private double scoreWithCachedOriginal(String originalText, String userText) {
+        String originalTextHash = TextHash.md5Hex(originalText);
+
+        float[] originalVector = embeddingStore.find(originalTextHash).orElse(null);
+        float[] userVector;
+        if (originalVector == null) {
+            float[][] vectors = embed(List.of(originalText, userText));
+            originalVector = vectors[0];
+            userVector = vectors[1];
+            embeddingStore.save(originalTextHash, originalVector);
+        } else {
+            userVector = embed(List.of(userText))[0];
+        }
+
+        return toMatchingRate(FloatVectors.cosine(originalVector, userVector));
+    }
+
+    /** 저장된 원문 벡터를 꺼내거나, 없으면 원문만 인코딩해서 저장 */
+    private float[] originalVector(String originalText) {
+        String originalTextHash = TextHash.md5Hex(originalText);
+        return embeddingStore.find(originalTextHash).orElseGet(() -> {
+            float[] vector = embed(List.of(originalText))[0];
+            embeddingStore.save(originalTextHash, vector);
+            return vector;
+        });
+    }
+
+    /** 기존 방식: FastAPI /analyze 에 원문과 사용자 텍스트를 모두 보내 점수를 받음 */
+    private double scoreRemotely(String originalText, String userText) {
+        Map<String, String> request = new HashMap<>();
+        request.put("original", originalText);
+        request.put("user", userText);
+
+        ResponseEntity<FastApiResponseDto> response = restTemplate.postForEntity(
+                "/analyze",  // FastAPI 주소 (rootUri 기준)
+                request,
+                FastApiResponseDto.class
+        );
+
+        FastApiResponseDto body = response.getBody();
+        if (body == null) {
+            throw new RuntimeException("FastAPI 응답이 null입니다.");
+        }
+        return body.getMatchingRate();
+    }
+
+    /** FastAPI /embed 호출 (texts 순서대로 벡터 반환) */
+    public float[][] embed(List<String> texts) {
+        FastApiEmbedResponseDto body = restTemplate.postForObject(
+                "/embed",
+                new FastApiEmbedRequestDto(texts),
+                FastApiEmbedResponseDto.class
+        );
+
+        if (body == null || body.getVectors() == null || body.getVectors().length != texts.size()) {
+            throw new RuntimeException("FastAPI 임베딩 응답이 올바르지 않습니다.");
+        }
+        return body.getVectors();
+    }
+
+    @Override
+    public String engineId() {
+        return "kosbert-v1";
+    }
+
+    /** FastAPI 와 같은 방식으로 반올림 (코사인 × 100, 소수 둘째 자리) */
+    static double toMatchingRate(double cosine) {
+        return Math.round(cosine * 100 * 100.0) / 100.0;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,64 @@
+package com.talk.back.analysis.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.talk.back.analysis.repository.AnalysisRecordRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * 라이브러리 전체 개수 캐시 (사용자 + 숨김 여부별)
+ * - 커서 조회는 개수가 필요할 때만 (includeCount=true) 여기서 가져감
+ * - 기록 저장 / 숨김 / 복원 / 숨김 기록 삭제 (HiddenRecordPurgeJob) 시 해당 사용자 값을 지움
+ * - 트랜잭션 안이면 커밋된 뒤에 지움 (커밋 전에 지우면 동시 조회가 옛 개수를 다시 채워 TTL 동안 남음)
+ */
+@Component
+public class LibraryCountCache {
+
+    private final AnalysisRecordRepository analysisRecordRepository;
+    private final Cache<Key, Long> counts;
+
+    public LibraryCountCache(AnalysisRecordRepository analysisRecordRepository,
+                             @Value("${analysis.library.count-cache.max-size:10000}") long maxSize,
+                             @Value("${analysis.library.count-cache.ttl:PT1M}") Duration ttl) {
+        this.analysisRecordRepository = analysisRecordRepository;
+        this.counts = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public long count(Long userId, boolean hidden) {
+        return counts.get(new Key(userId, hidden), key -> hidden
+                ? analysisRecordRepository.countByCreatedByUserIdAndIsHiddenTrue(userId)
+                : analysisRecordRepository.countByCreatedByUserIdAndIsHiddenFalse(userId));
+    }
+
+    public void evict(Long userId) {
+        if (userId == null) return;
+        afterCommit(() -> {
+            counts.invalidate(new Key(userId, true));
+            counts.invalidate(new Key(userId, false));
+        });
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record Key(Long userId, boolean hidden) {
+    }
+}
@@ -0,0 +1,38 @@
+package com.talk.back.analysis.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 라이브러리 커서 (마지막으로 내려준 기록의 createdAt, id)
+ * - 클라이언트에는 base64url 토큰으로만 전달 (내용에 의존하지 않도록)
+ * - FIRST: 첫 페이지 (모든 기록보다 뒤)
+ */
+public record LibraryCursor(LocalDateTime createdAt, long id) {
+
+    public static final LibraryCursor FIRST = new LibraryCursor(LocalDateTime.of(9999, 12, 31, 23, 59), Long.MAX_VALUE);
+
+    private static final char SEPARATOR = '|';
+
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** 토큰 → 커서 (비어 있으면 첫 페이지) */
+    public static LibraryCursor decode(String token) {
+        if (token == null || token.isBlank()) return FIRST;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) throw new IllegalArgumentException("잘못된 커서입니다: " + token);
+            return new LibraryCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            // NumberFormatException 도 IllegalArgumentException
+            throw new IllegalArgumentException("잘못된 커서입니다: " + token);
+        }
+    }
+}
@@ -3,6 +3,28 @@ package com.talk.back.analysis.service;
 
 import com.talk.back.analysis.dto.MatchDetailDto;
 
+import java.util.List;
+import java.util.function.BiConsumer;
+
 public interface MatchEngine {
     MatchDetailDto analyze(String originalText, String userText);
-}
\ No newline at end of file
+
+    /**
+     * 원문 하나에 사용자 텍스트 여러 개를 채점
+     * - 결과는 채점되는 대로 onResult(목록 순번, 결과) 로 전달됨
+     * - 기본 구현은 한 건씩 analyze 호출 (원격 엔진은 묶음 호출로 재정의)
+     */
+    default void analyzeBatch(String originalText, List<String> userTexts, BiConsumer<Integer, MatchDetailDto> onResult) {
+        for (int i = 0; i < userTexts.size(); i++) {
+            onResult.accept(i, analyze(originalText, userTexts.get(i)));
+        }
+    }
+
+    /**
+     * 엔진 식별자 (결과 캐시 키 등에 사용)
+     * - 같은 입력이라도 엔진이 다르면 결과가 달라지므로 구분이 필요함
+     */
+    default String engineId() {
+        return getClass().getSimpleName();
+    }
+}
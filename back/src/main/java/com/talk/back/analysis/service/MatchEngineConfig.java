@@ -0,0 +1,116 @@
+package com.talk.back.analysis.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Duration;
+
+/**
+ * 분석에 사용할 MatchEngine 구성
+ * - AnalysisService 에 주입되는 @Primary 엔진을 여기서 조립함
+ * - analysis.engine 으로 엔진 선택: kosbert(기본) / tfidf / word-overlap
+ * - KoSBERT 엔진 앞에는 결과 캐시를 씌움 (analysis.match-cache.enabled=false 로 끌 수 있음)
+ * - 그 바깥에 서킷 브레이커를 씌워 원격 서버 장애 시 단어 일치 엔진으로 대체 (analysis.breaker.enabled)
+ *   → 대체 결과는 캐시에 들어가지 않도록 브레이커가 가장 바깥에 위치
+ */
+@Configuration
+public class MatchEngineConfig {
+
+    @Value("${analysis.engine:kosbert}")
+    private String engineType;
+
+    @Value("${analysis.match-cache.enabled:true}")
+    private boolean cacheEnabled;
+
+    @Value("${analysis.match-cache.max-size:10000}")
+    private long cacheMaxSize;
+
+    @Value("${analysis.match-cache.ttl:PT30M}")
+    private Duration cacheTtl;
+
+    @Value("${analysis.breaker.enabled:true}")
+    private boolean breakerEnabled;
+
+    @Value("${analysis.breaker.window-size:20}")
+    private int breakerWindowSize;
+
+    @Value("${analysis.breaker.minimum-calls:10}")
+    private int breakerMinimumCalls;
+
+    @Value("${analysis.breaker.failure-rate-threshold:50}")
+    private double breakerFailureRateThreshold;
+
+    @Value("${analysis.breaker.slow-call-rate-threshold:80}")
+    private double breakerSlowCallRateThreshold;
+
+    @Value("${analysis.breaker.slow-call-duration:PT3S}")
+    private Duration breakerSlowCallDuration;
+
+    @Value("${analysis.breaker.open-duration:PT30S}")
+    private Duration breakerOpenDuration;
+
+    @Value("${analysis.breaker.half-open-probes:3}")
+    private int breakerHalfOpenProbes;
+
+    @Bean
+    @Primary
+    public MatchEngine matchEngine(KoSbertMatchEngine koSbertMatchEngine,
+                                   TfIdfMatchEngine tfIdfMatchEngine,
+                                   WordOverlapMatchEngine wordOverlapMatchEngine,
+                                   MeterRegistry meterRegistry) {
+        MatchEngine engine = switch (engineType) {
+            case "kosbert" -> koSbertMatchEngine;
+            case "tfidf" -> tfIdfMatchEngine;
+            case "word-overlap" -> wordOverlapMatchEngine;
+            default -> throw new IllegalStateException("알 수 없는 analysis.engine 값입니다: " + engineType);
+        };
+
+        // JVM 내부 엔진은 캐시 키(MD5) 계산 비용과 채점 비용이 비슷하고 장애 대체도 필요 없으므로 원격 엔진에만 적용
+        if (engine != koSbertMatchEngine) {
+            return engine;
+        }
+
+        if (cacheEnabled) {
+            CachingMatchEngine cachingEngine = new CachingMatchEngine(engine, cacheMaxSize, cacheTtl);
+            // actuator: /actuator/metrics/cache.gets?tag=cache:analysis.match 등으로 확인
+            CaffeineCacheMetrics.monitor(meterRegistry, cachingEngine.getCache(), "analysis.match");
+            engine = cachingEngine;
+        }
+
+        if (breakerEnabled) {
+            CircuitBreakerMatchEngine breakerEngine = new CircuitBreakerMatchEngine(engine, wordOverlapMatchEngine,
+                    CircuitBreakerMatchEngine.Settings.builder()
+                            .windowSize(breakerWindowSize)
+                            .minimumCalls(breakerMinimumCalls)
+                            .failureRateThreshold(breakerFailureRateThreshold)
+                            .slowCallRateThreshold(breakerSlowCallRateThreshold)
+                            .slowCallDuration(breakerSlowCallDuration)
+                            .openDuration(breakerOpenDuration)
+                            .halfOpenProbes(breakerHalfOpenProbes)
+                            .build());
+            registerBreakerMetrics(meterRegistry, breakerEngine);
+            engine = breakerEngine;
+        }
+        return engine;
+    }
+
+    /**
+     * actuator 로 브레이커 상태 노출
+     * - /actuator/metrics/analysis.match.breaker.state (0: CLOSED, 1: OPEN, 2: HALF_OPEN)
+     * - /actuator/metrics/analysis.match.breaker.degraded (대체 엔진 응답 누적 건수)
+     */
+    private static void registerBreakerMetrics(MeterRegistry registry, CircuitBreakerMatchEngine breaker) {
+        Gauge.builder("analysis.match.breaker.state", breaker, b -> b.getState().ordinal())
+                .description("KoSBERT 서킷 브레이커 상태 (0=CLOSED, 1=OPEN, 2=HALF_OPEN)")
+                .register(registry);
+        FunctionCounter.builder("analysis.match.breaker.degraded", breaker, CircuitBreakerMatchEngine::getDegradedCount)
+                .description("단어 일치 엔진으로 대체 채점한 건수")
+                .register(registry);
+    }
+}
@@ -0,0 +1,135 @@
+package com.talk.back.analysis.service;
+
+import com.talk.back.analysis.dto.MatchDetailDto;
+import com.talk.back.analysis.entity.AnalysisRecord;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 채점 결과(MatchDetailDto) ↔ analysis_record 컬럼 변환
+ * - 수치(단어 수, 길이, degraded)는 각자 정수 / 불리언 컬럼 → 관리자 통계에서 SQL 로 바로 집계
+ * - 키워드 목록 3개는 keyword_lists 한 컬럼에 바이트로 압축 저장, 상세 조회(readDetail)에서만 풀어냄
+ * - 형식: [버전 1바이트] + 목록 3개 × ([개수 varint] + 단어마다 [UTF-8 길이 varint][UTF-8 바이트])
+ *   JSON 대비 따옴표 / 키 이름 / 이스케이프가 없어 크기가 작고 파서 없이 한 번에 읽힘
+ */
+public final class MatchResultCodec {
+
+    private static final byte FORMAT_VERSION = 1;
+
+    private MatchResultCodec() {
+    }
+
+    /** 결과를 기록 컬럼에 기록 (result_json 은 더 이상 쓰지 않음) */
+    public static void write(MatchDetailDto result, AnalysisRecord record) {
+        record.setMatchingRate(result.getMatchingRate());
+        record.setTotalOriginalWords(result.getTotalOriginalWords());
+        record.setTotalUserWords(result.getTotalUserWords());
+        record.setMatchedWords(result.getMatchedWords());
+        record.setOriginalLength(result.getOriginalLength());
+        record.setUserLength(result.getUserLength());
+        record.setDegraded(result.isDegraded());
+        record.setKeywordLists(encodeKeywords(
+                result.getKeywordMatches(), result.getMissedKeywords(), result.getExtraKeywords()));
+        record.setResultJson(null);
+    }
+
+    /** 컬럼 형식으로 저장된 기록인지 (아니면 예전 result_json 기록) */
+    public static boolean isTyped(AnalysisRecord record) {
+        return record.getKeywordLists() != null;
+    }
+
+    /** 상세 조회: 수치 + 키워드 목록 */
+    public static MatchDetailDto readDetail(AnalysisRecord record) {
+        MatchDetailDto detail = readMetrics(record);
+        decodeKeywords(record.getKeywordLists(), detail);
+        return detail;
+    }
+
+    /** 수치만 (키워드 바이트는 건드리지 않음) */
+    public static MatchDetailDto readMetrics(AnalysisRecord record) {
+        return MatchDetailDto.builder()
+                .matchingRate(record.getMatchingRate() != null ? record.getMatchingRate() : 0.0)
+                .totalOriginalWords(orZero(record.getTotalOriginalWords()))
+                .totalUserWords(orZero(record.getTotalUserWords()))
+                .matchedWords(orZero(record.getMatchedWords()))
+                .originalLength(orZero(record.getOriginalLength()))
+                .userLength(orZero(record.getUserLength()))
+                .degraded(Boolean.TRUE.equals(record.getDegraded()))
+                .build();
+    }
+
+    public static byte[] encodeKeywords(List<String> matches, List<String> missed, List<String> extra) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64);
+        out.write(FORMAT_VERSION);
+        writeList(out, matches);
+        writeList(out, missed);
+        writeList(out, extra);
+        return out.toByteArray();
+    }
+
+    /** keyword_lists 바이트 → detail 의 키워드 목록 3개 */
+    public static void decodeKeywords(byte[] encoded, MatchDetailDto detail) {
+        if (encoded == null || encoded.length == 0) {
+            detail.setKeywordMatches(Collections.emptyList());
+            detail.setMissedKeywords(Collections.emptyList());
+            detail.setExtraKeywords(Collections.emptyList());
+            return;
+        }
+        if (encoded[0] != FORMAT_VERSION) {
+            throw new IllegalArgumentException("알 수 없는 키워드 형식입니다: " + encoded[0]);
+        }
+        int[] pos = {1};
+        detail.setKeywordMatches(readList(encoded, pos));
+        detail.setMissedKeywords(readList(encoded, pos));
+        detail.setExtraKeywords(readList(encoded, pos));
+    }
+
+    private static void writeList(ByteArrayOutputStream out, List<String> words) {
+        if (words == null) {
+            writeVarInt(out, 0);
+            return;
+        }
+        writeVarInt(out, words.size());
+        for (String word : words) {
+            byte[] bytes = word.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(out, bytes.length);
+            out.write(bytes, 0, bytes.length);
+        }
+    }
+
+    private static List<String> readList(byte[] in, int[] pos) {
+        int count = readVarInt(in, pos);
+        List<String> words = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int length = readVarInt(in, pos);
+            words.add(new String(in, pos[0], length, StandardCharsets.UTF_8));
+            pos[0] += length;
+        }
+        return words;
+    }
+
+    private static void writeVarInt(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private static int readVarInt(byte[] in, int[] pos) {
+        int value = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte b = in[pos[0]++];
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) return value;
+        }
+    }
+
+    private static int orZero(Integer value) {
+        return value != null ? value : 0;
+    }
+}
@@ -0,0 +1,98 @@
+package com.talk.back.analysis.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.talk.back.analysis.dto.MatchDetailDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 예전 analysis_record.result_json → 수치 컬럼 + keyword_lists 이전 작업
+ * - id 순서로 chunk-size 건씩 읽어 파싱하고, chunk 마다 트랜잭션 1개로 batch UPDATE (result_json 은 NULL 로 비움)
+ * - 파싱할 수 없는 JSON 은 그대로 두고 건너뜀 (getResult 가 계속 JSON 으로 읽음)
+ * - 옮길 기록이 없으면 첫 조회 한 번으로 끝남
+ */
+@Component
+@RequiredArgsConstructor
+public class MatchResultMigrationJob {
+
+    private static final String PENDING_SQL = """
+        SELECT id, result_json FROM analysis_record
+        WHERE id > ? AND keyword_lists IS NULL AND result_json IS NOT NULL
+        ORDER BY id
+        LIMIT ?
+    """;
+
+    private static final String UPDATE_SQL = """
+        UPDATE analysis_record
+        SET total_original_words = ?, total_user_words = ?, matched_words = ?, original_length = ?, user_length = ?,
+            degraded = ?, keyword_lists = ?, result_json = NULL
+        WHERE id = ?
+    """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${analysis.result-migration.enabled:true}")
+    private boolean enabled;
+
+    @Value("${analysis.result-migration.chunk-size:500}")
+    private int chunkSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateOnStartup() {
+        if (!enabled) return;
+
+        long startedAt = System.nanoTime();
+        int migrated = migrateAll();
+        System.out.println("==> [MatchResultMigrationJob::migrateOnStartup] 결과 JSON " + migrated + "건 이전 완료 ("
+                + (System.nanoTime() - startedAt) / 1_000_000 + "ms)");
+    }
+
+    /** 남은 result_json 기록을 모두 옮기고 옮긴 건수 반환 */
+    public int migrateAll() {
+        int migrated = 0;
+        long lastId = 0;
+        while (true) {
+            List<Object[]> updates = new ArrayList<>();
+            List<Long> ids = jdbcTemplate.query(PENDING_SQL, (rs, row) -> {
+                long id = rs.getLong("id");
+                Object[] update = toUpdate(id, rs.getString("result_json"));
+                if (update != null) updates.add(update);
+                return id;
+            }, lastId, chunkSize);
+            if (ids.isEmpty()) break;
+
+            if (!updates.isEmpty()) {
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(UPDATE_SQL, updates));
+                migrated += updates.size();
+            }
+            lastId = ids.get(ids.size() - 1);
+        }
+        return migrated;
+    }
+
+    private Object[] toUpdate(long id, String resultJson) {
+        MatchDetailDto result;
+        try {
+            result = objectMapper.readValue(resultJson, MatchDetailDto.class);
+        } catch (Exception e) {
+            System.out.println("⚠️ [MatchResultMigrationJob] 결과 JSON 파싱 실패 id=" + id + " " + e.getMessage());
+            return null;
+        }
+        return new Object[]{
+                result.getTotalOriginalWords(), result.getTotalUserWords(), result.getMatchedWords(),
+                result.getOriginalLength(), result.getUserLength(), result.isDegraded(),
+                MatchResultCodec.encodeKeywords(result.getKeywordMatches(), result.getMissedKeywords(), result.getExtraKeywords()),
+                id
+        };
+    }
+}
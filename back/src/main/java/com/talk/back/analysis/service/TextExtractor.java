@@ -2,13 +2,266 @@ package com.talk.back.analysis.service;
 
 import org.springframework.stereotype.Component;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 
+/**
+ * 업로드 .txt 본문 추출
+ * - InputStream 을 고정 크기 버퍼로 읽으면서 바로 디코딩 (파일 전체를 byte[] 로 들고 있지 않음)
+ * - 인코딩 감지: BOM → UTF-16(BOM 없는 한글 UTF-16 포함) → UTF-8 검증 → 아니면 CP949(EUC-KR 포함)
+ *   (앞부분 SNIFF_SIZE 바이트만 보고 판단)
+ * - textDigest 를 넘기면 디코딩된 글자를 UTF-8 로 바꿔 같은 루프에서 해시에 반영 (원문 해시용, 따로 한 번 더 읽지 않음)
+ * - rawCopy 를 넘기면 원본 바이트를 그대로 복사 (원본 파일 보관용)
+ */
 @Component
 public class TextExtractor {
+
+    static final int BUFFER_SIZE = 8 * 1024;
+    static final int SNIFF_SIZE = 64 * 1024;
+
+    static final Charset CP949 = Charset.forName("x-windows-949");
+
     // 현재는 .txt만 처리 (요구사항 기준)
     public String extractTxt(byte[] fileBytes) throws IOException {
-        return new String(fileBytes, StandardCharsets.UTF_8);
+        return extract(new ByteArrayInputStream(fileBytes), null, null).getText();
+    }
+
+    public ExtractedText extract(InputStream in, MessageDigest textDigest, OutputStream rawCopy) throws IOException {
+        // 1. 앞부분만 읽어서 인코딩 판단
+        byte[] sniff = new byte[SNIFF_SIZE];
+        int sniffLength = in.readNBytes(sniff, 0, SNIFF_SIZE);
+        boolean sniffIsWhole = sniffLength < SNIFF_SIZE;
+        if (rawCopy != null) rawCopy.write(sniff, 0, sniffLength);
+
+        Detected detected = detect(sniff, sniffLength, sniffIsWhole);
+        CharsetDecoder decoder = detected.charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+        StringBuilder text = new StringBuilder(sniffLength);
+        Utf8Digest digest = textDigest != null ? new Utf8Digest(textDigest) : null;
+        ByteBuffer bytes = ByteBuffer.allocate(BUFFER_SIZE);
+        CharBuffer chars = CharBuffer.allocate(BUFFER_SIZE);
+        long byteCount = sniffLength;
+        int sniffPosition = detected.bomLength;
+
+        // 2. 감지용으로 읽은 앞부분 → 나머지 스트림 순서로 버퍼를 채우며 디코딩
+        boolean endOfInput = false;
+        while (!endOfInput) {
+            while (bytes.hasRemaining()) {
+                if (sniffPosition < sniffLength) {
+                    int n = Math.min(bytes.remaining(), sniffLength - sniffPosition);
+                    bytes.put(sniff, sniffPosition, n);
+                    sniffPosition += n;
+                    continue;
+                }
+                int n = sniffIsWhole ? -1 : in.read(bytes.array(), bytes.position(), bytes.remaining());
+                if (n < 0) {
+                    endOfInput = true;
+                    break;
+                }
+                if (rawCopy != null) rawCopy.write(bytes.array(), bytes.position(), n);
+                bytes.position(bytes.position() + n);
+                byteCount += n;
+            }
+
+            bytes.flip();
+            while (true) {
+                CoderResult result = decoder.decode(bytes, chars, endOfInput);
+                if (result.isOverflow()) {
+                    drain(chars, text, digest);
+                    continue;
+                }
+                break; // underflow: 남은 바이트(잘린 멀티바이트 문자)는 다음 버퍼와 이어서 디코딩
+            }
+            bytes.compact();
+        }
+        while (decoder.flush(chars).isOverflow()) {
+            drain(chars, text, digest);
+        }
+        drain(chars, text, digest);
+        if (digest != null) digest.finish();
+
+        return new ExtractedText(text.toString(), detected.charset.name(), byteCount);
+    }
+
+    private static void drain(CharBuffer chars, StringBuilder text, Utf8Digest digest) {
+        chars.flip();
+        text.append(chars);
+        if (digest != null) digest.update(chars);
+        chars.clear();
+    }
+
+    // ===== 인코딩 감지 =====
+
+    private record Detected(Charset charset, int bomLength) { }
+
+    static Detected detect(byte[] b, int length, boolean complete) {
+        if (length >= 3 && (b[0] & 0xFF) == 0xEF && (b[1] & 0xFF) == 0xBB && (b[2] & 0xFF) == 0xBF) {
+            return new Detected(StandardCharsets.UTF_8, 3);
+        }
+        if (length >= 2 && (b[0] & 0xFF) == 0xFF && (b[1] & 0xFF) == 0xFE) {
+            return new Detected(StandardCharsets.UTF_16LE, 2);
+        }
+        if (length >= 2 && (b[0] & 0xFF) == 0xFE && (b[1] & 0xFF) == 0xFF) {
+            return new Detected(StandardCharsets.UTF_16BE, 2);
+        }
+
+        Charset utf16 = guessUtf16WithoutBom(b, length);
+        if (utf16 != null) {
+            return new Detected(utf16, 0);
+        }
+        if (isUtf8(b, length, complete)) {
+            return new Detected(StandardCharsets.UTF_8, 0);
+        }
+        return new Detected(CP949, 0);
+    }
+
+    /**
+     * BOM 없는 UTF-16 추정
+     * - 텍스트 파일의 UTF-8 / CP949 에는 0x00 바이트가 없지만, UTF-16 은 공백·ASCII 마다 상위 바이트가 0x00
+     * - 0x00 이 한쪽 자리(짝수/홀수)에만 충분히 나오고, 그 자리 바이트가 거의 다 0x00 또는 0xAC~0xD7(한글 음절 상위 바이트)이면 UTF-16
+     */
+    private static Charset guessUtf16WithoutBom(byte[] b, int length) {
+        int pairs = length / 2;
+        if (pairs < 4) return null;
+
+        int evenZeros = 0, oddZeros = 0, evenHits = 0, oddHits = 0;
+        for (int i = 0; i + 1 < length; i += 2) {
+            if (b[i] == 0) evenZeros++;
+            if (b[i + 1] == 0) oddZeros++;
+            if (isUtf16HighByte(b[i])) evenHits++;
+            if (isUtf16HighByte(b[i + 1])) oddHits++;
+        }
+        if (oddZeros >= pairs * 0.05 && evenZeros <= oddZeros / 10 && oddHits >= pairs * 0.9) {
+            return StandardCharsets.UTF_16LE;
+        }
+        if (evenZeros >= pairs * 0.05 && oddZeros <= evenZeros / 10 && evenHits >= pairs * 0.9) {
+            return StandardCharsets.UTF_16BE;
+        }
+        return null;
+    }
+
+    private static boolean isUtf16HighByte(byte b) {
+        int v = b & 0xFF;
+        return v == 0x00 || (v >= 0xAC && v <= 0xD7);
+    }
+
+    /** 엄격한 UTF-8 검증 (complete=false 면 끝에서 잘린 문자는 허용) */
+    private static boolean isUtf8(byte[] b, int length, boolean complete) {
+        int i = 0;
+        while (i < length) {
+            int v = b[i] & 0xFF;
+            int extra;
+            int min;
+            if (v < 0x80) {
+                i++;
+                continue;
+            } else if (v >= 0xC2 && v <= 0xDF) {
+                extra = 1;
+                min = 0x80;
+            } else if (v >= 0xE0 && v <= 0xEF) {
+                extra = 2;
+                min = 0x800;
+            } else if (v >= 0xF0 && v <= 0xF4) {
+                extra = 3;
+                min = 0x10000;
+            } else {
+                return false;
+            }
+
+            if (i + extra >= length) {
+                // 버퍼 끝에서 잘린 문자
+                if (complete) return false;
+                for (int k = i + 1; k < length; k++) {
+                    if ((b[k] & 0xC0) != 0x80) return false;
+                }
+                return true;
+            }
+
+            int codePoint = v & (0x3F >> extra);
+            for (int k = 1; k <= extra; k++) {
+                int c = b[i + k] & 0xFF;
+                if ((c & 0xC0) != 0x80) return false;
+                codePoint = (codePoint << 6) | (c & 0x3F);
+            }
+            if (codePoint < min || codePoint > 0x10FFFF || (codePoint >= 0xD800 && codePoint <= 0xDFFF)) {
+                return false;
+            }
+            i += extra + 1;
+        }
+        return true;
+    }
+
+    /**
+     * 글자를 UTF-8 바이트로 바꿔 MessageDigest 에 넣는 도우미
+     * - String.getBytes(UTF_8) 와 같은 바이트 (짝 없는 서로게이트는 '?')
+     * - 버퍼 경계에서 잘린 서로게이트 쌍도 이어서 처리
+     */
+    private static final class Utf8Digest {
+
+        private final MessageDigest digest;
+        private final byte[] scratch = new byte[BUFFER_SIZE * 3 + 4];
+        private char pendingHigh;
+
+        Utf8Digest(MessageDigest digest) {
+            this.digest = digest;
+        }
+
+        void update(CharBuffer chars) {
+            int n = 0;
+            for (int i = chars.position(); i < chars.limit(); i++) {
+                char c = chars.get(i);
+                if (n > scratch.length - 4) {
+                    digest.update(scratch, 0, n);
+                    n = 0;
+                }
+                if (pendingHigh != 0) {
+                    char high = pendingHigh;
+                    pendingHigh = 0;
+                    if (Character.isLowSurrogate(c)) {
+                        int cp = Character.toCodePoint(high, c);
+                        scratch[n++] = (byte) (0xF0 | (cp >> 18));
+                        scratch[n++] = (byte) (0x80 | ((cp >> 12) & 0x3F));
+                        scratch[n++] = (byte) (0x80 | ((cp >> 6) & 0x3F));
+                        scratch[n++] = (byte) (0x80 | (cp & 0x3F));
+                        continue;
+                    }
+                    scratch[n++] = '?';
+                }
+                if (c < 0x80) {
+                    scratch[n++] = (byte) c;
+                } else if (c < 0x800) {
+                    scratch[n++] = (byte) (0xC0 | (c >> 6));
+                    scratch[n++] = (byte) (0x80 | (c & 0x3F));
+                } else if (Character.isHighSurrogate(c)) {
+                    pendingHigh = c;
+                } else if (Character.isLowSurrogate(c)) {
+                    scratch[n++] = '?';
+                } else {
+                    scratch[n++] = (byte) (0xE0 | (c >> 12));
+                    scratch[n++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                    scratch[n++] = (byte) (0x80 | (c & 0x3F));
+                }
+            }
+            digest.update(scratch, 0, n);
+        }
+
+        void finish() {
+            if (pendingHigh != 0) {
+                digest.update((byte) '?');
+                pendingHigh = 0;
+            }
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,405 @@
+package com.talk.back.analysis.service;
+
+import com.talk.back.analysis.dto.MatchDetailDto;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * JVM 안에서 동작하는 TF-IDF 매칭 엔진 (HTTP 호출 없음)
+ * - 특징(feature): 한글 단어(2글자 이상) + 단어 안의 글자 2-gram / 3-gram
+ *   → 조사/어미가 붙어도("사과를", "사과는") 같은 어근이 겹치도록 함
+ * - IDF 는 원문 + 사용자 텍스트의 문장들을 문서로 보고 계산 (외부 말뭉치 불필요, 결과가 항상 같음)
+ * - 특징은 32비트 해시로 바꿔 정렬된 primitive 배열(희소 벡터)로만 다룸
+ * - 코사인 유사도 × 100 을 매칭률로 사용하고, 단어 단위 키워드(일치/누락/추가)도 채워줌
+ */
+@Component
+public class TfIdfMatchEngine implements MatchEngine {
+
+    private static final int KEYWORD_LIMIT = 10;
+
+    private static final int WORD_SEED = 0x9E3779B9;
+    private static final int BIGRAM_SEED = 0x85EBCA6B;
+    private static final int TRIGRAM_SEED = 0xC2B2AE35;
+
+    @Override
+    public MatchDetailDto analyze(String originalText, String userText) {
+        String original = originalText == null ? "" : originalText;
+        String user = userText == null ? "" : userText;
+
+        Features o = Features.extract(original, 0);
+        Features u = Features.extract(user, o.sentenceCount);
+
+        // 문장 단위 문서 빈도 (원문 + 사용자 텍스트 전체 문장 기준)
+        int documents = Math.max(1, o.sentenceCount + u.sentenceCount);
+        SparseCounts df = documentFrequency(o, u);
+
+        SparseVector ov = SparseVector.tfidf(o.features, o.featureCount, df, documents);
+        SparseVector uv = SparseVector.tfidf(u.features, u.featureCount, df, documents);
+        double cosine = ov.cosine(uv);
+
+        // 단어 단위 키워드
+        Words ow = Words.unique(o, original, ov);
+        Words uw = Words.unique(u, user, uv);
+
+        int[] matched = new int[ow.size];
+        int[] missed = new int[ow.size];
+        int matchedCount = 0, missedCount = 0;
+        for (int i = 0; i < ow.size; i++) {
+            if (uw.contains(ow, i)) matched[matchedCount++] = i;
+            else missed[missedCount++] = i;
+        }
+        int[] extra = new int[uw.size];
+        int extraCount = 0;
+        for (int i = 0; i < uw.size; i++) {
+            if (!ow.contains(uw, i)) extra[extraCount++] = i;
+        }
+
+        double matchingRate = Math.round(cosine * 100 * 100.0) / 100.0;
+
+        return MatchDetailDto.builder()
+                .matchingRate(matchingRate)
+                .totalOriginalWords(ow.size)
+                .totalUserWords(uw.size)
+                .matchedWords(matchedCount)
+                .keywordMatches(ow.top(matched, matchedCount, KEYWORD_LIMIT))
+                .missedKeywords(ow.top(missed, missedCount, KEYWORD_LIMIT))
+                .extraKeywords(uw.top(extra, extraCount, KEYWORD_LIMIT))
+                .originalLength(original.length())
+                .userLength(user.length())
+                .build();
+    }
+
+    @Override
+    public String engineId() {
+        return "tfidf-v1";
+    }
+
+    /** 특징별로 몇 개의 문장에 등장했는지 계산 */
+    private static SparseCounts documentFrequency(Features o, Features u) {
+        long[] keys = new long[o.featureCount + u.featureCount];
+        int n = 0;
+        for (int i = 0; i < o.featureCount; i++) keys[n++] = sentenceKey(o.sentences[i], o.features[i]);
+        for (int i = 0; i < u.featureCount; i++) keys[n++] = sentenceKey(u.sentences[i], u.features[i]);
+        Arrays.sort(keys, 0, n);
+
+        // (문장, 특징) 중복 제거 후 특징만 모아서 다시 개수 세기
+        int[] perSentence = new int[n];
+        int m = 0;
+        for (int i = 0; i < n; i++) {
+            if (i == 0 || keys[i] != keys[i - 1]) perSentence[m++] = (int) keys[i];
+        }
+        return SparseCounts.of(perSentence, m);
+    }
+
+    private static long sentenceKey(int sentence, int feature) {
+        return ((long) sentence << 32) | (feature & 0xFFFFFFFFL);
+    }
+
+    private static boolean isHangulSyllable(char c) {
+        return c >= '가' && c <= '힣';
+    }
+
+    private static boolean isSentenceEnd(char c) {
+        return c == '.' || c == '?' || c == '!' || c == '\n';
+    }
+
+    /** text[start, end) 범위 해시 (문자열을 만들지 않음) */
+    private static int hash(int seed, String text, int start, int end) {
+        int h = seed;
+        for (int i = start; i < end; i++) {
+            h = 31 * h + text.charAt(i);
+        }
+        // murmur3 fmix32 로 비트를 고르게 섞음
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    /** 텍스트 한 개에서 뽑은 특징 목록 (특징 해시 + 문장 번호, 단어 위치) */
+    private static final class Features {
+        int[] features = new int[64];
+        int[] sentences = new int[64];
+        int featureCount;
+
+        int[] wordHashes = new int[16];
+        int[] wordStarts = new int[16];
+        int[] wordLengths = new int[16];
+        int wordCount;
+
+        int sentenceCount;
+
+        private int currentSentence = -1;
+        private boolean newSentence = true;
+
+        static Features extract(String text, int sentenceBase) {
+            Features f = new Features();
+            f.currentSentence = sentenceBase - 1;
+
+            int start = -1;
+            for (int i = 0, len = text.length(); i < len; i++) {
+                char c = text.charAt(i);
+                if (isHangulSyllable(c)) {
+                    if (start < 0) start = i;
+                    continue;
+                }
+                if (start >= 0) {
+                    f.token(text, start, i);
+                    start = -1;
+                }
+                if (isSentenceEnd(c)) f.newSentence = true;
+            }
+            if (start >= 0) f.token(text, start, text.length());
+            return f;
+        }
+
+        private void token(String text, int start, int end) {
+            if (end - start < 2) return; // 2글자 이상만 (KoreanTokenizer 와 동일)
+
+            if (newSentence) {
+                currentSentence++;
+                sentenceCount++;
+                newSentence = false;
+            }
+
+            int wordHash = hash(WORD_SEED, text, start, end);
+            addWord(wordHash, start, end - start);
+            add(wordHash);
+            for (int k = start; k + 2 <= end; k++) add(hash(BIGRAM_SEED, text, k, k + 2));
+            for (int k = start; k + 3 <= end; k++) add(hash(TRIGRAM_SEED, text, k, k + 3));
+        }
+
+        private void add(int feature) {
+            if (featureCount == features.length) {
+                features = Arrays.copyOf(features, featureCount * 2);
+                sentences = Arrays.copyOf(sentences, featureCount * 2);
+            }
+            features[featureCount] = feature;
+            sentences[featureCount] = currentSentence;
+            featureCount++;
+        }
+
+        private void addWord(int hash, int start, int length) {
+            if (wordCount == wordHashes.length) {
+                wordHashes = Arrays.copyOf(wordHashes, wordCount * 2);
+                wordStarts = Arrays.copyOf(wordStarts, wordCount * 2);
+                wordLengths = Arrays.copyOf(wordLengths, wordCount * 2);
+            }
+            wordHashes[wordCount] = hash;
+            wordStarts[wordCount] = start;
+            wordLengths[wordCount] = length;
+            wordCount++;
+        }
+    }
+
+    /** 정렬된 (특징, 개수) 배열 */
+    private static final class SparseCounts {
+        final int[] keys;
+        final int[] counts;
+        final int size;
+
+        private SparseCounts(int[] keys, int[] counts, int size) {
+            this.keys = keys;
+            this.counts = counts;
+            this.size = size;
+        }
+
+        static SparseCounts of(int[] values, int length) {
+            int[] sorted = Arrays.copyOf(values, length);
+            Arrays.sort(sorted);
+            int[] keys = new int[length];
+            int[] counts = new int[length];
+            int size = 0;
+            for (int i = 0; i < length; i++) {
+                if (size > 0 && keys[size - 1] == sorted[i]) {
+                    counts[size - 1]++;
+                } else {
+                    keys[size] = sorted[i];
+                    counts[size] = 1;
+                    size++;
+                }
+            }
+            return new SparseCounts(keys, counts, size);
+        }
+
+        int get(int key) {
+            int i = Arrays.binarySearch(keys, 0, size, key);
+            return i >= 0 ? counts[i] : 0;
+        }
+    }
+
+    /** TF-IDF 희소 벡터 (인덱스 오름차순) */
+    private static final class SparseVector {
+        final int[] indices;
+        final float[] weights;
+        final int size;
+        final double norm;
+
+        private SparseVector(int[] indices, float[] weights, int size) {
+            this.indices = indices;
+            this.weights = weights;
+            this.size = size;
+            double sum = 0;
+            for (int i = 0; i < size; i++) sum += (double) weights[i] * weights[i];
+            this.norm = Math.sqrt(sum);
+        }
+
+        static SparseVector tfidf(int[] features, int length, SparseCounts df, int documents) {
+            SparseCounts tf = SparseCounts.of(features, length);
+            float[] weights = new float[tf.size];
+            for (int i = 0; i < tf.size; i++) {
+                // sklearn smooth_idf 와 같은 식: ln((1 + N) / (1 + df)) + 1
+                double idf = Math.log((1.0 + documents) / (1.0 + df.get(tf.keys[i]))) + 1.0;
+                weights[i] = (float) (tf.counts[i] * idf);
+            }
+            return new SparseVector(tf.keys, weights, tf.size);
+        }
+
+        float weight(int index) {
+            int i = Arrays.binarySearch(indices, 0, size, index);
+            return i >= 0 ? weights[i] : 0f;
+        }
+
+        double cosine(SparseVector other) {
+            if (norm == 0 || other.norm == 0) return 0.0;
+            double dot = 0;
+            int i = 0, j = 0;
+            while (i < size && j < other.size) {
+                int a = indices[i], b = other.indices[j];
+                if (a == b) {
+                    dot += (double) weights[i++] * other.weights[j++];
+                } else if (a < b) {
+                    i++;
+                } else {
+                    j++;
+                }
+            }
+            return dot / (norm * other.norm);
+        }
+    }
+
+    /** 텍스트 안의 서로 다른 단어들 (첫 등장 순서, TF-IDF 가중치 포함) */
+    private static final class Words {
+        final String text;
+        final int[] starts;
+        final int[] lengths;
+        final float[] weights;
+        final int size;
+
+        // 해시로 찾기 위한 색인 (해시 오름차순 → 단어 번호)
+        final int[] sortedHashes;
+        final int[] sortedIndex;
+
+        private Words(String text, int[] starts, int[] lengths, float[] weights, int size,
+                      int[] sortedHashes, int[] sortedIndex) {
+            this.text = text;
+            this.starts = starts;
+            this.lengths = lengths;
+            this.weights = weights;
+            this.size = size;
+            this.sortedHashes = sortedHashes;
+            this.sortedIndex = sortedIndex;
+        }
+
+        static Words unique(Features f, String text, SparseVector vector) {
+            // (해시, 등장 순서) 로 정렬하면 같은 단어 중 첫 등장이 먼저 옴
+            // 해시가 같아도 글자가 다르면 (충돌) 다른 단어로 남김 → sortedHashes 에 같은 해시가 연달아 있을 수 있음
+            long[] keys = new long[f.wordCount];
+            for (int i = 0; i < f.wordCount; i++) {
+                keys[i] = ((long) f.wordHashes[i] << 32) | i;
+            }
+            Arrays.sort(keys);
+
+            int[] sortedHashes = new int[f.wordCount];
+            int[] firstOccurrence = new int[f.wordCount];
+            int size = 0;
+            int runStart = 0; // 지금 해시와 같은 해시가 시작된 위치
+            for (int k = 0; k < f.wordCount; k++) {
+                int hash = (int) (keys[k] >> 32);
+                int w = (int) keys[k];
+                if (size == 0 || sortedHashes[size - 1] != hash) {
+                    runStart = size;
+                } else if (seen(f, text, firstOccurrence, runStart, size, w)) {
+                    continue;
+                }
+                sortedHashes[size] = hash;
+                firstOccurrence[size] = w;
+                size++;
+            }
+
+            // 첫 등장 순서로 다시 나열
+            int[] order = Arrays.copyOf(firstOccurrence, size);
+            Arrays.sort(order);
+
+            int[] starts = new int[size];
+            int[] lengths = new int[size];
+            float[] weights = new float[size];
+            for (int i = 0; i < size; i++) {
+                int w = order[i];
+                starts[i] = f.wordStarts[w];
+                lengths[i] = f.wordLengths[w];
+                weights[i] = vector.weight(f.wordHashes[w]);
+            }
+
+            int[] sortedIndex = new int[size];
+            for (int k = 0; k < size; k++) {
+                sortedIndex[k] = Arrays.binarySearch(order, firstOccurrence[k]);
+            }
+            return new Words(text, starts, lengths, weights, size, sortedHashes, sortedIndex);
+        }
+
+        // firstOccurrence[from, to) 단어 중 w 번째 단어와 글자가 같은 것이 있는지
+        private static boolean seen(Features f, String text, int[] firstOccurrence, int from, int to, int w) {
+            for (int k = from; k < to; k++) {
+                int v = firstOccurrence[k];
+                if (f.wordLengths[v] == f.wordLengths[w]
+                        && text.regionMatches(f.wordStarts[v], text, f.wordStarts[w], f.wordLengths[w])) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /** other 의 i번째 단어가 이 텍스트에도 있는지 (해시 충돌은 실제 글자로 확인) */
+        boolean contains(Words other, int i) {
+            int otherHash = other.hashOf(i);
+            int k = Arrays.binarySearch(sortedHashes, 0, size, otherHash);
+            if (k < 0) return false;
+            while (k > 0 && sortedHashes[k - 1] == otherHash) k--;
+            for (; k < size && sortedHashes[k] == otherHash; k++) {
+                int j = sortedIndex[k];
+                if (lengths[j] == other.lengths[i]
+                        && text.regionMatches(starts[j], other.text, other.starts[i], lengths[j])) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private int hashOf(int i) {
+            return hash(WORD_SEED, text, starts[i], starts[i] + lengths[i]);
+        }
+
+        /** 가중치가 큰 순서로 최대 limit 개 단어만 문자열로 만듦 (같으면 먼저 나온 단어 우선) */
+        List<String> top(int[] candidates, int count, int limit) {
+            long[] keys = new long[count];
+            for (int c = 0; c < count; c++) {
+                int i = candidates[c];
+                keys[c] = ((long) Float.floatToIntBits(weights[i]) << 32) | (Integer.MAX_VALUE - i);
+            }
+            Arrays.sort(keys);
+
+            List<String> result = new ArrayList<>(Math.min(limit, count));
+            for (int c = count - 1; c >= 0 && result.size() < limit; c--) {
+                int i = Integer.MAX_VALUE - (int) keys[c];
+                result.add(text.substring(starts[i], starts[i] + lengths[i]));
+            }
+            return result;
+        }
+    }
+}
@@ -3,47 +3,74 @@ package com.talk.back.analysis.service;
 
 import com.talk.back.analysis.dto.MatchDetailDto;
 import com.talk.back.util.KoreanTokenizer;
+import com.talk.back.util.TokenHashSet;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
+/**
+ * 단어 겹침 엔진
+ * - 원문 / 사용자 텍스트의 고유 단어 집합을 비교해서 매칭률 = 교집합 / max(원문 고유 단어 수, 사용자 고유 단어 수)
+ * - 토큰은 해시 / 위치로만 다루고 (TokenHashSet), DTO 에 들어갈 상위 TOP_N 단어만 문자열로 만듦
+ * - 사용자 토큰을 한 번 훑으면서 교집합 / 사용자에만 있는 단어 / (표시만 해 두고) 원문에만 있는 단어를 함께 계산
+ * - 키워드 목록은 텍스트에 처음 나온 순서
+ */
 @Component
 public class WordOverlapMatchEngine implements MatchEngine {
 
+    private static final int TOP_N = 10;
+
     @Override
     public MatchDetailDto analyze(String originalText, String userText) {
-        List<String> oWords = KoreanTokenizer.tokenize(originalText);
-        List<String> uWords = KoreanTokenizer.tokenize(userText);
+        KoreanTokenizer.TokenBuffer oTokens = new KoreanTokenizer.TokenBuffer();
+        KoreanTokenizer.TokenBuffer uTokens = new KoreanTokenizer.TokenBuffer();
+        KoreanTokenizer.scan(originalText, oTokens);
+        KoreanTokenizer.scan(userText, uTokens);
+
+        TokenHashSet oSet = TokenHashSet.of(oTokens);
+        TokenHashSet uSet = new TokenHashSet(uTokens, TokenHashSet.initialSize(uTokens));
+        boolean[] matched = new boolean[oSet.size()];
 
-        Set<String> oSet = new HashSet<>(oWords);
-        Set<String> uSet = new HashSet<>(uWords);
+        List<String> keywordMatches = new ArrayList<>(TOP_N);
+        List<String> extraKeywords = new ArrayList<>(TOP_N);
+        int intersection = 0;
 
-        Set<String> intersection = oSet.stream()
-                .filter(uSet::contains)
-                .collect(Collectors.toSet());
+        for (int j = 0; j < uTokens.size(); j++) {
+            if (uSet.addIfAbsent(j) < 0) continue; // 이미 본 사용자 단어
 
-        Set<String> originalOnly = oSet.stream()
-                .filter(w -> !uSet.contains(w))
-                .collect(Collectors.toSet());
+            int o = oSet.find(uTokens, j);
+            if (o >= 0) {
+                matched[o] = true;
+                intersection++;
+                if (keywordMatches.size() < TOP_N) keywordMatches.add(uTokens.token(j));
+            } else if (extraKeywords.size() < TOP_N) {
+                extraKeywords.add(uTokens.token(j));
+            }
+        }
 
-        Set<String> userOnly = uSet.stream()
-                .filter(w -> !oSet.contains(w))
-                .collect(Collectors.toSet());
+        List<String> missedKeywords = new ArrayList<>(TOP_N);
+        for (int o = 0; o < matched.length && missedKeywords.size() < TOP_N; o++) {
+            if (!matched[o]) missedKeywords.add(oTokens.token(oSet.token(o)));
+        }
 
-        double matchingRate = (intersection.size() /
-                (double) Math.max(oSet.size(), uSet.size())) * 100.0;
+        int denominator = Math.max(oSet.size(), uSet.size());
+        double matchingRate = denominator == 0 ? 0.0 : (intersection / (double) denominator) * 100.0;
 
         return MatchDetailDto.builder()
                 .matchingRate(Math.round(matchingRate * 100.0) / 100.0)
                 .totalOriginalWords(oSet.size())
                 .totalUserWords(uSet.size())
-                .matchedWords(intersection.size())
-                .keywordMatches(intersection.stream().limit(10).toList())
-                .missedKeywords(originalOnly.stream().limit(10).toList())
-                .extraKeywords(userOnly.stream().limit(10).toList())
-                .originalLength(originalText.length())
-                .userLength(userText.length())
+                .matchedWords(intersection)
+                .keywordMatches(keywordMatches)
+                .missedKeywords(missedKeywords)
+                .extraKeywords(extraKeywords)
+                .originalLength(originalText == null ? 0 : originalText.length())
+                .userLength(userText == null ? 0 : userText.length())
                 .build();
     }
-}
\ No newline at end of file
+
+    @Override
+    public String engineId() {
+        return "word-overlap-v2";
+    }
+}
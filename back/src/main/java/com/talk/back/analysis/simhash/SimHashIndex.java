@@ -0,0 +1,156 @@
+package com.talk.back.analysis.simhash;
+
+import com.talk.back.util.SimHash;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * SimHash 근접 검색 색인 (메모리)
+ * - 64비트 지문을 (maxDistance + 1) 개 구간으로 나눔 → 해밍 거리가 maxDistance 이하인 두 지문은 적어도 한 구간이 완전히 같음
+ * - 구간마다 테이블 1개 (구간 값 → 버킷), 검색은 구간 수만큼 버킷을 꺼내 후보만 bitCount 로 비교
+ *   예) maxDistance=4 → 13비트 구간 5개, 기록 100만 건이어도 후보는 수백 건 → 1ms 미만
+ * - 버킷은 copy-on-write 배열이라 검색은 잠금 없이, 추가 / 삭제만 버킷 단위로 동기화
+ * - 같은 기록 id 는 한 번만 색인 (기동 시 SimHashIndexLoader 가 훑는 동안 새로 저장된 기록이 두 번 들어올 수 있음)
+ * - 항목은 분석 기록 id + 작성자 id + 지문 (같은 사용자의 기록만 돌려줌)
+ */
+@Component
+public class SimHashIndex {
+
+    private final int maxDistance;
+    private final int[] bandShift;
+    private final int[] bandBits;
+    private final List<ConcurrentHashMap<Integer, Bucket>> tables;
+    private final AtomicInteger size = new AtomicInteger();
+    private volatile boolean ready;
+
+    public SimHashIndex(@Value("${analysis.simhash.max-distance:4}") int maxDistance) {
+        if (maxDistance < 0 || maxDistance > 15) {
+            throw new IllegalArgumentException("analysis.simhash.max-distance 는 0 ~ 15 사이여야 합니다: " + maxDistance);
+        }
+        this.maxDistance = maxDistance;
+
+        int bands = maxDistance + 1;
+        this.bandShift = new int[bands];
+        this.bandBits = new int[bands];
+        this.tables = new ArrayList<>(bands);
+        int shift = 0;
+        for (int band = 0; band < bands; band++) {
+            bandBits[band] = 64 / bands + (band < 64 % bands ? 1 : 0);
+            bandShift[band] = shift;
+            shift += bandBits[band];
+            tables.add(new ConcurrentHashMap<>());
+        }
+    }
+
+    /** 작성자 없는 기록 / 빈 지문은 색인하지 않음, 이미 색인된 id 면 항목만 바꿔 끼움 */
+    public void add(Long recordId, Long ownerId, long fingerprint) {
+        if (recordId == null || ownerId == null || fingerprint == SimHash.EMPTY) return;
+        Entry entry = new Entry(recordId, ownerId, fingerprint);
+        boolean added = false;
+        for (int band = 0; band < tables.size(); band++) {
+            added |= tables.get(band).computeIfAbsent(bandKey(fingerprint, band), key -> new Bucket()).add(entry);
+        }
+        if (added) size.incrementAndGet();
+    }
+
+    public void remove(long recordId, long fingerprint) {
+        if (fingerprint == SimHash.EMPTY) return;
+        boolean removed = false;
+        for (int band = 0; band < tables.size(); band++) {
+            Bucket bucket = tables.get(band).get(bandKey(fingerprint, band));
+            if (bucket != null) removed |= bucket.remove(recordId);
+        }
+        if (removed) size.decrementAndGet();
+    }
+
+    /**
+     * ownerId 의 기록 중 fingerprint 와 해밍 거리 maxDistance 이하인 기록 id (excludeId 제외, 순서 없음)
+     */
+    public Set<Long> findNear(long fingerprint, Long ownerId, Long excludeId) {
+        Set<Long> result = new HashSet<>();
+        if (ownerId == null || fingerprint == SimHash.EMPTY) return result;
+
+        for (int band = 0; band < tables.size(); band++) {
+            Bucket bucket = tables.get(band).get(bandKey(fingerprint, band));
+            if (bucket == null) continue;
+            for (Entry entry : bucket.entries) {
+                if (entry.ownerId == ownerId
+                        && (excludeId == null || entry.recordId != excludeId)
+                        && SimHash.distance(entry.fingerprint, fingerprint) <= maxDistance) {
+                    result.add(entry.recordId);
+                }
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    public int getMaxDistance() {
+        return maxDistance;
+    }
+
+    /** 기동 시 DB 에서 다시 채우는 작업이 끝났는지 (SimHashIndexLoader) */
+    public boolean isReady() {
+        return ready;
+    }
+
+    void markReady() {
+        this.ready = true;
+    }
+
+    private int bandKey(long fingerprint, int band) {
+        return (int) ((fingerprint >>> bandShift[band]) & ((1L << bandBits[band]) - 1));
+    }
+
+    private record Entry(long recordId, long ownerId, long fingerprint) {
+    }
+
+    // 검색은 entries 를 그대로 읽고, 변경은 새 배열로 바꿔 끼움
+    private static final class Bucket {
+        private static final Entry[] EMPTY = new Entry[0];
+
+        private volatile Entry[] entries = EMPTY;
+
+        // 같은 id 가 있으면 그 자리에 바꿔 끼우고 false
+        synchronized boolean add(Entry entry) {
+            Entry[] current = entries;
+            for (int i = 0; i < current.length; i++) {
+                if (current[i].recordId == entry.recordId) {
+                    Entry[] next = current.clone();
+                    next[i] = entry;
+                    entries = next;
+                    return false;
+                }
+            }
+            Entry[] next = new Entry[current.length + 1];
+            System.arraycopy(current, 0, next, 0, current.length);
+            next[current.length] = entry;
+            entries = next;
+            return true;
+        }
+
+        synchronized boolean remove(long recordId) {
+            Entry[] current = entries;
+            for (int i = 0; i < current.length; i++) {
+                if (current[i].recordId == recordId) {
+                    Entry[] next = new Entry[current.length - 1];
+                    System.arraycopy(current, 0, next, 0, i);
+                    System.arraycopy(current, i + 1, next, i, current.length - i - 1);
+                    entries = next;
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
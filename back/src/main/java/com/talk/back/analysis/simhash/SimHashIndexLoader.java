@@ -0,0 +1,105 @@
+package com.talk.back.analysis.simhash;
+
+import com.talk.back.util.SimHash;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 기동 시 SimHashIndex 재구성
+ * - id 범위를 threads 개로 나눠 병렬로 훑고, 각 범위는 chunk-size 건씩 keyset 으로 읽음
+ * - sim_hash 가 비어 있는 예전 기록은 이때 original_text 로 지문을 계산해서 채워 넣음 (다음 기동부터는 id / 작성자 / 지문만 읽음)
+ */
+@Component
+@RequiredArgsConstructor
+public class SimHashIndexLoader {
+
+    private static final String SCAN_SQL = """
+        SELECT id, created_by, sim_hash, CASE WHEN sim_hash IS NULL THEN original_text END AS pending_text
+        FROM analysis_record
+        WHERE id > ? AND id <= ?
+        ORDER BY id
+        LIMIT ?
+    """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SimHashIndex simHashIndex;
+
+    @Value("${analysis.simhash.rebuild-threads:4}")
+    private int threads;
+
+    @Value("${analysis.simhash.chunk-size:5000}")
+    private int chunkSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() throws Exception {
+        long startedAt = System.nanoTime();
+        long[] bounds = jdbcTemplate.queryForObject("SELECT MIN(id), MAX(id) FROM analysis_record",
+                (rs, row) -> new long[]{rs.getLong(1), rs.getLong(2)});
+
+        int loaded = 0;
+        if (bounds != null && bounds[1] > 0) {
+            long from = bounds[0] - 1;
+            long span = (bounds[1] - from + threads - 1) / threads;
+
+            ExecutorService pool = Executors.newFixedThreadPool(threads);
+            try {
+                List<Future<Integer>> parts = new ArrayList<>();
+                for (int t = 0; t < threads; t++) {
+                    long lower = from + span * t;
+                    long upper = Math.min(lower + span, bounds[1]);
+                    if (lower >= upper) break;
+                    parts.add(pool.submit(() -> scanRange(lower, upper)));
+                }
+                for (Future<Integer> part : parts) {
+                    loaded += part.get();
+                }
+            } finally {
+                pool.shutdown();
+            }
+        }
+
+        simHashIndex.markReady();
+        System.out.println("==> [SimHashIndexLoader::rebuild] " + loaded + "건 색인 ("
+                + (System.nanoTime() - startedAt) / 1_000_000 + "ms)");
+    }
+
+    // (lower, upper] 범위 색인 + 빠진 지문 채우기
+    private int scanRange(long lower, long upper) {
+        int loaded = 0;
+        long lastId = lower;
+        while (true) {
+            List<Object[]> backfill = new ArrayList<>();
+            List<Long> ids = jdbcTemplate.query(SCAN_SQL, (rs, row) -> {
+                long id = rs.getLong("id");
+                long ownerId = rs.getLong("created_by");
+                Long owner = rs.wasNull() ? null : ownerId;
+
+                long fingerprint = rs.getLong("sim_hash");
+                if (rs.wasNull()) {
+                    fingerprint = SimHash.fingerprint(rs.getString("pending_text"));
+                    backfill.add(new Object[]{fingerprint, id});
+                }
+                simHashIndex.add(id, owner, fingerprint);
+                return id;
+            }, lastId, upper, chunkSize);
+
+            if (!backfill.isEmpty()) {
+                jdbcTemplate.batchUpdate("UPDATE analysis_record SET sim_hash = ? WHERE id = ?", backfill);
+            }
+            loaded += ids.size();
+            if (ids.size() < chunkSize) break;
+            lastId = ids.get(ids.size() - 1);
+        }
+        return loaded;
+    }
+}
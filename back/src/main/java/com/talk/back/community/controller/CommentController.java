@@ -2,6 +2,7 @@ package com.talk.back.community.controller;
 
 import com.talk.back.auth.entity.CustomUserDetails;
 import com.talk.back.community.dto.CommentCreateDto;
+import com.talk.back.community.dto.CommentLikeResultDto;
 import com.talk.back.community.dto.CommentReportDto;
 import com.talk.back.community.dto.CommentResponseDto;
 import com.talk.back.community.dto.CommentUpdateDto;
@@ -64,6 +65,36 @@ public class CommentController {
         return ResponseEntity.ok(updated);
     }
 
+    // 좋아요 (PUT) / 좋아요 취소 (DELETE): 여러 번 보내도 결과가 같음 (더블 클릭 안전)
+    @PutMapping("/comments/{commentId}/like")
+    public ResponseEntity<?> like(
+            @PathVariable Long commentId,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        if (userDetails == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        try {
+            return ResponseEntity.ok(commentService.like(userDetails.getUser(), commentId));
+        } catch (IllegalArgumentException e) {
+            // 없는 댓글 / 삭제 / 신고 누적 숨김 댓글
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @DeleteMapping("/comments/{commentId}/like")
+    public ResponseEntity<CommentLikeResultDto> unlike(
+            @PathVariable Long commentId,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        if (userDetails == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        return ResponseEntity.ok(commentService.unlike(userDetails.getUser(), commentId));
+    }
+
     @PatchMapping("/comments/{commentId}/report")
     public ResponseEntity<CommentResponseDto> reportComment(
             @PathVariable Long commentId,
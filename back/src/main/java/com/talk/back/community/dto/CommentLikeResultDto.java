@@ -0,0 +1,19 @@
+package com.talk.back.community.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 좋아요 / 좋아요 취소 응답 (PUT, DELETE /community/comments/{commentId}/like)
+ * - liked: 요청 후 상태
+ * - changed: 이번 요청으로 실제로 바뀌었는지 (false 면 이미 그 상태였음 → 화면의 좋아요 수는 그대로)
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class CommentLikeResultDto {
+    private Long commentId;
+    private boolean liked;
+    private boolean changed;
+}
@@ -7,7 +7,7 @@ import lombok.Getter;
 import java.time.LocalDateTime;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class CommentResponseDto {
 
     private Long commentId;
@@ -54,6 +54,18 @@ public class CommentResponseDto {
                 .build();
     }
 
+    /**
+     * 조회자별 값만 바꾼 복사본 (피드 스냅샷 CommentFeedPage 의 공용 DTO → 응답용)
+     */
+    public CommentResponseDto forViewer(boolean liked, boolean reported, long likeCount, boolean mine) {
+        return toBuilder()
+                .liked(liked)
+                .reported(reported)
+                .likeCount(likeCount)
+                .mine(mine)
+                .build();
+    }
+
     /**
      * 이메일 마스킹 처리: ab****@domain.com
      */
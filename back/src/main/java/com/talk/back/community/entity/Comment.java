@@ -27,8 +27,9 @@ public class Comment {
     private String content;
 
     //좋아요 수
+    // CommentLikeCounter 가 like_count = like_count + ? 로만 바꿈 → 엔티티 UPDATE 가 옛 값으로 덮어쓰지 않도록 updatable = false
     @Builder.Default
-    @Column(nullable = false)
+    @Column(nullable = false, updatable = false)
     private int likeCount = 0;
 
     // 좋아요 수 증가
@@ -14,7 +14,9 @@ import lombok.*;
 @Builder
 public class CommentLike {
 
-    @Id @GeneratedValue
+    // INSERT 한 문장으로 좋아요를 넣을 수 있도록 (CommentLikeWriter) 다른 엔티티와 같은 AUTO_INCREMENT
+    // (기존 DB 는 배포 전에 db/migration/comment_likes_id_auto_increment.sql 을 직접 실행, CommentLikeIdMigration 이 기동 시 확인)
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     /**
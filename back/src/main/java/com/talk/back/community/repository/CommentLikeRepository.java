@@ -4,11 +4,34 @@ import com.talk.back.auth.entity.User;
 import com.talk.back.community.entity.CommentLike;
 import com.talk.back.community.entity.Comment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface CommentLikeRepository extends JpaRepository<CommentLike, Long> {
     Optional<CommentLike> findByUserAndComment(User user, Comment comment);
     boolean existsByUserAndComment(User user, Comment comment);
     long countByComment(Comment comment);
-}
\ No newline at end of file
+
+    // 좋아요 추가는 CommentLikeWriter (유니크 키 충돌만 멱등 처리)
+
+    // 좋아요 취소 (누른 적 없으면 0 반환)
+    @Modifying
+    @Query(value = "DELETE FROM comment_likes WHERE user_id = :userId AND comment_id = :commentId",
+            nativeQuery = true)
+    int deleteByKey(@Param("userId") Long userId, @Param("commentId") Long commentId);
+
+    // 피드 한 페이지 중 조회자가 좋아요 누른 댓글 id (좋아요 수는 comment.like_count 컬럼)
+    @Query("SELECT l.comment.commentId FROM CommentLike l " +
+            "WHERE l.user.userId = :viewerId AND l.comment.commentId IN :commentIds")
+    List<Long> findLikedCommentIds(@Param("commentIds") Collection<Long> commentIds,
+                                   @Param("viewerId") Long viewerId);
+
+    // 사용자가 좋아요 누른 댓글 id 전체 (CommentInteractionIndex 로딩용)
+    @Query("SELECT l.comment.commentId FROM CommentLike l WHERE l.user.userId = :userId")
+    List<Long> findCommentIdsByUserId(@Param("userId") Long userId);
+}
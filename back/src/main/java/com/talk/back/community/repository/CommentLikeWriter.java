@@ -0,0 +1,42 @@
+package com.talk.back.community.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 좋아요 행 추가 (PUT /comments/{id}/like)
+ * - INSERT … SELECT 1문장: 대상 댓글 확인 (없음 / 삭제 / 신고 누적 숨김이면 0 행) 과 추가를 함께
+ * - (user_id, comment_id) 유니크 키 충돌만 "이미 좋아요함" 으로 보고 false
+ *   · INSERT IGNORE 는 FK 위반 / id 기본값 없음 같은 다른 오류까지 경고로 바꿔 조용히 무시하므로 쓰지 않음
+ * - JdbcTemplate 으로 실행 → 충돌이 나도 JPA 트랜잭션이 rollback-only 로 바뀌지 않고 (MySQL 은 문장 단위로만 실패) 계속 진행
+ */
+@Repository
+@RequiredArgsConstructor
+public class CommentLikeWriter {
+
+    private static final String INSERT_SQL = """
+        INSERT INTO comment_likes (user_id, comment_id)
+        SELECT ?, comment_id FROM comment
+        WHERE comment_id = ? AND deleted = false AND hidden_by_report = false
+    """;
+    private static final String EXISTS_SQL = "SELECT COUNT(*) FROM comment_likes WHERE user_id = ? AND comment_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** 좋아요 추가, 새로 들어갔으면 true / 이미 있으면 false, 좋아요할 수 없는 댓글이면 IllegalArgumentException */
+    public boolean insert(Long userId, Long commentId) {
+        try {
+            if (jdbcTemplate.update(INSERT_SQL, userId, commentId) == 0) {
+                throw new IllegalArgumentException("댓글이 존재하지 않습니다.");
+            }
+            return true;
+        } catch (DuplicateKeyException e) {
+            // 다른 키 (예: 잘못된 기본 키) 충돌이면 멱등 처리 대상이 아님
+            Integer existing = jdbcTemplate.queryForObject(EXISTS_SQL, Integer.class, userId, commentId);
+            if (existing == null || existing == 0) throw e;
+            return false;
+        }
+    }
+}
@@ -6,7 +6,10 @@ import com.talk.back.community.entity.CommentReport;
 import com.talk.back.community.entity.ReportStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface CommentReportRepository extends JpaRepository<CommentReport, Long> {
@@ -17,6 +20,16 @@ public interface CommentReportRepository extends JpaRepository<CommentReport, Lo
 
     int countByCommentAndCanceledFalse(Comment comment);
 
+    // 피드 한 페이지 중 조회자가 신고(취소 안 함)한 댓글 id
+    @Query("SELECT cr.comment.commentId FROM CommentReport cr " +
+            "WHERE cr.user.userId = :viewerId AND cr.canceled = false AND cr.comment.commentId IN :commentIds")
+    List<Long> findReportedCommentIds(@Param("commentIds") Collection<Long> commentIds,
+                                      @Param("viewerId") Long viewerId);
+
+    // 사용자가 신고(취소 안 함)한 댓글 id 전체 (CommentInteractionIndex 로딩용)
+    @Query("SELECT cr.comment.commentId FROM CommentReport cr WHERE cr.user.userId = :userId AND cr.canceled = false")
+    List<Long> findActiveReportedCommentIdsByUserId(@Param("userId") Long userId);
+
     @Query("SELECT COUNT(cr) FROM CommentReport cr WHERE cr.comment.reportStatus = 'PENDING'")
     long countPendingReports();
 
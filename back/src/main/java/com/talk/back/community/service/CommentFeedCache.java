@@ -0,0 +1,91 @@
+package com.talk.back.community.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+
+/**
+ * 커뮤니티 피드 앞쪽 페이지 스냅샷 캐시 (거의 모든 요청이 0 페이지)
+ * - 앞 pages 개 페이지만 CommentFeedPage 로 보관, 그 뒤 페이지는 매번 DB 조회
+ * - 무효화
+ *   · 전체: 새 댓글 / 삭제 (모든 페이지가 한 칸씩 밀리거나 당겨지고 전체 개수도 바뀜)
+ *   · 해당 댓글이 든 페이지만: 수정, 신고 (신고 수 / 신고 누적 숨김), 관리자 복구
+ *   · 트랜잭션 안이면 커밋된 뒤에 지움 (커밋 전 값으로 다시 채워지지 않도록)
+ * - 읽는 도중 무효화가 있었으면 읽은 스냅샷은 버림 (generation 비교)
+ * - ttl: 좋아요 수 / 작성자 정보처럼 무효화 대상이 아닌 값이 너무 오래 남지 않도록 하는 안전장치
+ */
+@Component
+public class CommentFeedCache {
+
+    private final boolean enabled;
+    private final int pages;
+    private final long ttlNanos;
+    private final Map<Integer, CommentFeedPage> snapshots = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    public CommentFeedCache(@Value("${community.feed-cache.enabled:true}") boolean enabled,
+                            @Value("${community.feed-cache.pages:3}") int pages,
+                            @Value("${community.feed-cache.ttl:PT30S}") Duration ttl) {
+        this.enabled = enabled;
+        this.pages = pages;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    /** 캐시된 스냅샷, 없거나 오래됐으면 loader 로 읽어서 보관 */
+    public CommentFeedPage get(int page, IntFunction<CommentFeedPage> loader) {
+        if (!enabled || page < 0 || page >= pages) return loader.apply(page);
+
+        CommentFeedPage cached = snapshots.get(page);
+        if (cached != null && System.nanoTime() - cached.loadedAtNanos() < ttlNanos) return cached;
+
+        long startedAt = generation.get();
+        CommentFeedPage loaded = loader.apply(page);
+        snapshots.put(page, loaded);
+        // 읽는 동안 무효화가 지나갔으면 방금 넣은 (옛) 스냅샷 제거
+        if (generation.get() != startedAt) snapshots.remove(page, loaded);
+        return loaded;
+    }
+
+    /** 모든 페이지 무효화 (커밋 후) */
+    public void invalidateAll() {
+        afterCommit(this::clear);
+    }
+
+    /** commentId 가 들어 있는 페이지만 무효화 (커밋 후) */
+    public void invalidateComment(Long commentId) {
+        afterCommit(() -> {
+            generation.incrementAndGet();
+            snapshots.values().removeIf(snapshot -> snapshot.contains(commentId));
+        });
+    }
+
+    /** 바로 비움 */
+    public void clear() {
+        generation.incrementAndGet();
+        snapshots.clear();
+    }
+
+    public int size() {
+        return snapshots.size();
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
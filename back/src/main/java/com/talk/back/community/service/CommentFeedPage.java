@@ -0,0 +1,49 @@
+package com.talk.back.community.service;
+
+import com.talk.back.community.dto.CommentResponseDto;
+import com.talk.back.community.entity.Comment;
+
+import java.util.List;
+
+/**
+ * 커뮤니티 피드 한 페이지 스냅샷 (불변, CommentFeedCache 가 보관)
+ * - 조회자와 상관없는 값만 담음: 댓글 내용 / 작성자 / 신고 수 / 읽을 때의 좋아요 수
+ * - liked / reported / mine 은 요청마다 CommentService 가 채움
+ */
+public record CommentFeedPage(int number, int totalPages, List<Entry> entries, long loadedAtNanos) {
+
+    public CommentFeedPage {
+        entries = List.copyOf(entries);
+    }
+
+    public boolean contains(Long commentId) {
+        for (Entry entry : entries) {
+            if (entry.commentId().equals(commentId)) return true;
+        }
+        return false;
+    }
+
+    public List<Long> commentIds() {
+        return entries.stream().map(Entry::commentId).toList();
+    }
+
+    /**
+     * 댓글 1건
+     * - likeBase: 읽을 때의 좋아요 수 (like_count 컬럼 + 반영 대기분)
+     * - likeTotalAtLoad: 그때의 CommentLikeCounter.total → 이후 바뀐 만큼만 더해서 보여줌
+     */
+    public record Entry(Long commentId, String authorEmail, CommentResponseDto base,
+                        long likeBase, long likeTotalAtLoad) {
+
+        public static Entry of(Comment comment, CommentLikeCounter likeCounter) {
+            long likeTotal = likeCounter.total(comment.getCommentId());
+            long likeBase = likeCounter.likeCount(comment.getCommentId(), comment.getLikeCount());
+            return new Entry(comment.getCommentId(), comment.getUser().getEmail(),
+                    CommentResponseDto.from(comment, false, false, likeBase, false), likeBase, likeTotal);
+        }
+
+        public long likeCount(CommentLikeCounter likeCounter) {
+            return Math.max(0, likeBase + likeCounter.total(commentId) - likeTotalAtLoad);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.talk.back.community.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.talk.back.community.repository.CommentLikeRepository;
+import com.talk.back.community.repository.CommentReportRepository;
+import com.talk.back.util.CompactIdSet;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+
+/**
+ * 사용자별 좋아요 / 신고한 댓글 id 집합 (피드 조회 시 liked / reported 판단용)
+ * - 피드를 처음 볼 때 사용자 단위로 한 번 읽어서 CompactIdSet 두 개로 보관 → 이후 피드 조회는 조회자별 쿼리 없음
+ * - 좋아요 / 취소 / 신고 토글이 커밋되면 이미 올라와 있는 사용자만 갱신 (없는 사용자는 다음 조회 때 읽음)
+ *   · 갱신 값은 "좋아요함 / 안 함" 같은 최종 상태라 로딩과 겹쳐도 결과가 같음
+ * - idle 동안 조회가 없으면 내보냄, 전체 크기는 max-bytes 안에서 (넘으면 오래 안 쓴 사용자부터)
+ * - actuator: community.interaction-index.bytes / .users / .budget
+ */
+@Component
+public class CommentInteractionIndex implements MeterBinder {
+
+    private final CommentLikeRepository commentLikeRepository;
+    private final CommentReportRepository commentReportRepository;
+    private final boolean enabled;
+    private final long maxBytes;
+    private final Cache<Long, Interactions> users;
+
+    public CommentInteractionIndex(CommentLikeRepository commentLikeRepository,
+                                   CommentReportRepository commentReportRepository,
+                                   @Value("${community.interaction-index.enabled:true}") boolean enabled,
+                                   @Value("${community.interaction-index.idle:PT30M}") Duration idle,
+                                   @Value("${community.interaction-index.max-bytes:67108864}") long maxBytes) {
+        this.commentLikeRepository = commentLikeRepository;
+        this.commentReportRepository = commentReportRepository;
+        this.enabled = enabled;
+        this.maxBytes = maxBytes;
+        this.users = Caffeine.newBuilder()
+                .expireAfterAccess(idle)
+                .maximumWeight(maxBytes)
+                .weigher((Long userId, Interactions interactions) -> interactions.weight())
+                .build();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /** 사용자의 좋아요 / 신고 집합, 처음이면 DB 에서 읽음 */
+    public Interactions get(Long userId) {
+        return users.get(userId, this::load);
+    }
+
+    /** 좋아요 상태 반영 (트랜잭션 안이면 커밋 후) */
+    public void recordLike(Long userId, Long commentId, boolean liked) {
+        if (!enabled || userId == null) return;
+        afterCommit(() -> update(userId, interactions -> interactions.setLiked(commentId, liked)));
+    }
+
+    /** 신고 상태 반영 (트랜잭션 안이면 커밋 후) */
+    public void recordReport(Long userId, Long commentId, boolean reported) {
+        if (!enabled || userId == null) return;
+        afterCommit(() -> update(userId, interactions -> interactions.setReported(commentId, reported)));
+    }
+
+    /** 전체 비움 */
+    public void clear() {
+        users.invalidateAll();
+    }
+
+    /** 올라와 있는 집합 크기 합 (추정 바이트) */
+    public long sizeInBytes() {
+        long bytes = 0;
+        for (Interactions interactions : users.asMap().values()) {
+            bytes += interactions.sizeInBytes();
+        }
+        return bytes;
+    }
+
+    public long userCount() {
+        return users.estimatedSize();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("community.interaction-index.bytes", this, CommentInteractionIndex::sizeInBytes)
+                .description("좋아요 / 신고 댓글 id 집합이 차지하는 힙 (추정)")
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder("community.interaction-index.users", this, CommentInteractionIndex::userCount)
+                .description("집합이 올라와 있는 사용자 수")
+                .register(registry);
+        Gauge.builder("community.interaction-index.budget", this, index -> index.maxBytes)
+                .description("집합 전체 힙 한도 (max-bytes)")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    private Interactions load(Long userId) {
+        Interactions interactions = new Interactions();
+        commentLikeRepository.findCommentIdsByUserId(userId).forEach(interactions.liked::add);
+        commentReportRepository.findActiveReportedCommentIdsByUserId(userId).forEach(interactions.reported::add);
+        return interactions;
+    }
+
+    // 이미 올라와 있는 사용자만 바꾸고, 같은 값을 다시 넣어 크기(weight)도 다시 계산되게 함
+    private void update(Long userId, Consumer<Interactions> change) {
+        users.asMap().computeIfPresent(userId, (id, interactions) -> {
+            change.accept(interactions);
+            return interactions;
+        });
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /** 한 사용자의 좋아요 / 신고 댓글 id (읽기와 갱신이 겹칠 수 있어 잠금) */
+    public static final class Interactions {
+
+        private final CompactIdSet liked = new CompactIdSet();
+        private final CompactIdSet reported = new CompactIdSet();
+
+        public synchronized boolean liked(Long commentId) {
+            return liked.contains(commentId);
+        }
+
+        public synchronized boolean reported(Long commentId) {
+            return reported.contains(commentId);
+        }
+
+        synchronized void setLiked(Long commentId, boolean value) {
+            if (value) liked.add(commentId);
+            else liked.remove(commentId);
+        }
+
+        synchronized void setReported(Long commentId, boolean value) {
+            if (value) reported.add(commentId);
+            else reported.remove(commentId);
+        }
+
+        synchronized long sizeInBytes() {
+            return liked.sizeInBytes() + reported.sizeInBytes();
+        }
+
+        int weight() {
+            return (int) Math.min(Integer.MAX_VALUE, sizeInBytes());
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.talk.back.community.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * comment.like_count 기동 시 보정
+ * - CommentLikeCounter 가 반영하기 전에 서버가 죽어 유실된 변화량을 comment_likes 실제 행 수로 되돌림
+ * - comment_id 순서로 chunk-size 건씩 UPDATE 1번 (맞는 행은 쓰지 않음, chunk 마다 자동 커밋)
+ * - 웹 서버가 요청을 받기 전 (SmartLifecycle, 웹 서버보다 앞 단계) 에 끝남
+ *   · 이때는 좋아요 요청도 @Scheduled flush 도 없어 카운터가 비어 있음 → 보정값과 반영 대기분이 겹쳐 두 번 세지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class CommentLikeCountReconciler implements SmartLifecycle {
+
+    // 웹 서버 시작 (WebServerStartStopLifecycle, DEFAULT_PHASE - 1024) 보다 먼저
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 2048;
+
+    // 다음 chunk 의 마지막 comment_id
+    private static final String CHUNK_END_SQL = """
+        SELECT MAX(comment_id) FROM (
+            SELECT comment_id FROM comment WHERE comment_id > ? ORDER BY comment_id LIMIT ?
+        ) chunk
+    """;
+
+    private static final String REPAIR_SQL = """
+        UPDATE comment
+        SET like_count = (SELECT COUNT(*) FROM comment_likes l WHERE l.comment_id = comment.comment_id)
+        WHERE comment_id > ? AND comment_id <= ?
+          AND like_count <> (SELECT COUNT(*) FROM comment_likes l WHERE l.comment_id = comment.comment_id)
+    """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${community.like-count.reconcile-on-startup:true}")
+    private boolean reconcileEnabled;
+
+    @Value("${community.like-count.chunk-size:1000}")
+    private int chunkSize;
+
+    private volatile boolean running;
+
+    @Override
+    public void start() {
+        running = true;
+        reconcileOnStartup();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private void reconcileOnStartup() {
+        if (!reconcileEnabled) return;
+        int repaired = reconcileAll();
+        System.out.println("==> [CommentLikeCountReconciler::reconcileOnStartup] like_count 보정 " + repaired + "건");
+    }
+
+    /** 전체 댓글을 chunk 단위로 훑으며 보정, 고친 행 수 반환 */
+    public int reconcileAll() {
+        int repaired = 0;
+        long lastId = 0;
+        while (true) {
+            Long chunkEnd = jdbcTemplate.queryForObject(CHUNK_END_SQL, Long.class, lastId, chunkSize);
+            if (chunkEnd == null) break;
+
+            repaired += jdbcTemplate.update(REPAIR_SQL, lastId, chunkEnd);
+            lastId = chunkEnd;
+        }
+        return repaired;
+    }
+}
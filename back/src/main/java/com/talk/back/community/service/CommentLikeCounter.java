@@ -0,0 +1,196 @@
+package com.talk.back.community.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 댓글 좋아요 수 write-behind 카운터 (Comment.likeCount)
+ * - 좋아요 / 취소는 메모리의 댓글별 LongAdder(스레드별로 나눠 쌓는 카운터)에만 더함 → 같은 댓글에 몰려도 행 잠금 / 맵 잠금 경쟁 없음
+ * - flush-interval 마다 쌓인 변화량을 UPDATE comment SET like_count = like_count + ? 묶음으로 반영
+ * - 조회는 like_count 컬럼 + 아직 반영 안 된 변화량 (pending)
+ * - 반영을 마치고 prune-idle 동안 바뀌지 않은 댓글은 맵에서 뺌 (좋아요가 눌린 적 있는 댓글 수만큼 계속 커지지 않도록)
+ *   · compute 안에서 retired 표시 → 표시를 보기 전에 들어온 좋아요가 끝나길 기다림 (entered / exited 두 LongAdder 가 같아질 때까지)
+ *     → pending 이 0 이면 제거, 그 사이 더해졌으면 표시를 풀고 남겨 둠
+ *   · 표시를 본 좋아요는 항목에 더하지 않고 compute 로 (정리가 끝난 뒤 남은 항목이나 새 항목에 더함)
+ *     → 평소 좋아요는 잠금 없이 LongAdder 에만, 맵 잠금은 처음 추가 / 정리 / 반영 실패 복구 때만
+ *   · 그 댓글이 든 피드 스냅샷은 빼는 compute 안에서 먼저 무효화 (스냅샷은 total 기준으로 그 뒤 변화량을 계산하므로
+ *     total 이 0 으로 돌아간 뒤에 남아 있으면 좋아요 수가 적게 보임)
+ * - 반영 전에 서버가 죽으면 그만큼 어긋나지만 기동 시 CommentLikeCountReconciler 가 comment_likes 기준으로 다시 맞춤
+ */
+@Component
+public class CommentLikeCounter {
+
+    private static final String FLUSH_SQL = "UPDATE comment SET like_count = like_count + ? WHERE comment_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CommentFeedCache commentFeedCache;
+    // 좋아요가 바뀌었고 아직 정리되지 않은 댓글만 들어감
+    private final Map<Long, Counts> counts = new ConcurrentHashMap<>();
+
+    @Value("${community.like-count.prune-idle:PT1M}")
+    private Duration pruneIdle = Duration.ofMinutes(1);
+
+    public CommentLikeCounter(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                              CommentFeedCache commentFeedCache) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.commentFeedCache = commentFeedCache;
+    }
+
+    /** 좋아요 수 변화 기록 (트랜잭션 안이면 커밋된 뒤에만 반영) */
+    public void add(Long commentId, int delta) {
+        if (delta == 0) return;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            addNow(commentId, delta);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                addNow(commentId, delta);
+            }
+        });
+    }
+
+    /** 아직 like_count 에 반영되지 않은 변화량 */
+    public long pending(Long commentId) {
+        Counts entry = counts.get(commentId);
+        return entry == null ? 0 : entry.pending.sum();
+    }
+
+    /** 누적 변화량 (반영 여부와 상관없이 계속 늘어남 → 피드 스냅샷이 읽은 뒤 바뀐 만큼 계산용, 정리되면 0 부터 다시) */
+    public long total(Long commentId) {
+        Counts entry = counts.get(commentId);
+        return entry == null ? 0 : entry.total.sum();
+    }
+
+    /** 화면에 보여줄 좋아요 수 (컬럼 값 + 반영 대기분) */
+    public long likeCount(Long commentId, long storedCount) {
+        return Math.max(0, storedCount + pending(commentId));
+    }
+
+    /** 메모리에 남아 있는 댓글 수 */
+    public int size() {
+        return counts.size();
+    }
+
+    @Scheduled(fixedDelayString = "${community.like-count.flush-interval:PT5S}")
+    public void flush() {
+        List<Object[]> batch = new ArrayList<>();
+        for (Map.Entry<Long, Counts> entry : counts.entrySet()) {
+            // 읽은 만큼만 빼서 비움 (그 사이 더해진 값은 다음 주기에)
+            LongAdder pending = entry.getValue().pending;
+            long delta = pending.sum();
+            if (delta == 0) continue;
+            pending.add(-delta);
+            batch.add(new Object[]{delta, entry.getKey()});
+        }
+
+        if (!batch.isEmpty()) {
+            try {
+                // 묶음 전체를 한 트랜잭션으로 (일부만 반영된 채 되돌려 두 번 더해지는 일 없음)
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, batch));
+            } catch (RuntimeException e) {
+                // 반영 못 한 변화량은 되돌려 놓고 다음 주기에 다시 시도
+                for (Object[] row : batch) {
+                    counts.compute((Long) row[1], (id, entry) -> {
+                        Counts restored = entry != null ? entry : new Counts();
+                        restored.pending.add((Long) row[0]);
+                        return restored;
+                    });
+                }
+                System.out.println("⚠️ [CommentLikeCounter::flush] like_count 반영 실패 (" + batch.size() + "건) " + e);
+                return;
+            }
+        }
+        prune();
+    }
+
+    // 정상 종료 시 남은 변화량 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void addNow(Long commentId, long delta) {
+        Counts entry = counts.get(commentId);
+        if (entry != null && entry.tryAdd(delta)) return;
+        // 처음 바뀌는 댓글 / 정리 중인 댓글 → 맵 잠금 안에서 (정리 compute 가 끝난 뒤에 실행됨)
+        counts.compute(commentId, (id, current) -> {
+            Counts updated = current != null ? current : new Counts();
+            updated.add(delta);
+            return updated;
+        });
+    }
+
+    // 반영할 것이 없고 prune-idle 동안 바뀌지 않은 댓글 제거
+    private void prune() {
+        long idleNanos = pruneIdle.toNanos();
+        long now = System.nanoTime();
+        for (Long commentId : counts.keySet()) {
+            counts.computeIfPresent(commentId, (id, entry) -> {
+                if (now - entry.changedAtNanos < idleNanos || entry.pending.sum() != 0) return entry;
+                // 표시 후 이미 들어온 좋아요가 끝나길 기다렸다가 다시 확인 (표시를 본 좋아요는 compute 로 옴)
+                entry.retired = true;
+                entry.awaitAdders();
+                if (entry.pending.sum() != 0) {
+                    entry.retired = false;
+                    return entry;
+                }
+                // 항목이 맵에서 빠지기 전에 (이 compute 안에서) 스냅샷부터 무효화
+                commentFeedCache.invalidateComment(id);
+                return null;
+            });
+        }
+    }
+
+    // pending: 아직 DB 에 반영 안 된 변화량 (flush 때 읽은 만큼 뺌), total: 정리되기 전까지 누적
+    // retired: 정리 중 표시, entered / exited: 잠금 없이 더하는 중인 좋아요 수 (늘기만 하는 두 값의 차)
+    private static final class Counts {
+        private final LongAdder pending = new LongAdder();
+        private final LongAdder total = new LongAdder();
+        private final LongAdder entered = new LongAdder();
+        private final LongAdder exited = new LongAdder();
+        private volatile long changedAtNanos = System.nanoTime();
+        private volatile boolean retired;
+
+        /** 잠금 없이 더함, 정리 중이면 false (더하지 않음) */
+        private boolean tryAdd(long delta) {
+            entered.increment();
+            try {
+                if (retired) return false;
+                add(delta);
+                return true;
+            } finally {
+                exited.increment();
+            }
+        }
+
+        private void add(long delta) {
+            pending.add(delta);
+            total.add(delta);
+            changedAtNanos = System.nanoTime();
+        }
+
+        // exited 를 먼저 읽음 → 같으면 retired 표시 전에 들어온 tryAdd 는 모두 끝남
+        private void awaitAdders() {
+            while (exited.sum() != entered.sum()) {
+                Thread.onSpinWait();
+            }
+        }
+    }
+}
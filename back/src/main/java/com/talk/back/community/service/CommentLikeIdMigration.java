@@ -0,0 +1,75 @@
+package com.talk.back.community.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * comment_likes.id AUTO_INCREMENT 이전 (db/migration/comment_likes_id_auto_increment.sql)
+ * - 기존 DB 는 id 를 comment_likes_seq 로 배정하던 스키마라 id 기본값이 없음 → 좋아요 INSERT 가 실패함
+ * - 기본은 확인만 하고 이전이 필요하면 경고 (운영자가 배포 전에 스크립트를 직접 실행)
+ *   · community.like-id-migration.enabled=true 일 때만 이 서버가 직접 실행 (DDL 이라 한 대에서만 켤 것)
+ * - 요청을 받기 전 (웹 서버, like_count 보정보다 앞 단계) 에 한 번 확인
+ * - 새 DB (Hibernate 가 IDENTITY 로 만든 테이블) 나 이미 이전한 DB 는 아무것도 하지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class CommentLikeIdMigration implements SmartLifecycle {
+
+    private static final String SCRIPT = "db/migration/comment_likes_id_auto_increment.sql";
+
+    private static final String ID_EXTRA_SQL = """
+        SELECT extra FROM information_schema.columns
+        WHERE table_schema = DATABASE() AND table_name = 'comment_likes' AND column_name = 'id'
+    """;
+
+    // CommentLikeCountReconciler (DEFAULT_PHASE - 2048) 보다 먼저
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile boolean running;
+
+    @Value("${community.like-id-migration.enabled:false}")
+    private boolean enabled;
+
+    @Override
+    public void start() {
+        running = true;
+        if (!needsMigration()) return;
+
+        if (!enabled) {
+            System.out.println("⚠️ [CommentLikeIdMigration::start] comment_likes.id 가 AUTO_INCREMENT 가 아니라 좋아요 추가가 실패합니다 → "
+                    + SCRIPT + " 를 직접 실행하세요 (또는 한 서버에서만 community.like-id-migration.enabled=true)");
+            return;
+        }
+        System.out.println("==> [CommentLikeIdMigration::start] comment_likes.id → AUTO_INCREMENT 이전 실행");
+        new ResourceDatabasePopulator(new ClassPathResource(SCRIPT)).execute(jdbcTemplate.getDataSource());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private boolean needsMigration() {
+        String extra = jdbcTemplate.queryForList(ID_EXTRA_SQL, String.class).stream().findFirst().orElse(null);
+        // 테이블이 없으면 (null) Hibernate 가 새로 만들 때 AUTO_INCREMENT 로 만듦
+        return extra != null && !extra.toLowerCase(Locale.ROOT).contains("auto_increment");
+    }
+}
@@ -4,12 +4,13 @@ import jakarta.transaction.Transactional;
 import com.talk.back.auth.entity.User;
 import com.talk.back.auth.repository.UserRepository;
 import com.talk.back.community.dto.CommentCreateDto;
+import com.talk.back.community.dto.CommentLikeResultDto;
 import com.talk.back.community.dto.CommentResponseDto;
 import com.talk.back.community.dto.CommentUpdateDto;
 import com.talk.back.community.entity.Comment;
-import com.talk.back.community.entity.CommentLike;
 import com.talk.back.community.entity.CommentReport;
 import com.talk.back.community.repository.CommentLikeRepository;
+import com.talk.back.community.repository.CommentLikeWriter;
 import com.talk.back.community.repository.CommentReportRepository;
 import com.talk.back.community.repository.CommentRepository;
 import lombok.RequiredArgsConstructor;
@@ -20,6 +21,7 @@ import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Predicate;
 
 @RequiredArgsConstructor
 @Service
@@ -29,52 +31,85 @@ public class CommentService {
     private final UserRepository userRepository;
     private final CommentLikeRepository commentLikeRepository;
     private final CommentReportRepository commentReportRepository;
+    private final CommentLikeCounter commentLikeCounter; // 좋아요 수 (like_count 컬럼 + 반영 대기분)
+    private final CommentFeedCache commentFeedCache;     // 피드 앞쪽 페이지 스냅샷
+    private final CommentInteractionIndex commentInteractionIndex; // 사용자별 좋아요 / 신고한 댓글 id
+    private final CommentLikeWriter commentLikeWriter;   // 좋아요 INSERT (이미 있으면 false)
+
+    // 피드 한 페이지 댓글 수
+    private static final int FEED_PAGE_SIZE = 5;
 
     // ✅ 댓글 조회 (삭제 + 신고 숨김 제외) - 리스트형
     public List<CommentResponseDto> getComments(int page, User user) {
-        PageRequest pageable = PageRequest.of(page, 5, Sort.by(Sort.Direction.DESC, "createdAt"));
-        Page<Comment> result = commentRepository.findByDeletedFalseOrderByCreatedAtDesc(pageable);
-
-        return result.stream()
-                .map(comment -> {
-                    boolean liked = commentLikeRepository.existsByUserAndComment(user, comment);
-                    boolean reported = commentReportRepository.existsByUserAndCommentAndCanceledFalse(user, comment);
-                    long likeCount = commentLikeRepository.countByComment(comment);
-                    boolean mine = comment.getUser().getEmail().equals(user.getEmail());
-                    return CommentResponseDto.from(comment, liked, reported, likeCount, mine);
-                })
-                .toList();
+        return toFeed(commentFeedCache.get(page, this::loadFeedPage), user);
     }
 
     // ✅ 댓글 조회 (삭제 + 신고 숨김 제외) - 페이지정보 포함
     public Map<String, Object> getCommentsWithPageInfo(int page, User user) {
-        PageRequest pageable = PageRequest.of(page, 5, Sort.by("createdAt").descending());
+        CommentFeedPage feedPage = commentFeedCache.get(page, this::loadFeedPage);
+        List<CommentResponseDto> content = toFeed(feedPage, user);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("content", content);
+        response.put("totalPages", feedPage.totalPages());
+        response.put("currentPage", feedPage.number());
+
+        return response;
+
+    }
+
+    // 피드 페이지 스냅샷 읽기 (앞쪽 페이지는 CommentFeedCache 에 보관됨)
+    private CommentFeedPage loadFeedPage(int page) {
+        PageRequest pageable = PageRequest.of(page, FEED_PAGE_SIZE, Sort.by("createdAt").descending());
         Page<Comment> result = commentRepository.findByDeletedFalseOrderByCreatedAtDesc(pageable);
-        List<CommentResponseDto> content = result.stream()
+        List<CommentFeedPage.Entry> entries = result.stream()
                 .filter(comment -> comment.getUser() != null) // 혹시 모를 null 방지!
-                .map(comment -> {
-                    User author = comment.getUser();
+                .map(comment -> CommentFeedPage.Entry.of(comment, commentLikeCounter))
+                .toList();
+        return new CommentFeedPage(result.getNumber(), result.getTotalPages(), entries, System.nanoTime());
+    }
 
+    /**
+     * 피드 한 페이지 DTO 조립 (스냅샷 + 조회자별 값)
+     * - 내가 좋아요 / 신고한 댓글은 CommentInteractionIndex 에서 확인 (사용자당 처음 한 번만 읽음)
+     *   · 꺼져 있으면 페이지 단위로 2번 조회: 내가 좋아요 누른 댓글 id, 내가 신고한 댓글 id
+     * - 좋아요 수는 스냅샷 값 + 그 뒤 바뀐 만큼 (CommentLikeCounter)
+     * - 나머지는 메모리에서 합침 (페이지 크기와 상관없이 쿼리 수 고정)
+     */
+    private List<CommentResponseDto> toFeed(CommentFeedPage feedPage, User user) {
+        if (feedPage.entries().isEmpty()) return List.of();
+
+        Long viewerId = user != null ? user.getUserId() : null;
+
+        Predicate<Long> likedByViewer;
+        Predicate<Long> reportedByViewer;
+        if (viewerId == null) {
+            likedByViewer = id -> false;
+            reportedByViewer = id -> false;
+        } else if (commentInteractionIndex.isEnabled()) {
+            CommentInteractionIndex.Interactions interactions = commentInteractionIndex.get(viewerId);
+            likedByViewer = interactions::liked;
+            reportedByViewer = interactions::reported;
+        } else {
+            List<Long> commentIds = feedPage.commentIds();
+            likedByViewer = new HashSet<>(commentLikeRepository.findLikedCommentIds(commentIds, viewerId))::contains;
+            reportedByViewer = new HashSet<>(commentReportRepository.findReportedCommentIds(commentIds, viewerId))::contains;
+        }
+
+        return feedPage.entries().stream()
+                .map(entry -> {
                     boolean mine = false;
-                    if (author != null && author.getEmail() != null && user != null && user.getEmail() != null) {
-                        mine = author.getEmail().equals(user.getEmail());
+                    if (entry.authorEmail() != null && user != null && user.getEmail() != null) {
+                        mine = entry.authorEmail().equals(user.getEmail());
                     }
 
-                    boolean liked = commentLikeRepository.existsByUserAndComment(user, comment);
-                    boolean reported = commentReportRepository.existsByUserAndCommentAndCanceledFalse(user, comment);
-                    long likeCount = commentLikeRepository.countByComment(comment);
+                    boolean liked = likedByViewer.test(entry.commentId());
+                    long likeCount = entry.likeCount(commentLikeCounter);
+                    boolean reported = reportedByViewer.test(entry.commentId());
 
-                    return CommentResponseDto.from(comment, liked, reported, likeCount, mine);
+                    return entry.base().forViewer(liked, reported, likeCount, mine);
                 })
                 .toList();
-
-        Map<String, Object> response = new HashMap<>();
-        response.put("content", content);
-        response.put("totalPages", result.getTotalPages());
-        response.put("currentPage", result.getNumber());
-
-        return response;
-
     }
 
     // 댓글 작성
@@ -90,31 +125,49 @@ public class CommentService {
                 .build();
 
         Comment saved = commentRepository.save(comment);
+        commentFeedCache.invalidateAll(); // 새 글이 맨 앞에 들어가 모든 페이지가 밀림
         return CommentResponseDto.from(saved, false, false, 0, true);
     }
 
-    // 좋아요 토글
+    // 좋아요 (여러 번 눌러도 결과 같음): 댓글 확인 + INSERT 1문장, 이미 있으면 (유니크 키 충돌) 바뀐 것 없음
+    // 없는 댓글 / 삭제 / 신고 누적 숨김 댓글은 IllegalArgumentException (컨트롤러에서 404)
+    @Transactional
+    public CommentLikeResultDto like(User user, Long commentId) {
+        boolean changed = commentLikeWriter.insert(user.getUserId(), commentId);
+        if (changed) {
+            commentLikeCounter.add(commentId, 1);
+            commentInteractionIndex.recordLike(user.getUserId(), commentId, true);
+        }
+        return new CommentLikeResultDto(commentId, true, changed);
+    }
+
+    // 좋아요 취소 (여러 번 눌러도 결과 같음): 키로 DELETE 1문장
+    @Transactional
+    public CommentLikeResultDto unlike(User user, Long commentId) {
+        boolean changed = commentLikeRepository.deleteByKey(user.getUserId(), commentId) > 0;
+        if (changed) {
+            commentLikeCounter.add(commentId, -1);
+            commentInteractionIndex.recordLike(user.getUserId(), commentId, false);
+        }
+        return new CommentLikeResultDto(commentId, false, changed);
+    }
+
+    // 좋아요 토글 (예전 PATCH 호환용): 취소해 보고 지운 게 없으면 좋아요
     @Transactional
     public CommentResponseDto toggleLike(User user, Long commentId) {
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new IllegalArgumentException("댓글 없음"));
 
-        Optional<CommentLike> existing = commentLikeRepository.findByUserAndComment(user, comment);
-
-        if (existing.isPresent()) {
-            // 이미 눌렀으면 삭제
-            commentLikeRepository.delete(existing.get());
-        } else {
-            try {
-                commentLikeRepository.save(new CommentLike(user, comment));
-            } catch (Exception e) {
-                throw new RuntimeException("좋아요 저장 중 오류 발생: " + e.getMessage());
-            }
+        CommentLikeResultDto result = unlike(user, commentId);
+        int delta = -1;
+        if (!result.isChanged()) {
+            result = like(user, commentId);
+            delta = result.isChanged() ? 1 : 0;
         }
 
-        // 최신 상태 계산
-        long likeCount = commentLikeRepository.countByComment(comment);
-        boolean liked = commentLikeRepository.existsByUserAndComment(user, comment);
+        // 최신 상태 계산 (이번 변화량은 커밋 후에 카운터에 들어가므로 직접 더함)
+        long likeCount = Math.max(0, commentLikeCounter.likeCount(commentId, comment.getLikeCount()) + delta);
+        boolean liked = result.isLiked();
         boolean reported = commentReportRepository.existsByUserAndCommentAndCanceledFalse(user, comment);
         boolean mine = comment.getUser().getEmail().equals(user.getEmail());
 
@@ -143,10 +196,12 @@ public class CommentService {
             if (!report.isCanceled()) {
                 report.setCanceled(true);
                 comment.setReportCount(comment.getReportCount() - 1);
+                commentInteractionIndex.recordReport(user.getUserId(), commentId, false);
             } else {
                 report.setCanceled(false);
                 report.setReason(reason);
                 comment.setReportCount(comment.getReportCount() + 1);
+                commentInteractionIndex.recordReport(user.getUserId(), commentId, true);
             }
         } else {
             CommentReport report = CommentReport.builder()
@@ -157,6 +212,7 @@ public class CommentService {
                     .build();
             commentReportRepository.save(report);
             comment.setReportCount(comment.getReportCount() + 1);
+            commentInteractionIndex.recordReport(user.getUserId(), commentId, true);
         }
 
         // ✅ 유효한 신고가 3건 이상이면 숨김 처리
@@ -164,12 +220,13 @@ public class CommentService {
         if (validReports >= 3) {
             comment.setHiddenByReport(true);
         }
+        commentFeedCache.invalidateComment(commentId); // 신고 수 / 숨김 상태가 바뀐 페이지만
 
 
         // 최신 상태 재계산
         boolean liked = commentLikeRepository.existsByUserAndComment(user, comment);
         boolean reported = commentReportRepository.existsByUserAndCommentAndCanceledFalse(user, comment);
-        long likeCount = commentLikeRepository.countByComment(comment);
+        long likeCount = commentLikeCounter.likeCount(comment.getCommentId(), comment.getLikeCount());
 
         // 안전한 본인 확인
         boolean mine = comment.getUser() != null &&
@@ -193,12 +250,13 @@ public class CommentService {
 
         // 수정
         comment.setContent(dto.getContent());
+        commentFeedCache.invalidateComment(commentId);
 
 
         // 최신 상태로 변환
         boolean liked = commentLikeRepository.existsByUserAndComment(user, comment);
         boolean reported = commentReportRepository.existsByUserAndCommentAndCanceledFalse(user, comment);
-        long likeCount = commentLikeRepository.countByComment(comment);
+        long likeCount = commentLikeCounter.likeCount(comment.getCommentId(), comment.getLikeCount());
         boolean mine = true;
 
 
@@ -218,5 +276,6 @@ public class CommentService {
 
         // soft delete
         comment.setDeleted(true);
+        commentFeedCache.invalidateAll(); // 뒤 페이지가 한 칸씩 당겨짐
     }
 }
@@ -0,0 +1,15 @@
+package com.talk.back.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * @Scheduled 작업 활성화
+ * - analysis_record.note_count 보정 (AnalysisNoteCountReconciler)
+ * - 보관 기간 지난 숨김 분석 기록 삭제 (HiddenRecordPurgeJob)
+ * - 댓글 좋아요 수 변화량 DB 반영 (CommentLikeCounter)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -75,6 +75,7 @@ public class SecurityConfig {
         }
         config.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS"));
         config.setAllowedHeaders(List.of("*"));
+        config.setExposedHeaders(List.of("Server-Timing")); // 분석 단계별 소요 시간 헤더를 프론트에서 읽을 수 있도록 노출
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", config);           // 모든 요청 경로에 대해 위 CORS 설정을 적용
@@ -106,6 +107,7 @@ public class SecurityConfig {
                         .requestMatchers("/uploads/**").permitAll() // ✅ 이미지 파일은 모두 허용
                         //분석
                         .requestMatchers(HttpMethod.POST, "/analysis/start").permitAll()
+                        .requestMatchers("/analysis/jobs/**").permitAll() // 비동기 분석 (회원 작업은 서비스에서 본인 확인)
 
                         // 사용자 인증/비인증 경로 (순서 중요) : 각 요청 경로에 대해 인증이 필요한 지 여부를 지정
                         .requestMatchers("/users/mypage").authenticated()
@@ -127,6 +129,7 @@ public class SecurityConfig {
                         // 관리자 전용
                         .requestMatchers("/admin/login").permitAll()            // 로그인만 허용
                         .requestMatchers("/admin/**").hasRole("ADMIN")          // admin 영역 인증 필요
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")       // 메트릭(캐시 적중률 등)은 관리자만
 
                         .anyRequest().authenticated() // 그 외는 인증 필요
                 )
@@ -0,0 +1,220 @@
+package com.talk.back.util;
+
+import java.util.Arrays;
+
+/**
+ * 압축 id 집합 (Roaring bitmap 방식, 음수가 아닌 long id 용)
+ * - id 를 상위 비트(>>> 16)로 묶고, 묶음마다 하위 16비트만 컨테이너에 저장
+ *   · 4096개 이하: 정렬된 char 배열 (원소당 2바이트)
+ *   · 그보다 많으면: 65536비트 비트맵 (8KB 고정)
+ * - 포함 여부: 묶음 찾기(보통 몇 개뿐) + 배열 이진 탐색(최대 12번) / 비트맵 1번 → 사실상 상수 시간
+ * - 스레드 안전하지 않음 (호출하는 쪽에서 잠금)
+ */
+public final class CompactIdSet {
+
+    private static final int ARRAY_MAX = 4096;
+
+    private long[] keys = new long[0];
+    private Container[] containers = new Container[0];
+    private int size;
+
+    public boolean contains(long id) {
+        int index = Arrays.binarySearch(keys, id >>> 16);
+        return index >= 0 && containers[index].contains((char) id);
+    }
+
+    /** 추가, 새로 들어갔으면 true */
+    public boolean add(long id) {
+        if (id < 0) throw new IllegalArgumentException("음수 id 는 저장할 수 없습니다: " + id);
+        long key = id >>> 16;
+        int index = Arrays.binarySearch(keys, key);
+        if (index < 0) {
+            index = -index - 1;
+            keys = insert(keys, index, key);
+            containers = insert(containers, index, new ArrayContainer());
+        }
+        Container container = containers[index];
+        if (!container.add((char) id)) return false;
+        if (container instanceof ArrayContainer array && array.cardinality > ARRAY_MAX) {
+            containers[index] = array.toBitmap();
+        }
+        size++;
+        return true;
+    }
+
+    /** 제거, 있었으면 true */
+    public boolean remove(long id) {
+        int index = Arrays.binarySearch(keys, id >>> 16);
+        if (index < 0) return false;
+        Container container = containers[index];
+        if (!container.remove((char) id)) return false;
+        size--;
+
+        if (container.cardinality() == 0) {
+            keys = delete(keys, index);
+            containers = delete(containers, index);
+        } else if (container instanceof BitmapContainer bitmap && bitmap.cardinality <= ARRAY_MAX / 2) {
+            containers[index] = bitmap.toArray();
+        }
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /** 대략적인 힙 사용량 (바이트, 객체 헤더 포함 추정치) */
+    public long sizeInBytes() {
+        long bytes = 16 + 16L + 8L * keys.length + 16L + 4L * containers.length;
+        for (Container container : containers) {
+            bytes += container.sizeInBytes();
+        }
+        return bytes;
+    }
+
+    private static long[] insert(long[] array, int index, long value) {
+        long[] grown = new long[array.length + 1];
+        System.arraycopy(array, 0, grown, 0, index);
+        grown[index] = value;
+        System.arraycopy(array, index, grown, index + 1, array.length - index);
+        return grown;
+    }
+
+    private static Container[] insert(Container[] array, int index, Container value) {
+        Container[] grown = new Container[array.length + 1];
+        System.arraycopy(array, 0, grown, 0, index);
+        grown[index] = value;
+        System.arraycopy(array, index, grown, index + 1, array.length - index);
+        return grown;
+    }
+
+    private static long[] delete(long[] array, int index) {
+        long[] shrunk = new long[array.length - 1];
+        System.arraycopy(array, 0, shrunk, 0, index);
+        System.arraycopy(array, index + 1, shrunk, index, shrunk.length - index);
+        return shrunk;
+    }
+
+    private static Container[] delete(Container[] array, int index) {
+        Container[] shrunk = new Container[array.length - 1];
+        System.arraycopy(array, 0, shrunk, 0, index);
+        System.arraycopy(array, index + 1, shrunk, index, shrunk.length - index);
+        return shrunk;
+    }
+
+    private interface Container {
+        boolean contains(char low);
+
+        boolean add(char low);
+
+        boolean remove(char low);
+
+        int cardinality();
+
+        long sizeInBytes();
+    }
+
+    private static final class ArrayContainer implements Container {
+        private char[] values = new char[4];
+        private int cardinality;
+
+        @Override
+        public boolean contains(char low) {
+            return Arrays.binarySearch(values, 0, cardinality, low) >= 0;
+        }
+
+        @Override
+        public boolean add(char low) {
+            int index = Arrays.binarySearch(values, 0, cardinality, low);
+            if (index >= 0) return false;
+            index = -index - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(values.length * 2, ARRAY_MAX + 1));
+            }
+            System.arraycopy(values, index, values, index + 1, cardinality - index);
+            values[index] = low;
+            cardinality++;
+            return true;
+        }
+
+        @Override
+        public boolean remove(char low) {
+            int index = Arrays.binarySearch(values, 0, cardinality, low);
+            if (index < 0) return false;
+            System.arraycopy(values, index + 1, values, index, cardinality - index - 1);
+            cardinality--;
+            return true;
+        }
+
+        @Override
+        public int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        public long sizeInBytes() {
+            return 16 + 4 + 16 + 2L * values.length;
+        }
+
+        BitmapContainer toBitmap() {
+            BitmapContainer bitmap = new BitmapContainer();
+            for (int i = 0; i < cardinality; i++) {
+                bitmap.add(values[i]);
+            }
+            return bitmap;
+        }
+    }
+
+    private static final class BitmapContainer implements Container {
+        private final long[] words = new long[1024];
+        private int cardinality;
+
+        @Override
+        public boolean contains(char low) {
+            return (words[low >>> 6] & (1L << low)) != 0;
+        }
+
+        @Override
+        public boolean add(char low) {
+            long before = words[low >>> 6];
+            long after = before | (1L << low);
+            if (before == after) return false;
+            words[low >>> 6] = after;
+            cardinality++;
+            return true;
+        }
+
+        @Override
+        public boolean remove(char low) {
+            long before = words[low >>> 6];
+            long after = before & ~(1L << low);
+            if (before == after) return false;
+            words[low >>> 6] = after;
+            cardinality--;
+            return true;
+        }
+
+        @Override
+        public int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        public long sizeInBytes() {
+            return 16 + 4 + 16 + 8L * words.length;
+        }
+
+        ArrayContainer toArray() {
+            ArrayContainer array = new ArrayContainer();
+            array.values = new char[Math.max(4, cardinality)];
+            for (int word = 0; word < words.length; word++) {
+                long bits = words[word];
+                while (bits != 0) {
+                    array.values[array.cardinality++] = (char) (word * 64 + Long.numberOfTrailingZeros(bits));
+                    bits &= bits - 1;
+                }
+            }
+            return array;
+        }
+    }
+}
@@ -1,22 +1,172 @@
 package com.talk.back.util;
 
 import java.util.*;
-import java.util.regex.Pattern;
 
 /**
  * 매우 단순한 한글 토크나이저 (2글자 이상 한글만 추출)
  * 필요 시 형태소 분석기 교체 가능
+ *
+ * - 정규식 없이 문자를 한 번 훑으며 [가-힣] 연속 구간만 토큰으로 인식 (한글은 대소문자가 없어 소문자 변환 불필요)
+ * - scan(text, buffer): 토큰을 String 으로 만들지 않고 위치(start/end)와 64비트 해시만 buffer 에 기록
+ *   → buffer 를 재사용하면 긴 업로드 파일도 추가 할당 없이 처리 가능
+ * - tokenize(text): 기존 List&lt;String&gt; API (scan 결과를 문자열로 바꿔 주는 얇은 어댑터)
  */
 public class KoreanTokenizer {
-    private static final Pattern WORD_PATTERN = Pattern.compile("[가-힣]{2,}");
+
+    private static final int MIN_LENGTH = 2;
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
 
     public static List<String> tokenize(String text) {
         if (text == null) return Collections.emptyList();
-        var m = WORD_PATTERN.matcher(text.toLowerCase());
         List<String> words = new ArrayList<>();
-        while (m.find()) {
-            words.add(m.group());
-        }
+        scan(text, (start, end, hash) -> words.add(text.substring(start, end)));
         return words;
     }
-}
\ No newline at end of file
+
+    /**
+     * text 의 토큰 위치 / 해시를 buffer 에 기록 (buffer 의 이전 내용은 지워짐)
+     *
+     * @return 토큰 개수
+     */
+    public static int scan(CharSequence text, TokenBuffer buffer) {
+        buffer.reset(text);
+        if (text != null) scan(text, buffer.sink);
+        return buffer.size();
+    }
+
+    private static void scan(CharSequence text, TokenSink sink) {
+        int start = -1;
+        long hash = FNV_OFFSET;
+        for (int i = 0, len = text.length(); i < len; i++) {
+            char c = text.charAt(i);
+            if (isHangulSyllable(c)) {
+                if (start < 0) {
+                    start = i;
+                    hash = FNV_OFFSET;
+                }
+                hash = (hash ^ c) * FNV_PRIME;
+            } else if (start >= 0) {
+                if (i - start >= MIN_LENGTH) sink.token(start, i, mix(hash));
+                start = -1;
+            }
+        }
+        if (start >= 0 && text.length() - start >= MIN_LENGTH) {
+            sink.token(start, text.length(), mix(hash));
+        }
+    }
+
+    private interface TokenSink {
+        void token(int start, int end, long hash);
+    }
+
+    /** scan 과 같은 방식의 토큰 해시 (text[start, end) 구간) */
+    public static long hash(CharSequence text, int start, int end) {
+        long hash = FNV_OFFSET;
+        for (int i = start; i < end; i++) {
+            hash = (hash ^ text.charAt(i)) * FNV_PRIME;
+        }
+        return mix(hash);
+    }
+
+    public static boolean isHangulSyllable(char c) {
+        return c >= '가' && c <= '힣';
+    }
+
+    // FNV 결과의 하위 비트 분포 보정 (open addressing 해시 테이블에서 하위 비트를 인덱스로 쓰기 때문)
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * 재사용 가능한 토큰 버퍼 (토큰 i 의 시작 / 끝 위치와 해시)
+     * - 배열은 필요할 때만 늘어나고 reset 시 그대로 재사용
+     * - 스레드 안전하지 않음 (호출자 스레드 전용으로 사용)
+     */
+    public static final class TokenBuffer {
+
+        private final TokenSink sink = this::add; // 호출마다 람다를 만들지 않도록 버퍼당 하나만 생성
+        private CharSequence source;
+        private int[] starts;
+        private int[] ends;
+        private long[] hashes;
+        private int size;
+
+        public TokenBuffer() {
+            this(64);
+        }
+
+        public TokenBuffer(int initialCapacity) {
+            int capacity = Math.max(initialCapacity, 1);
+            this.starts = new int[capacity];
+            this.ends = new int[capacity];
+            this.hashes = new long[capacity];
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public int start(int i) {
+            return starts[i];
+        }
+
+        public int end(int i) {
+            return ends[i];
+        }
+
+        public int length(int i) {
+            return ends[i] - starts[i];
+        }
+
+        public long hash(int i) {
+            return hashes[i];
+        }
+
+        /** 마지막으로 scan 한 텍스트 */
+        public CharSequence source() {
+            return source;
+        }
+
+        /** 토큰 i 를 문자열로 (필요한 토큰만 꺼낼 때 사용) */
+        public String token(int i) {
+            return source.subSequence(starts[i], ends[i]).toString();
+        }
+
+        /** 토큰 i 와 other 의 토큰 j 가 같은 글자인지 (해시 충돌 검증용) */
+        public boolean sameToken(int i, TokenBuffer other, int j) {
+            int length = length(i);
+            if (length != other.length(j)) return false;
+            int a = starts[i];
+            int b = other.starts[j];
+            for (int k = 0; k < length; k++) {
+                if (source.charAt(a + k) != other.source.charAt(b + k)) return false;
+            }
+            return true;
+        }
+
+        void reset(CharSequence text) {
+            this.source = text;
+            this.size = 0;
+        }
+
+        void add(int start, int end, long hash) {
+            if (size == starts.length) {
+                int capacity = size * 2;
+                starts = Arrays.copyOf(starts, capacity);
+                ends = Arrays.copyOf(ends, capacity);
+                hashes = Arrays.copyOf(hashes, capacity);
+            }
+            starts[size] = start;
+            ends[size] = end;
+            hashes[size] = hash;
+            size++;
+        }
+    }
+}
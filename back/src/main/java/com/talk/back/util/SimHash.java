@@ -0,0 +1,80 @@
+package com.talk.back.util;
+
+/**
+ * 64비트 SimHash (거의 같은 문서 찾기용 지문)
+ * - 공백 / 문장부호는 건너뛰고 글자·숫자만 소문자로 이어 붙인 뒤, 연속 3글자(shingle)마다 64비트 해시를 만들어 비트별로 투표
+ * - 끝 공백 / 줄바꿈 차이는 지문이 완전히 같고, 오타 한두 글자는 몇 비트만 달라짐 → 해밍 거리로 비교
+ * - 글자·숫자가 하나도 없으면 0 (EMPTY, 색인하지 않음)
+ */
+public final class SimHash {
+
+    public static final long EMPTY = 0L;
+
+    private static final int SHINGLE = 3;
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private SimHash() {
+    }
+
+    public static long fingerprint(CharSequence text) {
+        if (text == null) return EMPTY;
+
+        int[] votes = new int[64];
+        int[] window = new int[SHINGLE];
+        int seen = 0;
+
+        for (int i = 0, len = text.length(); i < len; ) {
+            int cp = Character.codePointAt(text, i);
+            i += Character.charCount(cp);
+            if (!Character.isLetterOrDigit(cp)) continue;
+
+            window[seen % SHINGLE] = Character.toLowerCase(cp);
+            seen++;
+            if (seen >= SHINGLE) {
+                vote(votes, shingleHash(window, seen));
+            }
+        }
+        if (seen == 0) return EMPTY;
+        if (seen < SHINGLE) {
+            vote(votes, shingleHash(window, seen)); // 3글자 미만 짧은 글은 전체를 shingle 1개로
+        }
+
+        long fingerprint = 0;
+        for (int bit = 0; bit < 64; bit++) {
+            if (votes[bit] > 0) fingerprint |= 1L << bit;
+        }
+        return fingerprint;
+    }
+
+    public static int distance(long a, long b) {
+        return Long.bitCount(a ^ b);
+    }
+
+    // window 는 원형 버퍼 → 들어온 순서대로 (최근 min(seen, SHINGLE) 글자)
+    private static long shingleHash(int[] window, int seen) {
+        int count = Math.min(seen, SHINGLE);
+        long hash = FNV_OFFSET;
+        for (int k = seen - count; k < seen; k++) {
+            hash = (hash ^ window[k % SHINGLE]) * FNV_PRIME;
+        }
+        return mix(hash);
+    }
+
+    private static void vote(int[] votes, long hash) {
+        for (int bit = 0; bit < 64; bit++) {
+            votes[bit] += ((hash >>> bit) & 1L) != 0 ? 1 : -1;
+        }
+    }
+
+    // murmur3 fmix64 (FNV 결과의 비트 분포 보정)
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
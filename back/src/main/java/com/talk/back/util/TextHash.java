@@ -0,0 +1,19 @@
+package com.talk.back.util;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 원문 해시 (AnalysisRecord.originalTextHash, OriginalEmbedding 키, 매칭 캐시 키가 모두 같은 값을 써야 함)
+ * - UTF-8 바이트의 MD5 hex, 서버 기본 charset 과 상관없이 같은 값
+ */
+public final class TextHash {
+
+    private TextHash() {
+    }
+
+    public static String md5Hex(String text) {
+        return DigestUtils.md5DigestAsHex((text == null ? "" : text).getBytes(StandardCharsets.UTF_8));
+    }
+}
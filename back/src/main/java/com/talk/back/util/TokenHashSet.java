@@ -0,0 +1,122 @@
+package com.talk.back.util;
+
+import java.util.Arrays;
+
+/**
+ * TokenBuffer 의 토큰을 중복 없이 담는 open addressing 해시 집합
+ * - 키는 토큰의 64비트 해시(long), 값은 첫 등장 토큰 번호 → String / 박싱 없이 집합 연산 가능
+ * - 해시가 같아도 실제 글자를 한 번 더 비교하므로 해시 충돌이 나도 결과가 틀리지 않음
+ * - 들어온 순서대로 번호(ordinal, 0부터)를 매김
+ */
+public final class TokenHashSet {
+
+    private static final int MIN_CAPACITY = 16;
+    // 긴 텍스트도 고유 단어 수는 토큰 수보다 훨씬 적으므로 처음엔 이 정도로 잡고 필요할 때 늘림
+    private static final int MAX_INITIAL_SIZE = 4096;
+
+    private final KoreanTokenizer.TokenBuffer buffer;
+    private long[] hashes;
+    private int[] slots;     // 0 = 빈 칸, 그 외 ordinal + 1
+    private int[] tokens;    // ordinal → buffer 안의 토큰 번호 (첫 등장 위치)
+    private int size;
+    private int mask;
+
+    public TokenHashSet(KoreanTokenizer.TokenBuffer buffer, int expectedSize) {
+        this.buffer = buffer;
+        int capacity = tableSizeFor(Math.max(MIN_CAPACITY, expectedSize * 2));
+        this.hashes = new long[capacity];
+        this.slots = new int[capacity];
+        this.tokens = new int[Math.max(MIN_CAPACITY, expectedSize)];
+        this.mask = capacity - 1;
+    }
+
+    /** buffer 의 모든 토큰으로 집합 생성 */
+    public static TokenHashSet of(KoreanTokenizer.TokenBuffer buffer) {
+        TokenHashSet set = new TokenHashSet(buffer, initialSize(buffer));
+        for (int i = 0; i < buffer.size(); i++) {
+            set.addIfAbsent(i);
+        }
+        return set;
+    }
+
+    /**
+     * buffer 의 토큰 i 추가
+     *
+     * @return 새로 추가되면 ordinal, 이미 있으면 -1
+     */
+    public int addIfAbsent(int token) {
+        long hash = buffer.hash(token);
+        int index = (int) hash & mask;
+        while (slots[index] != 0) {
+            int ordinal = slots[index] - 1;
+            if (hashes[index] == hash && buffer.sameToken(tokens[ordinal], buffer, token)) {
+                return -1;
+            }
+            index = (index + 1) & mask;
+        }
+
+        if (size == tokens.length) {
+            tokens = Arrays.copyOf(tokens, size * 2);
+        }
+        int ordinal = size++;
+        tokens[ordinal] = token;
+        hashes[index] = hash;
+        slots[index] = ordinal + 1;
+
+        if (size * 2 > slots.length) {
+            resize();
+        }
+        return ordinal;
+    }
+
+    /** 다른 버퍼(other)의 토큰 j 와 같은 글자의 원소 ordinal, 없으면 -1 */
+    public int find(KoreanTokenizer.TokenBuffer other, int j) {
+        long hash = other.hash(j);
+        int index = (int) hash & mask;
+        while (slots[index] != 0) {
+            int ordinal = slots[index] - 1;
+            if (hashes[index] == hash && buffer.sameToken(tokens[ordinal], other, j)) {
+                return ordinal;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    /** buffer 토큰 수 기준 초기 크기 (최대 MAX_INITIAL_SIZE) */
+    public static int initialSize(KoreanTokenizer.TokenBuffer buffer) {
+        return Math.min(buffer.size(), MAX_INITIAL_SIZE);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /** ordinal 번째 원소의 buffer 토큰 번호 */
+    public int token(int ordinal) {
+        return tokens[ordinal];
+    }
+
+    private void resize() {
+        long[] oldHashes = hashes;
+        int[] oldSlots = slots;
+        int capacity = oldSlots.length * 2;
+        hashes = new long[capacity];
+        slots = new int[capacity];
+        mask = capacity - 1;
+
+        for (int i = 0; i < oldSlots.length; i++) {
+            if (oldSlots[i] == 0) continue;
+            int index = (int) oldHashes[i] & mask;
+            while (slots[index] != 0) {
+                index = (index + 1) & mask;
+            }
+            hashes[index] = oldHashes[i];
+            slots[index] = oldSlots[i];
+        }
+    }
+
+    private static int tableSizeFor(int n) {
+        return Integer.highestOneBit(Math.max(n - 1, 1)) << 1;
+    }
+}
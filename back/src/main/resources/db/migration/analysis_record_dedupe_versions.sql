@@ -0,0 +1,34 @@
+-- analysis_record (original_text_hash, version_no) 중복 정리 + 유니크 제약 추가 (MySQL 8)
+-- 예전 MAX(version_no) + 1 배정은 같은 원문을 동시에 저장하면 같은 번호를 줄 수 있었음
+-- AnalysisVersionConstraintCheck 가 제약 없이 중복이 남아 있으면 기동을 멈추고 이 스크립트를 안내함 (운영자가 직접 실행)
+
+-- 1. 겹치는 번호는 id 가 가장 작은 행만 그대로 두고, 나머지는 그 원문의 MAX(version_no) 뒤로 id 순서대로 다시 매김
+UPDATE analysis_record r
+JOIN (
+    SELECT d.id,
+           m.max_version + ROW_NUMBER() OVER (PARTITION BY d.original_text_hash ORDER BY d.id) AS new_version
+    FROM analysis_record d
+    JOIN (
+        SELECT original_text_hash, MAX(version_no) AS max_version
+        FROM analysis_record
+        GROUP BY original_text_hash
+    ) m ON m.original_text_hash = d.original_text_hash
+    WHERE EXISTS (
+        SELECT 1 FROM analysis_record k
+        WHERE k.original_text_hash = d.original_text_hash AND k.version_no = d.version_no AND k.id < d.id
+    )
+) t ON t.id = r.id
+SET r.version_no = t.new_version;
+
+-- 2. 해시별 시퀀스 (analysis_version_seq) 가 새로 매긴 번호보다 뒤에서 이어지도록
+UPDATE analysis_version_seq s
+JOIN (
+    SELECT original_text_hash, MAX(version_no) AS max_version
+    FROM analysis_record
+    GROUP BY original_text_hash
+) m ON m.original_text_hash = s.original_text_hash
+SET s.last_version = GREATEST(s.last_version, m.max_version);
+
+-- 3. 유니크 제약 (예전 idx_analysis_record_hash_version 인덱스는 이 제약과 같은 컬럼이라 이후 DROP 해도 됨)
+ALTER TABLE analysis_record
+    ADD CONSTRAINT uk_analysis_record_hash_version UNIQUE (original_text_hash, version_no);
@@ -0,0 +1,6 @@
+-- comment_likes.id → AUTO_INCREMENT (MySQL)
+-- 예전에는 comment_likes_seq 테이블로 id 를 배정했음 → CommentLikeWriter 가 id 없이 INSERT 할 수 있도록 변경
+-- 수동 실행: 배포 전에 mysql 클라이언트로 한 번 실행 (이미 AUTO_INCREMENT 면 실행할 필요 없음)
+-- CommentLikeIdMigration 은 기동 시 확인만 하고 경고 (community.like-id-migration.enabled=true 일 때만 직접 실행)
+-- (comment_likes_seq 테이블은 더 이상 쓰지 않지만 되돌릴 수 있도록 남겨 둠)
+ALTER TABLE comment_likes MODIFY id BIGINT NOT NULL AUTO_INCREMENT;
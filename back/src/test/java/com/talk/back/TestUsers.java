@@ -0,0 +1,29 @@
+package com.talk.back;
+
+import com.talk.back.auth.entity.User;
+import com.talk.back.enums.Gender;
+import jakarta.persistence.EntityManager;
+
+import java.time.LocalDate;
+
+/**
+ * JPA 테스트용 사용자 (필수 컬럼만 채운 고정값, 이메일로 구분)
+ */
+public final class TestUsers {
+
+    private TestUsers() {
+    }
+
+    public static User persist(EntityManager entityManager, String email) {
+        User user = User.builder()
+                .email(email)
+                .password("pw")
+                .name("테스터")
+                .phone("010-0000-0000")
+                .birthDate(LocalDate.of(2000, 1, 1))
+                .gender(Gender.FEMALE)
+                .build();
+        entityManager.persist(user);
+        return user;
+    }
+}
@@ -0,0 +1,90 @@
+package com.talk.back.analysis;
+
+import com.talk.back.analysis.dto.AnalysisJobDto;
+import com.talk.back.analysis.dto.AnalysisRequestDto;
+import com.talk.back.analysis.dto.AnalysisResponseDto;
+import com.talk.back.analysis.job.AnalysisJob;
+import com.talk.back.analysis.job.AnalysisJobService;
+import com.talk.back.analysis.service.AnalysisService;
+import com.talk.back.analysis.service.AnalysisStageTimer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AnalysisJobServiceTest {
+
+    private final AnalysisService analysisService = mock(AnalysisService.class);
+    private final AnalysisJobService jobService = new AnalysisJobService(
+            analysisService, 1, 1, 100, Duration.ofMinutes(1), Duration.ofSeconds(5));
+
+    @AfterEach
+    void tearDown() {
+        jobService.shutdown();
+    }
+
+    @Test
+    void jobRunsInBackgroundAndKeepsResult() throws Exception {
+        List<String> fileTexts = new CopyOnWriteArrayList<>();
+        CountDownLatch finished = new CountDownLatch(1);
+        when(analysisService.analyzeAndSave(any(AnalysisRequestDto.class), any(AnalysisStageTimer.class)))
+                .thenAnswer(invocation -> {
+                    AnalysisRequestDto req = invocation.getArgument(0);
+                    AnalysisStageTimer timer = invocation.getArgument(1);
+                    // 요청이 끝난 뒤에도 파일 내용을 읽을 수 있어야 함
+                    fileTexts.add(new String(req.getOriginalFile().getBytes(), StandardCharsets.UTF_8));
+                    timer.start(AnalysisStageTimer.EXTRACT);
+                    timer.start(AnalysisStageTimer.SCORE);
+                    timer.start(AnalysisStageTimer.PERSIST);
+                    timer.stop();
+                    finished.countDown();
+                    return AnalysisResponseDto.builder().recordId(7L).build();
+                });
+
+        AnalysisJob job = jobService.submit(AnalysisRequestDto.builder()
+                .userText("이해한 내용")
+                .originalFile(new MockMultipartFile("originalFile", "a.txt", "text/plain",
+                        "파일 원문".getBytes(StandardCharsets.UTF_8)))
+                .build());
+
+        assertThat(finished.await(5, TimeUnit.SECONDS)).isTrue();
+        AnalysisJobDto dto = awaitFinished(job);
+
+        assertThat(dto.getStatus()).isEqualTo("DONE");
+        assertThat(dto.getResult().getRecordId()).isEqualTo(7L);
+        assertThat(dto.getServerTiming()).contains("score;dur=");
+        assertThat(fileTexts).containsExactly("파일 원문");
+        assertThat(jobService.find(job.getId())).containsSame(job);
+    }
+
+    @Test
+    void failedAnalysisIsReportedOnTheJob() throws Exception {
+        when(analysisService.analyzeAndSave(any(AnalysisRequestDto.class), any(AnalysisStageTimer.class)))
+                .thenThrow(new RuntimeException("KoSBERT 서버 요청 실패"));
+
+        AnalysisJob job = jobService.submit(AnalysisRequestDto.builder().userText("이해").build());
+        AnalysisJobDto dto = awaitFinished(job);
+
+        assertThat(dto.getStatus()).isEqualTo("FAILED");
+        assertThat(dto.getMessage()).contains("KoSBERT");
+    }
+
+    private static AnalysisJobDto awaitFinished(AnalysisJob job) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!job.isFinished() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        return job.toDto();
+    }
+}
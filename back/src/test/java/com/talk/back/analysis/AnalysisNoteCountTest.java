@@ -0,0 +1,107 @@
+package com.talk.back.analysis;
+
+import com.talk.back.analysis.entity.AnalysisRecord;
+import com.talk.back.analysis.library.note.AnalysisNote;
+import com.talk.back.analysis.library.note.AnalysisNoteCountReconciler;
+import com.talk.back.analysis.library.note.AnalysisNoteService;
+import com.talk.back.analysis.repository.AnalysisRecordRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * analysis_record.note_count 증감 / 보정 테스트
+ */
+@DataJpaTest(properties = "analysis.note-count.chunk-size=2")
+@Import({AnalysisNoteService.class, AnalysisNoteCountReconciler.class})
+class AnalysisNoteCountTest {
+
+    @Autowired
+    private AnalysisNoteService analysisNoteService;
+    @Autowired
+    private AnalysisNoteCountReconciler reconciler;
+    @Autowired
+    private AnalysisRecordRepository analysisRecordRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long recordId;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 5; i++) {
+            AnalysisRecord record = AnalysisRecord.builder()
+                    .originalText("원문")
+                    .userText("이해 " + i)
+                    .resultJson("{}")
+                    .originalTextHash("hash-" + i)
+                    .versionNo(0)
+                    .matchingRate(0.0)
+                    .build();
+            entityManager.persist(record);
+            recordId = record.getId();
+        }
+        entityManager.flush();
+    }
+
+    @Test
+    void saveAndDeleteKeepCounterInSync() {
+        AnalysisNote first = analysisNoteService.saveNote(recordId, "첫 번째 노트");
+        analysisNoteService.saveNote(recordId, "두 번째 노트");
+        analysisNoteService.deleteNote(first.getId());
+
+        assertThat(noteCount(recordId)).isEqualTo(1);
+        assertThatThrownBy(() -> analysisNoteService.deleteNote(first.getId()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(noteCount(recordId)).isEqualTo(1);
+    }
+
+    @Test
+    void unknownRecordIsRejectedWithoutSavingNote() {
+        assertThatThrownBy(() -> analysisNoteService.saveNote(-1L, "노트"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM analysis_note", Integer.class)).isZero();
+    }
+
+    @Test
+    void savingLoadedRecordDoesNotOverwriteConcurrentNoteCount() {
+        // 중요도 토글처럼 기록을 먼저 읽어 둔 상태 (note_count = 0)
+        AnalysisRecord loaded = analysisRecordRepository.findById(recordId).orElseThrow();
+
+        // 그 사이 다른 요청이 노트를 달아 note_count 가 1 로 커밋됨
+        analysisNoteService.saveNote(recordId, "노트");
+
+        // 읽어 둔 기록의 다른 필드만 바꿔 저장
+        loaded.setImportant(!loaded.isImportant());
+        analysisRecordRepository.save(loaded);
+
+        assertThat(noteCount(recordId)).isEqualTo(1);
+    }
+
+    @Test
+    void reconcilerRepairsDriftAcrossChunks() {
+        analysisNoteService.saveNote(recordId, "노트");
+        entityManager.flush();
+        jdbcTemplate.update("UPDATE analysis_record SET note_count = 7");
+
+        // 5건 중 노트 1개인 기록은 7 → 1, 나머지 4건은 7 → 0
+        assertThat(reconciler.reconcileAll()).isEqualTo(5);
+        assertThat(reconciler.reconcileAll()).isZero();
+        assertThat(noteCount(recordId)).isEqualTo(1);
+    }
+
+    private int noteCount(Long id) {
+        entityManager.flush();
+        entityManager.clear();
+        return analysisRecordRepository.findById(id).orElseThrow().getNoteCount();
+    }
+}
@@ -0,0 +1,229 @@
+package com.talk.back.analysis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.talk.back.analysis.blob.BlobStore;
+import com.talk.back.analysis.blob.BlobUpload;
+import com.talk.back.analysis.controller.AnalysisController;
+import com.talk.back.analysis.dto.AnalysisResponseDto;
+import com.talk.back.analysis.dto.MatchDetailDto;
+import com.talk.back.analysis.entity.AnalysisRecord;
+import com.talk.back.analysis.library.note.AnalysisNoteRepository;
+import com.talk.back.analysis.repository.AnalysisRecordBatchWriter;
+import com.talk.back.analysis.repository.AnalysisRecordRepository;
+import com.talk.back.analysis.repository.AnalysisVersionAllocator;
+import com.talk.back.analysis.service.AnalysisService;
+import com.talk.back.analysis.service.LibraryCountCache;
+import com.talk.back.analysis.service.MatchEngine;
+import com.talk.back.analysis.service.TextExtractor;
+import com.talk.back.analysis.simhash.SimHashIndex;
+import com.talk.back.auth.entity.User;
+import com.talk.back.auth.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * /analysis/start 파이프라인 회귀 테스트
+ * - 요청 1건당 스코어러(MatchEngine)는 정확히 1번만 호출되어야 함
+ */
+@ExtendWith(MockitoExtension.class)
+class AnalysisPipelineTest {
+
+    @Mock
+    private AnalysisRecordRepository analysisRecordRepository;
+    @Mock
+    private AnalysisNoteRepository analysisNoteRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private MatchEngine matchEngine;
+    @Mock
+    private AnalysisRecordBatchWriter analysisRecordBatchWriter;
+    @Mock
+    private BlobStore blobStore;
+    @Mock
+    private AnalysisVersionAllocator analysisVersionAllocator;
+
+    private AnalysisService analysisService;
+    private AnalysisController analysisController;
+
+    @BeforeEach
+    void setUp() {
+        analysisService = new AnalysisService(analysisRecordRepository, new TextExtractor(),
+                new ObjectMapper(), analysisNoteRepository, matchEngine, userRepository, analysisRecordBatchWriter,
+                blobStore, analysisVersionAllocator, new SimHashIndex(4),
+                new LibraryCountCache(analysisRecordRepository, 100, Duration.ofMinutes(1)));
+        analysisController = new AnalysisController(
+                analysisService, analysisRecordRepository, analysisNoteRepository, new ObjectMapper());
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void guestRequestCallsScorerExactlyOnce() throws Exception {
+        when(matchEngine.analyze(anyString(), anyString())).thenReturn(detail(87.5));
+
+        ResponseEntity<AnalysisResponseDto> response =
+                analysisController.analyze("원문 텍스트입니다.", "이해한 내용입니다.", null);
+
+        verify(matchEngine, times(1)).analyze("원문 텍스트입니다.", "이해한 내용입니다.");
+        verifyNoMoreInteractions(matchEngine);
+        verify(analysisRecordRepository, never()).save(any());
+        verifyNoInteractions(blobStore, analysisVersionAllocator);
+
+        assertThat(response.getBody().getResult().getMatchingRate()).isEqualTo(87.5);
+        assertThat(response.getHeaders().getFirst(AnalysisController.SERVER_TIMING_HEADER))
+                .contains("extract;dur=", "score;dur=", "persist;dur=", "total;dur=");
+    }
+
+    @Test
+    void memberRequestWithFileCallsScorerOnceAndPersists() throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("user@test.com", null, List.of()));
+        User user = User.builder().userId(1L).email("user@test.com").build();
+        when(userRepository.findByEmail("user@test.com")).thenReturn(Optional.of(user));
+        when(matchEngine.analyze(anyString(), anyString())).thenReturn(detail(42.0));
+        InMemoryUpload upload = new InMemoryUpload();
+        when(blobStore.openUpload()).thenReturn(upload);
+        when(blobStore.commit(upload)).thenReturn("blob-key");
+
+        MockMultipartFile file = new MockMultipartFile(
+                "originalFile", "origin.txt", "text/plain", "파일 원문".getBytes(StandardCharsets.UTF_8));
+
+        analysisController.analyze("입력 원문", "이해한 내용", file);
+
+        // 입력 원문 + 파일 내용이 합쳐진 텍스트로 한 번만 분석
+        verify(matchEngine, times(1)).analyze("입력 원문\n\n파일 원문", "이해한 내용");
+        verifyNoMoreInteractions(matchEngine);
+        verify(analysisRecordRepository, times(1)).save(argThat(record ->
+                "blob-key".equals(record.getOriginalFileKey()) && "origin.txt".equals(record.getOriginalFileName())
+                        && record.getKeywordLists() != null && record.getResultJson() == null));
+
+        // 원본 파일은 추출과 같은 스트림으로 저장소에 기록됨
+        assertThat(upload.text(StandardCharsets.UTF_8)).isEqualTo("파일 원문");
+
+        // 저장소 반영 (analysis_blob 행 잠금) 은 원격 채점이 끝난 뒤
+        InOrder order = inOrder(matchEngine, blobStore);
+        order.verify(matchEngine).analyze(anyString(), anyString());
+        order.verify(blobStore).commit(upload);
+    }
+
+    @Test
+    void failedScoringDiscardsUploadWithoutCommitting() throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("user@test.com", null, List.of()));
+        User user = User.builder().userId(1L).email("user@test.com").build();
+        when(userRepository.findByEmail("user@test.com")).thenReturn(Optional.of(user));
+        when(matchEngine.analyze(anyString(), anyString())).thenThrow(new IllegalStateException("채점 실패"));
+        InMemoryUpload upload = new InMemoryUpload();
+        when(blobStore.openUpload()).thenReturn(upload);
+
+        MockMultipartFile file = new MockMultipartFile(
+                "originalFile", "origin.txt", "text/plain", "파일 원문".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> analysisController.analyze("입력 원문", "이해한 내용", file))
+                .isInstanceOf(IllegalStateException.class);
+
+        verify(blobStore, never()).commit(any());
+        assertThat(upload.size()).isZero(); // discard 로 비워짐
+    }
+
+    @Test
+    void resetCreatesRecordWithAllocatedVersion() throws Exception {
+        AnalysisRecord original = AnalysisRecord.builder()
+                .id(5L).originalText("원문").originalTextHash("hash").versionNo(2).matchingRate(10.0).build();
+        when(analysisRecordRepository.findById(5L)).thenReturn(Optional.of(original));
+        when(analysisRecordRepository.findFirstByOriginalTextHashAndIsResetTrueOrderByIdAsc(anyString()))
+                .thenReturn(Optional.empty());
+        when(analysisVersionAllocator.next(anyString())).thenReturn(3);
+
+        analysisService.resetUnderstanding(5L);
+
+        // 버전 1 을 직접 쓰지 않고 배정받은 번호로 저장 (같은 원문에 버전 1 이 두 개 생기지 않도록)
+        verify(analysisVersionAllocator, times(1)).next(anyString());
+        verify(analysisRecordRepository, times(1)).save(argThat(record -> record.getVersionNo() == 3
+                && Boolean.TRUE.equals(record.getIsReset()) && record.getCreatedBy() == null
+                && record.getResultJson() == null && record.getKeywordLists() != null
+                && Boolean.FALSE.equals(record.getDegraded()) && record.getMatchingRate() == 0.0));
+    }
+
+    @Test
+    void resetReusesMarkedRecordInsteadOfVersionOne() throws Exception {
+        AnalysisRecord original = AnalysisRecord.builder()
+                .id(5L).originalText("원문").originalTextHash("hash").versionNo(2).matchingRate(10.0).build();
+        AnalysisRecord resetRecord = AnalysisRecord.builder()
+                .id(9L).originalText("원문").originalTextHash("hash").versionNo(7).userText("이전 내용")
+                .matchingRate(40.0).isReset(true).build();
+        when(analysisRecordRepository.findById(5L)).thenReturn(Optional.of(original));
+        when(analysisRecordRepository.findFirstByOriginalTextHashAndIsResetTrueOrderByIdAsc(anyString()))
+                .thenReturn(Optional.of(resetRecord));
+
+        assertThat(analysisService.resetUnderstanding(5L).getNewRecordId()).isEqualTo(9L);
+
+        // 표시된 초기화 기록만 비우고 새 기록 / 새 번호는 만들지 않음
+        assertThat(resetRecord.getUserText()).isEmpty();
+        verify(analysisVersionAllocator, never()).next(anyString());
+        verify(analysisRecordRepository, never()).save(any());
+    }
+
+    private static final class InMemoryUpload extends BlobUpload {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        @Override
+        public void write(int b) {
+            bytes.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            bytes.write(b, off, len);
+        }
+
+        @Override
+        public long size() {
+            return bytes.size();
+        }
+
+        @Override
+        public void discard() {
+            bytes.reset();
+        }
+
+        String text(Charset charset) {
+            return bytes.toString(charset);
+        }
+    }
+
+    private static MatchDetailDto detail(double rate) {
+        return MatchDetailDto.builder()
+                .matchingRate(rate)
+                .keywordMatches(List.of())
+                .missedKeywords(List.of())
+                .extraKeywords(List.of())
+                .build();
+    }
+}
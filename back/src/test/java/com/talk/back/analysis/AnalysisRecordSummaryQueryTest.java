@@ -0,0 +1,137 @@
+package com.talk.back.analysis;
+
+import com.talk.back.TestUsers;
+import com.talk.back.analysis.dto.AnalysisRecordSummary;
+import com.talk.back.analysis.entity.AnalysisRecord;
+import com.talk.back.analysis.repository.AnalysisRecordRepository;
+import com.talk.back.analysis.service.LibraryCursor;
+import com.talk.back.auth.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 라이브러리 목록 전용 조회 테스트
+ * - 페이지 크기와 상관없이 SQL 은 목록 1번 + 전체 개수 1번
+ * - 커서 조회는 페이지마다 목록 1번 (전체 개수 없음)
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class AnalysisRecordSummaryQueryTest {
+
+    private static final int RECORD_COUNT = 30;
+
+    @Autowired
+    private AnalysisRecordRepository analysisRecordRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        User user = TestUsers.persist(entityManager, "library@test.com");
+        userId = user.getUserId();
+
+        // i 번째 기록에는 노트 i % 4 개 (note_count 컬럼), 3의 배수 기록은 숨김
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            AnalysisRecord record = AnalysisRecord.builder()
+                    .createdBy(user)
+                    .originalText("원문 ".repeat(1000))
+                    .userText("사용자가 이해한 내용 " + i)
+                    .resultJson("{}")
+                    .originalTextHash("hash-" + i)
+                    .versionNo(0)
+                    .matchingRate((double) i)
+                    .subject("주제 " + i)
+                    .isHidden(i % 3 == 0)
+                    .hiddenAt(i % 3 == 0 ? LocalDateTime.now() : null)
+                    .noteCount(i % 4)
+                    .build();
+            entityManager.persist(record);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void pageIsLoadedWithAtMostTwoStatementsRegardlessOfSize() {
+        for (int size : new int[]{5, 20}) {
+            Statistics statistics = statistics();
+            statistics.clear();
+
+            Page<AnalysisRecordSummary> page = analysisRecordRepository.findVisibleSummariesByUserId(
+                    userId, Integer.MAX_VALUE, PageRequest.of(0, size, Sort.by("matchingRate").ascending()));
+
+            assertThat(page.getContent()).hasSize(Math.min(size, 20));
+            assertThat(page.getTotalElements()).isEqualTo(20);
+            assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+        }
+    }
+
+    @Test
+    void noteCountAndPreviewComeFromSameQuery() {
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("matchingRate").ascending());
+        Page<AnalysisRecordSummary> hidden = analysisRecordRepository.findHiddenSummariesByUserId(userId, 6, pageable);
+
+        assertThat(hidden.getTotalElements()).isEqualTo(10);
+        for (AnalysisRecordSummary summary : hidden) {
+            int i = summary.getMatchingRate().intValue();
+            assertThat(i % 3).isZero();
+            assertThat(summary.getNoteCount()).isEqualTo(i % 4);
+            assertThat(summary.getUserText()).isEqualTo("사용자가 이해");
+            assertThat(summary.getHiddenAt()).isNotNull();
+        }
+    }
+
+    @Test
+    void cursorWalksEveryVisibleRecordOnceWithoutCountQuery() {
+        // 같은 createdAt 이 섞여 있어도 id 로 이어서 빠짐 / 중복 없이 최신순
+        List<Long> seen = new ArrayList<>();
+        LibraryCursor cursor = LibraryCursor.FIRST;
+        Statistics statistics = statistics();
+        statistics.clear();
+        int pages = 0;
+        while (true) {
+            List<AnalysisRecordSummary> rows = analysisRecordRepository.findSummariesAfterCursor(
+                    userId, false, cursor.createdAt(), cursor.id(), Integer.MAX_VALUE, Limit.of(7));
+            pages++;
+            if (rows.isEmpty()) break;
+            rows.forEach(row -> seen.add(row.getId()));
+            AnalysisRecordSummary last = rows.get(rows.size() - 1);
+            cursor = LibraryCursor.decode(new LibraryCursor(last.getCreatedAt(), last.getId()).encode());
+        }
+
+        assertThat(seen).hasSize(20).doesNotHaveDuplicates();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(pages);
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        assertThatThrownBy(() -> LibraryCursor.decode("not-a-cursor"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(LibraryCursor.decode(null)).isEqualTo(LibraryCursor.FIRST);
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+}
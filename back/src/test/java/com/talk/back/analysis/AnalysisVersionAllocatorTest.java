@@ -0,0 +1,124 @@
+package com.talk.back.analysis;
+
+import com.talk.back.analysis.repository.AnalysisVersionAllocator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 원문 해시별 버전 배정 테스트
+ * - 스레드마다 자기 트랜잭션으로 커밋해야 하므로 테스트 트랜잭션은 끔
+ */
+@DataJpaTest
+@Import(AnalysisVersionAllocator.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AnalysisVersionAllocatorTest {
+
+    @Autowired
+    private AnalysisVersionAllocator allocator;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void concurrentAllocationsAreUniqueAndGapFree() throws Exception {
+        int threads = 16;
+        int perThread = 50;
+        String hash = "0123456789abcdef0123456789abcdef";
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<List<Integer>>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    List<Integer> versions = new ArrayList<>();
+                    for (int i = 0; i < perThread; i++) {
+                        versions.add(allocator.next(hash));
+                    }
+                    return versions;
+                }));
+            }
+            start.countDown();
+
+            List<Integer> all = new ArrayList<>();
+            for (Future<List<Integer>> future : futures) {
+                all.addAll(future.get(30, TimeUnit.SECONDS));
+            }
+            Collections.sort(all);
+            assertThat(all).containsExactlyElementsOf(IntStream.range(0, threads * perThread).boxed().toList());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void reservationContinuesFromExistingRecords() {
+        String hash = "fedcba9876543210fedcba9876543210";
+        for (int version = 0; version < 3; version++) {
+            jdbcTemplate.update("""
+                INSERT INTO analysis_record (original_text_hash, version_no, matching_rate, is_important, is_hidden, note_count)
+                VALUES (?, ?, 0, false, false, 0)
+            """, hash, version);
+        }
+
+        assertThat(allocator.reserve(hash, 5)).isEqualTo(3);   // 3 ~ 7
+        assertThat(allocator.next(hash)).isEqualTo(8);
+    }
+
+    @Test
+    void duplicateVersionIsRejectedByDatabase() {
+        String hash = "abababababababababababababababab";
+        String insert = """
+            INSERT INTO analysis_record (original_text_hash, version_no, matching_rate, is_important, is_hidden, note_count)
+            VALUES (?, 1, 0, false, false, 0)
+        """;
+        jdbcTemplate.update(insert, hash);
+
+        assertThatThrownBy(() -> jdbcTemplate.update(insert, hash))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    void latencyStaysFlatAsSequenceTableGrows() {
+        String hash = "00000000000000000000000000000000";
+        allocator.next(hash);
+        double small = averageMicros(hash);
+
+        List<Object[]> rows = IntStream.range(0, 20_000)
+                .mapToObj(i -> new Object[]{String.format("%032x", i + 1), 0})
+                .toList();
+        jdbcTemplate.batchUpdate("INSERT INTO analysis_version_seq (original_text_hash, last_version) VALUES (?, ?)", rows);
+        double large = averageMicros(hash);
+
+        // 해시 기본 키 조회 → 행 수가 늘어도 비슷해야 함 (측정 오차를 감안해 넉넉하게)
+        assertThat(large).isLessThan(small * 3 + 500);
+    }
+
+    private double averageMicros(String hash) {
+        int rounds = 300;
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < rounds; i++) {
+            allocator.next(hash);
+        }
+        return (System.nanoTime() - startedAt) / 1_000.0 / rounds;
+    }
+}
@@ -0,0 +1,124 @@
+package com.talk.back.analysis;
+
+import com.talk.back.analysis.dto.MatchDetailDto;
+import com.talk.back.analysis.service.CachingMatchEngine;
+import com.talk.back.analysis.service.MatchEngine;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CachingMatchEngineTest {
+
+    @Test
+    void repeatedPairIsScoredOnce() {
+        AtomicInteger calls = new AtomicInteger();
+        MatchEngine backend = (o, u) -> {
+            calls.incrementAndGet();
+            return MatchDetailDto.builder().matchingRate(70.0).build();
+        };
+        CachingMatchEngine engine = new CachingMatchEngine(backend, 100, Duration.ofMinutes(1));
+
+        engine.analyze("원문", "이해");
+        engine.analyze("원문", "이해");
+        engine.analyze("원문", "다른 이해");
+
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(engine.getCache().stats().hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentIdenticalRequestsShareOneBackendCall() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        MatchEngine backend = (o, u) -> {
+            calls.incrementAndGet();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return MatchDetailDto.builder().matchingRate(55.5).build();
+        };
+        CachingMatchEngine engine = new CachingMatchEngine(backend, 100, Duration.ofMinutes(1));
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<MatchDetailDto>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(pool.submit(() -> engine.analyze("같은 원문", "같은 이해")));
+            }
+            Thread.sleep(100);
+            release.countDown();
+
+            for (Future<MatchDetailDto> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS).getMatchingRate()).isEqualTo(55.5);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void failuresAreNotCached() {
+        AtomicInteger calls = new AtomicInteger();
+        MatchEngine backend = (o, u) -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new RuntimeException("KoSBERT 서버 요청 실패");
+            }
+            return MatchDetailDto.builder().matchingRate(10.0).build();
+        };
+        CachingMatchEngine engine = new CachingMatchEngine(backend, 100, Duration.ofMinutes(1));
+
+        assertThatThrownBy(() -> engine.analyze("원문", "이해")).hasMessageContaining("KoSBERT");
+        assertThat(engine.analyze("원문", "이해").getMatchingRate()).isEqualTo(10.0);
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void errorsAreNotCachedEither() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        MatchEngine backend = (o, u) -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new StackOverflowError("채점 중 스택 초과");
+            }
+            return MatchDetailDto.builder().matchingRate(20.0).build();
+        };
+        CachingMatchEngine engine = new CachingMatchEngine(backend, 100, Duration.ofMinutes(1));
+
+        assertThatThrownBy(() -> engine.analyze("원문", "이해")).isInstanceOf(StackOverflowError.class);
+
+        // 끝나지 않은 future 가 캐시에 남아 있으면 여기서 멈춤
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            Future<MatchDetailDto> retry = pool.submit(() -> engine.analyze("원문", "이해"));
+            assertThat(retry.get(5, TimeUnit.SECONDS).getMatchingRate()).isEqualTo(20.0);
+        } finally {
+            pool.shutdownNow();
+        }
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void callerChangesDoNotReachCachedKeywords() {
+        MatchEngine backend = (o, u) -> MatchDetailDto.builder()
+                .keywordMatches(new ArrayList<>(List.of("사과")))
+                .build();
+        CachingMatchEngine engine = new CachingMatchEngine(backend, 100, Duration.ofMinutes(1));
+
+        engine.analyze("원문", "이해").getKeywordMatches().add("바나나");
+
+        assertThat(engine.analyze("원문", "이해").getKeywordMatches()).containsExactly("사과");
+    }
+}
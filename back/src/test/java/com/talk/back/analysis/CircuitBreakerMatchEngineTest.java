@@ -0,0 +1,108 @@
+package com.talk.back.analysis;
+
+import com.talk.back.analysis.dto.MatchDetailDto;
+import com.talk.back.analysis.service.CircuitBreakerMatchEngine;
+import com.talk.back.analysis.service.CircuitBreakerMatchEngine.State;
+import com.talk.back.analysis.service.MatchEngine;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CircuitBreakerMatchEngineTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger primaryCalls = new AtomicInteger();
+    private final AtomicBoolean primaryDown = new AtomicBoolean(true);
+
+    private final MatchEngine primary = (o, u) -> {
+        primaryCalls.incrementAndGet();
+        if (primaryDown.get()) {
+            throw new RuntimeException("KoSBERT 서버 요청 실패");
+        }
+        return MatchDetailDto.builder().matchingRate(90.0).build();
+    };
+    private final MatchEngine fallback = (o, u) -> MatchDetailDto.builder().matchingRate(30.0).build();
+
+    private final CircuitBreakerMatchEngine engine = new CircuitBreakerMatchEngine(primary, fallback,
+            CircuitBreakerMatchEngine.Settings.builder()
+                    .windowSize(4)
+                    .minimumCalls(4)
+                    .failureRateThreshold(50)
+                    .slowCallDuration(Duration.ofSeconds(1))
+                    .openDuration(Duration.ofSeconds(30))
+                    .halfOpenProbes(2)
+                    .build(),
+            now::get);
+
+    @Test
+    void failuresDegradeAndOpenTheCircuit() {
+        for (int i = 0; i < 4; i++) {
+            MatchDetailDto result = engine.analyze("원문", "이해");
+            assertThat(result.isDegraded()).isTrue();
+            assertThat(result.getMatchingRate()).isEqualTo(30.0);
+        }
+        assertThat(engine.getState()).isEqualTo(State.OPEN);
+
+        // OPEN 동안에는 원격 호출 없이 바로 대체 엔진 응답
+        engine.analyze("원문", "이해");
+        assertThat(primaryCalls.get()).isEqualTo(4);
+        assertThat(engine.getDegradedCount()).isEqualTo(5);
+    }
+
+    @Test
+    void halfOpenProbesCloseTheCircuitAfterRecovery() {
+        for (int i = 0; i < 4; i++) {
+            engine.analyze("원문", "이해");
+        }
+        primaryDown.set(false);
+        now.addAndGet(Duration.ofSeconds(31).toNanos());
+
+        MatchDetailDto probe = engine.analyze("원문", "이해");
+        assertThat(probe.isDegraded()).isFalse();
+        assertThat(engine.getState()).isEqualTo(State.HALF_OPEN);
+
+        engine.analyze("원문", "이해");
+        assertThat(engine.getState()).isEqualTo(State.CLOSED);
+        assertThat(engine.analyze("원문", "이해").getMatchingRate()).isEqualTo(90.0);
+    }
+
+    @Test
+    void failedProbeReopensTheCircuit() {
+        for (int i = 0; i < 4; i++) {
+            engine.analyze("원문", "이해");
+        }
+        now.addAndGet(Duration.ofSeconds(31).toNanos());
+
+        engine.analyze("원문", "이해");
+        engine.analyze("원문", "이해");
+
+        assertThat(engine.getState()).isEqualTo(State.OPEN);
+        assertThat(primaryCalls.get()).isEqualTo(6);
+    }
+
+    @Test
+    void throwingConsumerStillReleasesHalfOpenProbe() {
+        for (int i = 0; i < 4; i++) {
+            engine.analyze("원문", "이해");
+        }
+        primaryDown.set(false);
+        now.addAndGet(Duration.ofSeconds(31).toNanos());
+
+        // 응답 쓰기 실패 (onResult 예외) 를 시험 호출 수만큼 → 자리가 모두 반납되어야 다음 호출이 막히지 않음
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> engine.analyzeBatch("원문", List.of("이해"), (index, result) -> {
+                throw new IllegalStateException("응답 쓰기 실패");
+            })).isInstanceOf(IllegalStateException.class);
+        }
+
+        assertThat(engine.getState()).isEqualTo(State.CLOSED);
+        assertThat(engine.analyze("원문", "이해").isDegraded()).isFalse();
+    }
+}
@@ -0,0 +1,135 @@
+package com.talk.back.analysis;
+
+import com.talk.back.TestUsers;
+import com.talk.back.analysis.blob.BlobStore;
+import com.talk.back.analysis.entity.AnalysisRecord;
+import com.talk.back.analysis.library.note.AnalysisNote;
+import com.talk.back.analysis.purge.HiddenRecordPurgeJob;
+import com.talk.back.analysis.purge.PurgeResult;
+import com.talk.back.analysis.service.LibraryCountCache;
+import com.talk.back.analysis.simhash.SimHashIndex;
+import com.talk.back.auth.entity.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * 숨김 기록 chunk 삭제 테스트 (chunk-size=2 로 keyset 이 여러 chunk 를 넘어가는지 확인)
+ */
+@DataJpaTest(properties = {"analysis.purge.chunk-size=2", "analysis.purge.pause-between-chunks=PT0S"})
+@Import({HiddenRecordPurgeJob.class, SimHashIndex.class, HiddenRecordPurgeJobTest.Metrics.class})
+class HiddenRecordPurgeJobTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 1, 12, 0);
+
+    @TestConfiguration
+    static class Metrics {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @MockitoBean
+    private BlobStore blobStore;
+    @MockitoBean
+    private LibraryCountCache libraryCountCache;
+
+    @Autowired
+    private HiddenRecordPurgeJob purgeJob;
+    @Autowired
+    private SimHashIndex simHashIndex;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        owner = TestUsers.persist(entityManager, "purge@test.com");
+        // 만료된 숨김 기록 5건 (같은 hidden_at 2건 포함), 아직 보관 중인 숨김 1건, 보이는 기록 1건
+        for (int i = 0; i < 5; i++) {
+            AnalysisRecord expired = persist(true, NOW.minusDays(40 - Math.min(i, 3)), i == 0 ? "file-key" : null);
+            entityManager.persist(AnalysisNote.builder().analysisRecord(expired).content("노트 " + i).build());
+        }
+        persist(true, NOW.minusDays(3), null);
+        persist(false, null, null);
+        entityManager.flush();
+    }
+
+    @Test
+    void dryRunCountsWithoutDeleting() {
+        PurgeResult result = purgeJob.purge(NOW.minusDays(30), true);
+
+        assertThat(result.records()).isEqualTo(5);
+        assertThat(result.notes()).isEqualTo(5);
+        assertThat(result.fileBytes()).isEqualTo(1024);
+        assertThat(result.rowBytes()).isPositive();
+        assertThat(count("analysis_record")).isEqualTo(7);
+        assertThat(count("analysis_note")).isEqualTo(5);
+        verifyNoInteractions(blobStore, libraryCountCache);
+    }
+
+    @Test
+    void expiredRecordsAreDeletedWithNotesInChunks() {
+        int indexed = simHashIndex.size();
+
+        PurgeResult result = purgeJob.purge(NOW.minusDays(30), false);
+
+        assertThat(result.records()).isEqualTo(5);
+        assertThat(result.notes()).isEqualTo(5);
+        assertThat(result.chunks()).isEqualTo(3);
+        assertThat(count("analysis_record")).isEqualTo(2);
+        assertThat(count("analysis_note")).isZero();
+        verify(blobStore, times(1)).release("file-key");
+        verify(libraryCountCache, atLeastOnce()).evict(owner.getUserId());
+        assertThat(simHashIndex.size()).isEqualTo(indexed - 5);
+        assertThat(meterRegistry.get("analysis.purge.records").tag("dry_run", "false").counter().count())
+                .isEqualTo(5.0);
+        assertThat(meterRegistry.get("analysis.purge.bytes").tag("kind", "file").counter().count())
+                .isEqualTo(1024.0);
+    }
+
+    private int versions;
+
+    private AnalysisRecord persist(boolean hidden, LocalDateTime hiddenAt, String fileKey) {
+        AnalysisRecord record = AnalysisRecord.builder()
+                .originalText("원문")
+                .userText("이해한 내용")
+                .originalTextHash("hash")
+                .versionNo(versions++) // (원문 해시, 버전) 유니크
+                .matchingRate(0.0)
+                .isHidden(hidden)
+                .hiddenAt(hiddenAt)
+                .simHash(0x5a5aL + simHashIndex.size())
+                .originalFileKey(fileKey)
+                .originalFileSize(fileKey == null ? null : 1024L)
+                .createdBy(owner)
+                .build();
+        entityManager.persist(record);
+        simHashIndex.add(record.getId(), 1L, record.getSimHash());
+        return record;
+    }
+
+    private int count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+    }
+}
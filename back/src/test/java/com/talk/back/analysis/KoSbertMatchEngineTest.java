@@ -0,0 +1,89 @@
+package com.talk.back.analysis;
+
+import com.talk.back.analysis.dto.MatchDetailDto;
+import com.talk.back.analysis.embedding.OriginalEmbeddingRepository;
+import com.talk.back.analysis.embedding.OriginalEmbeddingStore;
+import com.talk.back.analysis.service.KoSbertMatchEngine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.*;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+/**
+ * 원문 임베딩 재사용 테스트 (FastAPI 대신 MockRestServiceServer 를 스텁 스코어러로 사용)
+ */
+class KoSbertMatchEngineTest {
+
+    private static final String BASE_URL = "http://scorer.test";
+
+    private MockRestServiceServer scorer;
+    private OriginalEmbeddingRepository repository;
+    private KoSbertMatchEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        RestTemplate restTemplate = new RestTemplateBuilder().rootUri(BASE_URL).build();
+        scorer = MockRestServiceServer.bindTo(restTemplate).build();
+        repository = mock(OriginalEmbeddingRepository.class);
+        when(repository.findById(any())).thenReturn(Optional.empty());
+
+        engine = new KoSbertMatchEngine(restTemplate, new OriginalEmbeddingStore(repository, 100), true, 2);
+    }
+
+    @Test
+    void originalIsEncodedOnceAndReusedForLaterAttempts() {
+        // 첫 분석: 원문 + 사용자 텍스트를 한 번에 인코딩
+        scorer.expect(requestTo(BASE_URL + "/embed"))
+                .andExpect(method(HttpMethod.POST))
+                .andExpect(content().json("{\"texts\":[\"긴 원문\",\"첫 번째 이해\"]}", true))
+                .andRespond(withSuccess("{\"vectors\":[[1.0,0.0],[0.6,0.8]],\"dimension\":2}",
+                        MediaType.APPLICATION_JSON));
+
+        // 재분석: 사용자 텍스트만 전송
+        scorer.expect(requestTo(BASE_URL + "/embed"))
+                .andExpect(content().json("{\"texts\":[\"두 번째 이해\"]}", true))
+                .andRespond(withSuccess("{\"vectors\":[[1.0,0.0]],\"dimension\":2}",
+                        MediaType.APPLICATION_JSON));
+
+        MatchDetailDto first = engine.analyze("긴 원문", "첫 번째 이해");
+        MatchDetailDto second = engine.analyze("긴 원문", "두 번째 이해");
+
+        scorer.verify();
+        assertThat(first.getMatchingRate()).isEqualTo(60.0);
+        assertThat(second.getMatchingRate()).isEqualTo(100.0);
+        verify(repository, times(1)).insertIgnore(any(), eq(2), any());
+    }
+
+    @Test
+    void batchEncodesOriginalOnceAndUserTextsInChunks() {
+        scorer.expect(requestTo(BASE_URL + "/embed"))
+                .andExpect(content().json("{\"texts\":[\"반 전체 원문\"]}", true))
+                .andRespond(withSuccess("{\"vectors\":[[1.0,0.0]],\"dimension\":2}", MediaType.APPLICATION_JSON));
+        scorer.expect(requestTo(BASE_URL + "/embed"))
+                .andExpect(content().json("{\"texts\":[\"답안1\",\"답안2\"]}", true))
+                .andRespond(withSuccess("{\"vectors\":[[1.0,0.0],[0.0,1.0]],\"dimension\":2}", MediaType.APPLICATION_JSON));
+        scorer.expect(requestTo(BASE_URL + "/embed"))
+                .andExpect(content().json("{\"texts\":[\"답안3\"]}", true))
+                .andRespond(withSuccess("{\"vectors\":[[0.6,0.8]],\"dimension\":2}", MediaType.APPLICATION_JSON));
+
+        double[] rates = new double[3];
+        engine.analyzeBatch("반 전체 원문", List.of("답안1", "답안2", "답안3"),
+                (index, result) -> rates[index] = result.getMatchingRate());
+
+        scorer.verify();
+        assertThat(rates).containsExactly(100.0, 0.0, 60.0);
+    }
+}
@@ -0,0 +1,118 @@
+package com.talk.back.analysis;
+
+import com.talk.back.analysis.blob.AnalysisBlob;
+import com.talk.back.analysis.blob.AnalysisBlobRepository;
+import com.talk.back.analysis.blob.BlobFile;
+import com.talk.back.analysis.blob.BlobUpload;
+import com.talk.back.analysis.blob.LocalDiskBlobStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 로컬 디스크 파일 저장소 테스트 (참조 수 테이블은 목으로 대체)
+ */
+class LocalDiskBlobStoreTest {
+
+    private static final byte[] CONTENT = "원본 파일 내용".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    Path root;
+
+    private AnalysisBlobRepository repository;
+    private LocalDiskBlobStore store;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        repository = mock(AnalysisBlobRepository.class);
+        store = new LocalDiskBlobStore(repository, root.toString());
+    }
+
+    @Test
+    void sameContentIsStoredOnceAndCounted() throws IOException {
+        String first = upload(CONTENT);
+        String second = upload(CONTENT);
+
+        assertThat(first).isEqualTo(second).hasSize(64);
+        verify(repository, times(2)).upsertReference(eq(first), eq((long) CONTENT.length));
+
+        BlobFile file = store.find(first).orElseThrow();
+        assertThat(Files.readAllBytes(file.getPath())).isEqualTo(CONTENT);
+        assertThat(file.getSize()).isEqualTo(CONTENT.length);
+        assertThat(countFiles(root.resolve("tmp"))).isZero();
+    }
+
+    @Test
+    void lastReleaseDeletesFile() throws IOException {
+        String key = upload(CONTENT);
+        AnalysisBlob blob = AnalysisBlob.builder().blobKey(key).size(CONTENT.length).refCount(2).build();
+        when(repository.findForUpdate(key)).thenReturn(Optional.of(blob));
+
+        store.release(key);
+        assertThat(blob.getRefCount()).isEqualTo(1);
+        assertThat(store.find(key)).isPresent();
+
+        store.release(key);
+        verify(repository).delete(blob);
+        assertThat(store.find(key)).isEmpty();
+        assertThat(countFiles(root.resolve("trash"))).isZero();
+    }
+
+    @Test
+    void rolledBackCommitRemovesMovedFile() throws IOException {
+        TransactionSynchronizationManager.initSynchronization();
+        String key;
+        try {
+            key = upload(CONTENT);
+            assertThat(store.find(key)).isPresent();
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(store.find(key)).isEmpty();
+    }
+
+    @Test
+    void discardedUploadLeavesNothingBehind() throws IOException {
+        BlobUpload upload = store.openUpload();
+        upload.write(CONTENT);
+        upload.discard();
+
+        assertThat(countFiles(root.resolve("tmp"))).isZero();
+        verify(repository, never()).upsertReference(anyString(), anyLong());
+    }
+
+    @Test
+    void malformedKeyIsNeverResolvedToPath() {
+        assertThat(store.find("../../etc/passwd")).isEmpty();
+        assertThat(store.find(null)).isEmpty();
+    }
+
+    private String upload(byte[] content) throws IOException {
+        BlobUpload upload = store.openUpload();
+        upload.write(content);
+        return store.commit(upload);
+    }
+
+    private static long countFiles(Path dir) throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.count();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.talk.back.analysis;
+
+import com.talk.back.analysis.dto.MatchDetailDto;
+import com.talk.back.analysis.entity.AnalysisRecord;
+import com.talk.back.analysis.service.MatchResultCodec;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 채점 결과 ↔ 기록 컬럼 변환 테스트
+ */
+class MatchResultCodecTest {
+
+    @Test
+    void roundTripKeepsMetricsAndKeywords() {
+        String longWord = "가".repeat(300); // UTF-8 900바이트 → 길이 varint 2바이트
+        MatchDetailDto result = MatchDetailDto.builder()
+                .matchingRate(66.7)
+                .totalOriginalWords(12)
+                .totalUserWords(9)
+                .matchedWords(8)
+                .keywordMatches(List.of("인공지능", "학습능력", longWord))
+                .missedKeywords(List.of("추론능력"))
+                .extraKeywords(null)
+                .originalLength(120)
+                .userLength(80)
+                .degraded(true)
+                .build();
+
+        AnalysisRecord record = AnalysisRecord.builder().resultJson("{\"legacy\":true}").build();
+        MatchResultCodec.write(result, record);
+        MatchDetailDto read = MatchResultCodec.readDetail(record);
+
+        assertThat(record.getResultJson()).isNull();
+        assertThat(record.getMatchedWords()).isEqualTo(8);
+        assertThat(read).usingRecursiveComparison()
+                .isEqualTo(result.toBuilder().extraKeywords(Collections.emptyList()).build());
+    }
+
+    @Test
+    void encodingIsSmallerThanJsonLists() {
+        List<String> matches = List.of("인공지능", "학습능력", "추론능력", "지각능력", "컴퓨터");
+        List<String> missed = List.of("과학의", "세부분야");
+        byte[] encoded = MatchResultCodec.encodeKeywords(matches, missed, List.of());
+
+        String json = "{\"keywordMatches\":[\"인공지능\",\"학습능력\",\"추론능력\",\"지각능력\",\"컴퓨터\"],"
+                + "\"missedKeywords\":[\"과학의\",\"세부분야\"],\"extraKeywords\":[]}";
+        assertThat(encoded.length).isLessThan(json.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    @Test
+    void metricsCanBeReadWithoutDecodingKeywords() {
+        AnalysisRecord record = AnalysisRecord.builder()
+                .matchingRate(50.0)
+                .totalOriginalWords(4)
+                .keywordLists(new byte[]{99}) // 알 수 없는 형식이어도 수치 조회는 영향 없음
+                .build();
+
+        MatchDetailDto metrics = MatchResultCodec.readMetrics(record);
+        assertThat(metrics.getMatchingRate()).isEqualTo(50.0);
+        assertThat(metrics.getTotalOriginalWords()).isEqualTo(4);
+        assertThat(metrics.getKeywordMatches()).isNull();
+    }
+}
@@ -0,0 +1,96 @@
+package com.talk.back.analysis;
+
+import com.talk.back.analysis.simhash.SimHashIndex;
+import com.talk.back.util.SimHash;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SimHash 지문 / 근접 색인 테스트
+ */
+class SimHashIndexTest {
+
+    private static final String ORIGINAL = "인공지능은 인간의 학습능력과 추론능력, 지각능력을 인공적으로 구현하려는 "
+            + "컴퓨터 과학의 세부분야 중 하나이다. 정보공학 분야에 있어 하나의 인프라 기술이기도 하다.";
+
+    @Test
+    void whitespaceIsIgnoredAndTypoStaysClose() {
+        long fingerprint = SimHash.fingerprint(ORIGINAL);
+
+        assertThat(SimHash.fingerprint(ORIGINAL + "  \n")).isEqualTo(fingerprint);
+        assertThat(SimHash.distance(fingerprint, SimHash.fingerprint(ORIGINAL.replace("추론능력", "추론능럭"))))
+                .isLessThanOrEqualTo(4);
+        assertThat(SimHash.distance(fingerprint, SimHash.fingerprint("오늘은 날씨가 맑고 바람이 시원해서 산책하기 좋은 날이다.")))
+                .isGreaterThan(10);
+        assertThat(SimHash.fingerprint(" .,!? ")).isEqualTo(SimHash.EMPTY);
+    }
+
+    @Test
+    void findNearMatchesBruteForceForOwner() {
+        SimHashIndex index = new SimHashIndex(4);
+        Random random = new Random(42);
+        int count = 50_000;
+        long[] fingerprints = new long[count];
+        for (int i = 0; i < count; i++) {
+            fingerprints[i] = i % 10 == 0 && i > 0
+                    ? flipBits(fingerprints[i - 10], random, random.nextInt(7)) // 일부는 이웃 지문의 변형
+                    : random.nextLong();
+            index.add((long) i, (long) (i % 3), fingerprints[i]);
+        }
+
+        for (int query = 0; query < 200; query++) {
+            int baseId = random.nextInt(count);
+            long owner = baseId % 3;
+
+            Set<Long> expected = new HashSet<>();
+            for (int i = 0; i < count; i++) {
+                if (i != baseId && i % 3 == owner && SimHash.distance(fingerprints[i], fingerprints[baseId]) <= 4) {
+                    expected.add((long) i);
+                }
+            }
+            assertThat(index.findNear(fingerprints[baseId], owner, (long) baseId)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void removedRecordIsNotReturned() {
+        SimHashIndex index = new SimHashIndex(4);
+        long fingerprint = SimHash.fingerprint(ORIGINAL);
+        index.add(1L, 7L, fingerprint);
+        index.add(2L, 7L, fingerprint ^ 0b101);
+        index.add(3L, 8L, fingerprint);
+
+        assertThat(index.findNear(fingerprint, 7L, 1L)).containsExactly(2L);
+
+        index.remove(2L, fingerprint ^ 0b101);
+        assertThat(index.findNear(fingerprint, 7L, 1L)).isEmpty();
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void sameRecordAddedTwiceIsIndexedOnce() {
+        SimHashIndex index = new SimHashIndex(4);
+        long fingerprint = SimHash.fingerprint(ORIGINAL);
+        index.add(1L, 7L, fingerprint);
+        index.add(2L, 7L, fingerprint ^ 0b11);
+        index.add(2L, 7L, fingerprint ^ 0b11); // 기동 시 재구성과 새 저장이 겹친 경우
+
+        assertThat(index.size()).isEqualTo(2);
+
+        index.remove(2L, fingerprint ^ 0b11);
+        assertThat(index.findNear(fingerprint, 7L, 1L)).isEmpty();
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    private static long flipBits(long value, Random random, int bits) {
+        for (int i = 0; i < bits; i++) {
+            value ^= 1L << random.nextInt(64);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,56 @@
+package com.talk.back.analysis;
+
+import com.talk.back.analysis.service.ExtractedText;
+import com.talk.back.analysis.service.TextExtractor;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TextExtractorTest {
+
+    private static final String TEXT = "인공지능은 인간의 학습 능력을 구현하려는 분야이다.\n기계 학습(ML)은 데이터에서 규칙을 찾는다. 😀";
+
+    private final TextExtractor extractor = new TextExtractor();
+
+    @Test
+    void detectsCommonKoreanEncodings() throws Exception {
+        assertThat(extract(TEXT.getBytes(StandardCharsets.UTF_8)).getCharset()).isEqualTo("UTF-8");
+        assertThat(extract(TEXT.getBytes(StandardCharsets.UTF_16)).getCharset()).isEqualTo("UTF-16BE");
+        assertThat(extract(TEXT.getBytes(StandardCharsets.UTF_16LE)).getCharset()).isEqualTo("UTF-16LE");
+
+        String cp949Text = TEXT.replace(" 😀", "");
+        ExtractedText cp949 = extract(cp949Text.getBytes(Charset.forName("x-windows-949")));
+        assertThat(cp949.getCharset()).isEqualTo("x-windows-949");
+        assertThat(cp949.getText()).isEqualTo(cp949Text);
+    }
+
+    @Test
+    void hashesDecodedTextAndCopiesRawBytesInSamePass() throws Exception {
+        StringBuilder sb = new StringBuilder();
+        while (sb.length() < 200_000) sb.append(TEXT); // 버퍼 여러 개에 걸치는 길이
+        String text = sb.toString();
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_16LE);
+
+        MessageDigest digest = MessageDigest.getInstance("MD5");
+        ByteArrayOutputStream rawCopy = new ByteArrayOutputStream();
+        ExtractedText extracted = extractor.extract(new ByteArrayInputStream(bytes), digest, rawCopy);
+
+        assertThat(extracted.getText()).isEqualTo(text);
+        assertThat(extracted.getByteCount()).isEqualTo(bytes.length);
+        assertThat(rawCopy.toByteArray()).isEqualTo(bytes);
+        assertThat(HexFormat.of().formatHex(digest.digest()))
+                .isEqualTo(HexFormat.of().formatHex(
+                        MessageDigest.getInstance("MD5").digest(text.getBytes(StandardCharsets.UTF_8))));
+    }
+
+    private ExtractedText extract(byte[] bytes) throws Exception {
+        return extractor.extract(new ByteArrayInputStream(bytes), null, null);
+    }
+}
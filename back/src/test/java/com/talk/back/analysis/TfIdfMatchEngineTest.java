@@ -0,0 +1,50 @@
+package com.talk.back.analysis;
+
+import com.talk.back.analysis.dto.MatchDetailDto;
+import com.talk.back.analysis.service.TfIdfMatchEngine;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TfIdfMatchEngineTest {
+
+    private final TfIdfMatchEngine engine = new TfIdfMatchEngine();
+
+    @Test
+    void identicalTextsScoreFullMatch() {
+        MatchDetailDto result = engine.analyze("같은 문장입니다", "같은 문장입니다");
+
+        assertThat(result.getMatchingRate()).isEqualTo(100.0);
+        assertThat(result.getMissedKeywords()).isEmpty();
+    }
+
+    @Test
+    void unrelatedTextsScoreZero() {
+        assertThat(engine.analyze("완전히 다른 내용", "전혀 무관한 글자").getMatchingRate()).isEqualTo(0.0);
+        assertThat(engine.analyze("", "").getMatchingRate()).isEqualTo(0.0);
+    }
+
+    @Test
+    void paraphraseFillsKeywordLists() {
+        MatchDetailDto result = engine.analyze(
+                "사과는 빨갛고 맛있다. 바나나는 노랗고 길다. 사과를 먹으면 건강해진다.",
+                "사과는 빨갛다. 사과를 먹으면 건강하다.");
+
+        assertThat(result.getMatchingRate()).isBetween(1.0, 99.0);
+        assertThat(result.getKeywordMatches()).contains("사과는", "사과를", "먹으면");
+        assertThat(result.getMissedKeywords()).contains("바나나는");
+        assertThat(result.getExtraKeywords()).contains("빨갛다");
+        assertThat(result.getMatchedWords()).isEqualTo(3);
+    }
+
+    @Test
+    void wordsWithSameHashStayDistinct() {
+        // "가나" 와 "각끹" 은 31 곱셈 해시가 같음 (31*가 + 나 == 31*(가+1) + (나-31))
+        MatchDetailDto result = engine.analyze("가나 각끹 사과", "각끹 바다");
+
+        assertThat(result.getTotalOriginalWords()).isEqualTo(3);
+        assertThat(result.getKeywordMatches()).containsExactly("각끹");
+        assertThat(result.getMissedKeywords()).contains("가나", "사과");
+        assertThat(result.getMatchedWords()).isEqualTo(1);
+    }
+}
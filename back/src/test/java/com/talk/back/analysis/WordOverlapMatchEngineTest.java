@@ -0,0 +1,68 @@
+package com.talk.back.analysis;
+
+import com.talk.back.analysis.dto.MatchDetailDto;
+import com.talk.back.analysis.service.WordOverlapMatchEngine;
+import com.talk.back.util.KoreanTokenizer;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WordOverlapMatchEngineTest {
+
+    private final WordOverlapMatchEngine engine = new WordOverlapMatchEngine();
+
+    @Test
+    void keywordsFollowFirstOccurrenceOrder() {
+        MatchDetailDto result = engine.analyze(
+                "인공지능은 컴퓨터 과학의 분야이다. 컴퓨터 과학",
+                "컴퓨터 분야 인공지능은 분야");
+
+        assertThat(result.getTotalOriginalWords()).isEqualTo(5);
+        assertThat(result.getTotalUserWords()).isEqualTo(3);
+        assertThat(result.getMatchedWords()).isEqualTo(2);
+        assertThat(result.getMatchingRate()).isEqualTo(40.0);
+        assertThat(result.getKeywordMatches()).containsExactly("컴퓨터", "인공지능은");
+        assertThat(result.getMissedKeywords()).containsExactly("과학의", "분야이다", "과학");
+        assertThat(result.getExtraKeywords()).containsExactly("분야");
+    }
+
+    @Test
+    void countsMatchStringSetReference() {
+        Random random = new Random(7);
+        for (int round = 0; round < 300; round++) {
+            String original = randomText(random, random.nextInt(600));
+            String user = randomText(random, random.nextInt(600));
+
+            Set<String> oSet = new HashSet<>(KoreanTokenizer.tokenize(original));
+            Set<String> uSet = new HashSet<>(KoreanTokenizer.tokenize(user));
+            Set<String> intersection = new HashSet<>(oSet);
+            intersection.retainAll(uSet);
+
+            MatchDetailDto result = engine.analyze(original, user);
+
+            assertThat(result.getTotalOriginalWords()).isEqualTo(oSet.size());
+            assertThat(result.getTotalUserWords()).isEqualTo(uSet.size());
+            assertThat(result.getMatchedWords()).isEqualTo(intersection.size());
+            assertThat(result.getKeywordMatches()).hasSizeLessThanOrEqualTo(10).allMatch(intersection::contains);
+            assertThat(result.getMissedKeywords()).allMatch(w -> oSet.contains(w) && !uSet.contains(w));
+            assertThat(result.getExtraKeywords()).allMatch(w -> uSet.contains(w) && !oSet.contains(w));
+        }
+    }
+
+    @Test
+    void emptyTextsScoreZero() {
+        assertThat(engine.analyze("", "abc").getMatchingRate()).isEqualTo(0.0);
+    }
+
+    private static String randomText(Random random, int length) {
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append(random.nextInt(4) < 3 ? (char) ('가' + random.nextInt(8)) : ' ');
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,77 @@
+package com.talk.back.community;
+
+import com.talk.back.community.dto.CommentResponseDto;
+import com.talk.back.community.service.CommentFeedCache;
+import com.talk.back.community.service.CommentFeedPage;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 피드 스냅샷 캐시 무효화 테스트 (트랜잭션 밖 → 무효화가 바로 적용됨)
+ */
+class CommentFeedCacheTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void snapshotIsReusedUntilContainingCommentChanges() {
+        CommentFeedCache cache = new CommentFeedCache(true, 3, Duration.ofMinutes(1));
+
+        cache.get(0, this::load);
+        cache.get(1, this::load);
+        cache.get(0, this::load);
+        assertThat(loads.get()).isEqualTo(2);
+
+        // 1 페이지의 댓글(11번)만 바뀜 → 0 페이지는 그대로
+        cache.invalidateComment(11L);
+        cache.get(0, this::load);
+        cache.get(1, this::load);
+        assertThat(loads.get()).isEqualTo(3);
+
+        cache.invalidateAll();
+        cache.get(0, this::load);
+        assertThat(loads.get()).isEqualTo(4);
+    }
+
+    @Test
+    void pagesBeyondLimitAreNotCached() {
+        CommentFeedCache cache = new CommentFeedCache(true, 1, Duration.ofMinutes(1));
+
+        cache.get(1, this::load);
+        cache.get(1, this::load);
+
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void snapshotLoadedDuringInvalidationIsDiscarded() {
+        CommentFeedCache cache = new CommentFeedCache(true, 3, Duration.ofMinutes(1));
+
+        // 읽는 도중 (커밋 전 값을 읽은 뒤) 수정이 커밋되어 무효화됨
+        cache.get(0, page -> {
+            CommentFeedPage stale = load(page);
+            cache.invalidateComment(1L);
+            return stale;
+        });
+
+        assertThat(cache.size()).isZero();
+    }
+
+    // page 페이지 = 댓글 id page*10 ~ page*10+4
+    private CommentFeedPage load(int page) {
+        loads.incrementAndGet();
+        List<CommentFeedPage.Entry> entries = new ArrayList<>();
+        for (long id = page * 10L; id < page * 10L + 5; id++) {
+            CommentResponseDto base = CommentResponseDto.builder().commentId(id).content("댓글 " + id).build();
+            entries.add(new CommentFeedPage.Entry(id, "author@test.com", base, 0, 0));
+        }
+        return new CommentFeedPage(page, 3, entries, System.nanoTime());
+    }
+}
@@ -0,0 +1,177 @@
+package com.talk.back.community;
+
+import com.talk.back.TestUsers;
+import com.talk.back.auth.entity.User;
+import com.talk.back.community.dto.CommentResponseDto;
+import com.talk.back.community.entity.Comment;
+import com.talk.back.community.entity.CommentLike;
+import com.talk.back.community.entity.CommentReport;
+import com.talk.back.community.repository.CommentLikeWriter;
+import com.talk.back.community.service.CommentFeedCache;
+import com.talk.back.community.service.CommentInteractionIndex;
+import com.talk.back.community.service.CommentLikeCountReconciler;
+import com.talk.back.community.service.CommentLikeCounter;
+import com.talk.back.community.service.CommentService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+/**
+ * 커뮤니티 피드 조회 테스트
+ * - 좋아요 / 신고 상태가 섞여 있어도 SQL 은 페이지 목록 + 전체 개수 + 내 좋아요 + 내 신고 = 4번 이하
+ * - 좋아요 수는 like_count 컬럼에서 읽고, 어긋난 값은 기동 시 보정으로 되돌아옴
+ * - 캐시된 앞쪽 페이지 + 이미 읽어 둔 조회자면 SQL 없음 (좋아요 / 신고 상태는 CommentInteractionIndex)
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({CommentService.class, CommentLikeCounter.class, CommentLikeCountReconciler.class, CommentFeedCache.class,
+        CommentInteractionIndex.class, CommentLikeWriter.class})
+class CommentFeedQueryTest {
+
+    private static final int COMMENT_COUNT = 12;
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2026, 1, 1, 9, 0);
+
+    @Autowired
+    private CommentService commentService;
+    @Autowired
+    private CommentFeedCache feedCache;
+    @Autowired
+    private CommentInteractionIndex interactionIndex;
+    @Autowired
+    private CommentLikeCountReconciler reconciler;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User viewer;
+
+    @BeforeEach
+    void setUp() {
+        feedCache.clear(); // 컨텍스트를 같이 쓰는 다른 테스트의 스냅샷 제거
+        interactionIndex.clear();
+        viewer = TestUsers.persist(entityManager, "viewer@test.com");
+        User author = TestUsers.persist(entityManager, "author@test.com");
+        User other = TestUsers.persist(entityManager, "other@test.com");
+
+        // i 번째 댓글: 짝수면 조회자 좋아요, 3의 배수면 다른 사용자 좋아요, 4의 배수면 조회자 신고
+        for (int i = 0; i < COMMENT_COUNT; i++) {
+            Comment comment = Comment.builder()
+                    .user(i == 0 ? viewer : author)
+                    .content("댓글 " + i)
+                    .likeCount(expectedLikes(i))
+                    .build();
+            entityManager.persist(comment);
+            comment.setCreatedAt(BASE_TIME.plusSeconds(i)); // 페이지 경계가 흔들리지 않도록 작성 시각을 겹치지 않게
+            if (i % 2 == 0) entityManager.persist(new CommentLike(viewer, comment));
+            if (i % 3 == 0) entityManager.persist(new CommentLike(other, comment));
+            if (i % 4 == 0 && i != 0) {
+                entityManager.persist(CommentReport.builder().user(viewer).comment(comment).reason("스팸").build());
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void feedPageUsesConstantNumberOfStatements() {
+        Statistics statistics = statistics();
+        for (int page = 0; page < 3; page++) {
+            statistics.clear();
+
+            Map<String, Object> response = commentService.getCommentsWithPageInfo(page, viewer);
+
+            assertThat((List<CommentResponseDto>) response.get("content")).isNotEmpty();
+            assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(4);
+        }
+    }
+
+    @Test
+    void cachedPageAndLoadedViewerRunNoStatements() {
+        commentService.getCommentsWithPageInfo(0, viewer);
+        Statistics statistics = statistics();
+        statistics.clear();
+
+        Map<String, Object> response = commentService.getCommentsWithPageInfo(0, viewer);
+
+        assertThat(response.get("totalPages")).isEqualTo(3);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void committedLikeAndReportUpdateLoadedViewer() {
+        // 0 페이지 맨 위 = 가장 늦게 쓴 11 번 댓글 (좋아요 / 신고 없음)
+        Long commentId = commentService.getComments(0, viewer).get(0).getCommentId();
+
+        // 테스트 트랜잭션 밖에서 커밋된 것처럼 반영 (동기화 없는 스레드)
+        Thread other = new Thread(() -> {
+            interactionIndex.recordLike(viewer.getUserId(), commentId, true);
+            interactionIndex.recordReport(viewer.getUserId(), commentId, true);
+        });
+        other.start();
+        assertThatNoException().isThrownBy(other::join);
+
+        CommentResponseDto top = commentService.getComments(0, viewer).get(0);
+        assertThat(top.isLiked()).isTrue();
+        assertThat(top.isReported()).isTrue();
+        assertThat(interactionIndex.sizeInBytes()).isPositive();
+    }
+
+    @Test
+    void likeAndReportStateAreAssembledPerComment() {
+        List<CommentResponseDto> feed = new ArrayList<>();
+        for (int page = 0; page < 3; page++) {
+            feed.addAll(commentService.getComments(page, viewer));
+        }
+
+        assertThat(feed).hasSize(COMMENT_COUNT);
+        for (CommentResponseDto dto : feed) {
+            int i = Integer.parseInt(dto.getContent().substring("댓글 ".length()));
+            assertThat(dto.isLiked()).isEqualTo(i % 2 == 0);
+            assertThat(dto.getLikeCount()).isEqualTo(expectedLikes(i));
+            assertThat(dto.isReported()).isEqualTo(i % 4 == 0 && i != 0);
+            assertThat(dto.isMine()).isEqualTo(i == 0);
+        }
+    }
+
+    @Test
+    void reconcilerRestoresLikeCountFromCommentLikes() {
+        // flush 전에 서버가 죽은 상황: 컬럼 값이 실제 좋아요 수와 어긋남
+        jdbcTemplate.update("UPDATE comment SET like_count = 99");
+
+        assertThat(reconciler.reconcileAll()).isEqualTo(COMMENT_COUNT);
+        assertThat(reconciler.reconcileAll()).isZero();
+        feedCache.clear();
+        List<CommentResponseDto> firstPage = commentService.getComments(0, viewer);
+        for (CommentResponseDto dto : firstPage) {
+            int i = Integer.parseInt(dto.getContent().substring("댓글 ".length()));
+            assertThat(dto.getLikeCount()).isEqualTo(expectedLikes(i));
+        }
+    }
+
+    // 조회자(짝수) + 다른 사용자(3의 배수) 좋아요
+    private static int expectedLikes(int i) {
+        return (i % 2 == 0 ? 1 : 0) + (i % 3 == 0 ? 1 : 0);
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+}
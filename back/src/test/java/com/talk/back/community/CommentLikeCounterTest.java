@@ -0,0 +1,152 @@
+package com.talk.back.community;
+
+import com.talk.back.community.service.CommentFeedCache;
+import com.talk.back.community.service.CommentLikeCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 좋아요 수 write-behind 카운터 테스트 (트랜잭션 밖에서 호출 → 바로 카운터에 쌓임)
+ */
+class CommentLikeCounterTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private CommentFeedCache feedCache;
+    private CommentLikeCounter counter;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        doAnswer(invocation -> {
+            invocation.getArgument(0, Consumer.class).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        feedCache = mock(CommentFeedCache.class);
+        counter = new CommentLikeCounter(jdbcTemplate, transactionTemplate, feedCache);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void concurrentLikesAreFlushedAsOneDeltaPerComment() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(pool.submit(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        counter.add(1L, 1);
+                        counter.add(2L, i % 2 == 0 ? 1 : -1);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) future.get();
+        } finally {
+            pool.shutdownNow();
+        }
+        assertThat(counter.likeCount(1L, 5)).isEqualTo(8005);
+
+        counter.flush();
+
+        // 2번 댓글은 변화량 0 이라 UPDATE 하지 않음
+        ArgumentCaptor<List<Object[]>> batch = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), batch.capture());
+        assertThat(batch.getValue()).hasSize(1);
+        assertThat(batch.getValue().get(0)).containsExactly(8000L, 1L);
+        assertThat(counter.pending(1L)).isZero();
+    }
+
+    @Test
+    void failedFlushKeepsDeltaForNextRound() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenThrow(new RuntimeException("DB 연결 끊김"));
+        counter.add(7L, 1);
+        counter.add(7L, 1);
+
+        counter.flush();
+
+        assertThat(counter.pending(7L)).isEqualTo(2);
+    }
+
+    @Test
+    void flushedIdleCommentsArePrunedAndTheirSnapshotsDropped() {
+        counter.add(3L, 1);
+        counter.flush(); // prune-idle(기본 1분) 안이라 남아 있음
+        assertThat(counter.size()).isEqualTo(1);
+        assertThat(counter.total(3L)).isEqualTo(1);
+
+        ReflectionTestUtils.setField(counter, "pruneIdle", Duration.ZERO);
+        counter.add(4L, 1);
+        counter.flush(); // 둘 다 반영 끝 + 바뀐 지 0 이상 → 정리
+
+        assertThat(counter.size()).isZero();
+        assertThat(counter.total(3L)).isZero();
+        verify(feedCache).invalidateComment(3L);
+        verify(feedCache).invalidateComment(4L);
+    }
+
+    @Test
+    void pendingCommentIsNotPruned() {
+        ReflectionTestUtils.setField(counter, "pruneIdle", Duration.ZERO);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenThrow(new RuntimeException("DB 연결 끊김"));
+        counter.add(5L, 1);
+
+        counter.flush();
+
+        assertThat(counter.pending(5L)).isEqualTo(1);
+        verifyNoInteractions(feedCache);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void likesAddedWhilePruningAreNotLost() throws Exception {
+        ReflectionTestUtils.setField(counter, "pruneIdle", Duration.ZERO);
+        AtomicLong flushed = new AtomicLong();
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            for (Object[] row : (List<Object[]>) invocation.getArgument(1)) flushed.addAndGet((Long) row[0]);
+            return new int[0];
+        });
+
+        // 반영 / 정리를 계속 돌리는 동안 같은 댓글에 좋아요
+        AtomicBoolean running = new AtomicBoolean(true);
+        ExecutorService pool = Executors.newFixedThreadPool(5);
+        try {
+            Future<?> flusher = pool.submit(() -> {
+                while (running.get()) counter.flush();
+            });
+            List<Future<?>> likers = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                likers.add(pool.submit(() -> {
+                    for (int i = 0; i < 20_000; i++) counter.add(9L, 1);
+                }));
+            }
+            for (Future<?> liker : likers) liker.get();
+            running.set(false);
+            flusher.get();
+        } finally {
+            pool.shutdownNow();
+        }
+        counter.flush();
+
+        assertThat(flushed.get()).isEqualTo(80_000);
+        assertThat(counter.pending(9L)).isZero();
+    }
+}
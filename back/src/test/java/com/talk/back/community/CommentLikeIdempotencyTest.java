@@ -0,0 +1,105 @@
+package com.talk.back.community;
+
+import com.talk.back.TestUsers;
+import com.talk.back.auth.entity.User;
+import com.talk.back.community.dto.CommentLikeResultDto;
+import com.talk.back.community.dto.CommentResponseDto;
+import com.talk.back.community.entity.Comment;
+import com.talk.back.community.repository.CommentLikeWriter;
+import com.talk.back.community.service.CommentFeedCache;
+import com.talk.back.community.service.CommentInteractionIndex;
+import com.talk.back.community.service.CommentLikeCounter;
+import com.talk.back.community.service.CommentService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 좋아요 PUT / DELETE 멱등성 테스트 (운영과 같은 MySQL 문법 / 오류 처리를 보려고 H2 MySQL 모드 사용)
+ * - 유니크 키 충돌만 "바뀐 것 없음", 없는 댓글 / 삭제된 댓글은 예외 (컨트롤러에서 404)
+ */
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:comment-likes;MODE=MySQL;DB_CLOSE_DELAY=-1")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({CommentService.class, CommentLikeCounter.class, CommentFeedCache.class, CommentInteractionIndex.class,
+        CommentLikeWriter.class})
+class CommentLikeIdempotencyTest {
+
+    @Autowired
+    private CommentService commentService;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User viewer;
+    private Long commentId;
+
+    @BeforeEach
+    void setUp() {
+        viewer = TestUsers.persist(entityManager, "viewer@test.com");
+        User author = TestUsers.persist(entityManager, "author@test.com");
+        Comment comment = Comment.builder().user(author).content("댓글").build();
+        entityManager.persist(comment);
+        entityManager.flush();
+        commentId = comment.getCommentId();
+    }
+
+    @Test
+    void repeatedLikeAndUnlikeOnlyChangeOnce() {
+        CommentLikeResultDto first = commentService.like(viewer, commentId);
+        CommentLikeResultDto second = commentService.like(viewer, commentId);
+
+        assertThat(first.isChanged()).isTrue();
+        assertThat(second.isChanged()).isFalse();
+        assertThat(second.isLiked()).isTrue();
+        assertThat(likeRows()).isEqualTo(1);
+
+        assertThat(commentService.unlike(viewer, commentId).isChanged()).isTrue();
+        assertThat(commentService.unlike(viewer, commentId).isChanged()).isFalse();
+        assertThat(likeRows()).isZero();
+    }
+
+    @Test
+    void toggleStillFlipsState() {
+        CommentResponseDto liked = commentService.toggleLike(viewer, commentId);
+        assertThat(liked.isLiked()).isTrue();
+        assertThat(liked.getLikeCount()).isEqualTo(1);
+
+        CommentResponseDto unliked = commentService.toggleLike(viewer, commentId);
+        assertThat(unliked.isLiked()).isFalse();
+        assertThat(likeRows()).isZero();
+    }
+
+    @Test
+    void likeOnMissingOrDeletedCommentIsRejected() {
+        assertThatThrownBy(() -> commentService.like(viewer, -1L))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        jdbcTemplate.update("UPDATE comment SET deleted = true WHERE comment_id = ?", commentId);
+        assertThatThrownBy(() -> commentService.like(viewer, commentId))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(likeRows()).isZero();
+    }
+
+    @Test
+    void likeOnCommentHiddenByReportIsRejected() {
+        jdbcTemplate.update("UPDATE comment SET hidden_by_report = true WHERE comment_id = ?", commentId);
+
+        assertThatThrownBy(() -> commentService.like(viewer, commentId))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(likeRows()).isZero();
+    }
+
+    private int likeRows() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM comment_likes", Integer.class);
+    }
+}
@@ -0,0 +1,58 @@
+package com.talk.back.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompactIdSetTest {
+
+    @Test
+    void matchesHashSetUnderRandomAddAndRemove() {
+        // 한 묶음(65536)에 몰린 id 와 넓게 흩어진 id 를 섞어 배열 ↔ 비트맵 전환을 모두 거침
+        Random random = new Random(42);
+        CompactIdSet set = new CompactIdSet();
+        Set<Long> expected = new HashSet<>();
+        for (int i = 0; i < 100_000; i++) {
+            long id = random.nextInt(3) == 0 ? random.nextInt(70_000) : (long) (random.nextDouble() * 5_000_000L);
+            if (random.nextInt(4) == 0) {
+                assertThat(set.remove(id)).isEqualTo(expected.remove(id));
+            } else {
+                assertThat(set.add(id)).isEqualTo(expected.add(id));
+            }
+        }
+
+        assertThat(set.size()).isEqualTo(expected.size());
+        for (long id = 0; id < 5_100_000; id += 7) {
+            assertThat(set.contains(id)).isEqualTo(expected.contains(id));
+        }
+        expected.forEach(id -> assertThat(set.contains(id)).isTrue());
+    }
+
+    @Test
+    void denseBlockShrinksBackAfterRemoval() {
+        CompactIdSet set = new CompactIdSet();
+        for (long id = 0; id < 10_000; id++) set.add(id);
+        long dense = set.sizeInBytes();
+        assertThat(dense).isLessThan(10_000); // 비트맵 8KB (원소당 2바이트 배열보다 작음)
+
+        for (long id = 0; id < 9_000; id++) set.remove(id);
+        assertThat(set.contains(8_999)).isFalse();
+        assertThat(set.contains(9_000)).isTrue();
+        assertThat(set.sizeInBytes()).isLessThan(dense);
+
+        for (long id = 9_000; id < 10_000; id++) set.remove(id);
+        assertThat(set.size()).isZero();
+    }
+
+    @Test
+    void negativeIdIsRejected() {
+        assertThatThrownBy(() -> new CompactIdSet().add(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(new CompactIdSet().contains(-1)).isFalse();
+    }
+}
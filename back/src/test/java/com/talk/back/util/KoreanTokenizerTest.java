@@ -0,0 +1,53 @@
+package com.talk.back.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KoreanTokenizerTest {
+
+    @Test
+    void matchesPreviousRegexTokenizer() {
+        Pattern legacy = Pattern.compile("[가-힣]{2,}");
+        Random random = new Random(42);
+        for (int round = 0; round < 500; round++) {
+            StringBuilder sb = new StringBuilder();
+            int length = random.nextInt(120);
+            for (int i = 0; i < length; i++) {
+                int kind = random.nextInt(5);
+                sb.append(kind < 3 ? (char) ('가' + random.nextInt(30)) : kind == 3 ? ' ' : (char) ('A' + random.nextInt(40)));
+            }
+            String text = sb.toString();
+
+            Matcher m = legacy.matcher(text.toLowerCase());
+            List<String> expected = new ArrayList<>();
+            while (m.find()) expected.add(m.group());
+
+            assertThat(KoreanTokenizer.tokenize(text)).as(text).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void scanRecordsOffsetsAndHashesIntoReusedBuffer() {
+        KoreanTokenizer.TokenBuffer buffer = new KoreanTokenizer.TokenBuffer(1);
+
+        int count = KoreanTokenizer.scan("딥러닝은 AI, 딥러닝 가 신경망", buffer);
+
+        assertThat(count).isEqualTo(3);
+        assertThat(buffer.token(0)).isEqualTo("딥러닝은");
+        assertThat(buffer.token(1)).isEqualTo("딥러닝");
+        assertThat(buffer.token(2)).isEqualTo("신경망");
+        assertThat(buffer.hash(1)).isEqualTo(KoreanTokenizer.hash("딥러닝", 0, 3));
+        assertThat(buffer.sameToken(0, buffer, 1)).isFalse();
+
+        // 다시 scan 하면 이전 내용은 지워짐
+        assertThat(KoreanTokenizer.scan("한국어", buffer)).isEqualTo(1);
+        assertThat(buffer.token(0)).isEqualTo("한국어");
+    }
+}
@@ -1,9 +1,54 @@
+import gzip
+
 from fastapi import FastAPI
+from typing import List
+
 from pydantic import BaseModel
 from sentence_transformers import SentenceTransformer, util
 
 app = FastAPI()
 
+
+# 요청 본문 gzip 해제 (스프링 쪽 GzipRequestInterceptor 가 긴 본문을 압축해서 보냄)
+class GzipRequestMiddleware:
+    def __init__(self, app):
+        self.app = app
+
+    async def __call__(self, scope, receive, send):
+        if scope["type"] != "http":
+            return await self.app(scope, receive, send)
+
+        headers = scope.get("headers") or []
+        encoding = dict(headers).get(b"content-encoding", b"").lower()
+        if encoding != b"gzip":
+            return await self.app(scope, receive, send)
+
+        body = b""
+        more_body = True
+        while more_body:
+            message = await receive()
+            body += message.get("body", b"")
+            more_body = message.get("more_body", False)
+        data = gzip.decompress(body)
+
+        new_headers = [(k, v) for k, v in headers if k not in (b"content-encoding", b"content-length")]
+        new_headers.append((b"content-length", str(len(data)).encode()))
+        scope = dict(scope, headers=new_headers)
+
+        delivered = False
+
+        async def receive_decompressed():
+            nonlocal delivered
+            if delivered:
+                return await receive()  # 이후에는 원래 채널(연결 종료 감지 등)로 위임
+            delivered = True
+            return {"type": "http.request", "body": data, "more_body": False}
+
+        await self.app(scope, receive_decompressed, send)
+
+
+app.add_middleware(GzipRequestMiddleware)
+
 # 지연 로딩 (요청 올 때만 로딩되도록)
 model = None
 
@@ -33,4 +78,23 @@ def analyze_match(data: MatchRequest):
         "matchingRate": score,
         "original": data.original,
         "user": data.user
-    }
\ No newline at end of file
+    }
+
+
+# 임베딩 요청 형식 (여러 텍스트를 한 번에 인코딩)
+class EmbedRequest(BaseModel):
+    texts: List[str]
+
+
+# 임베딩 엔드포인트
+# - 백엔드가 원문 벡터를 저장해 두고 재분석 시에는 사용자 텍스트만 보내도록 하기 위함
+# - 정규화된 벡터를 돌려주므로 백엔드에서 내적/코사인으로 /analyze 와 같은 점수를 계산할 수 있음
+@app.post("/embed")
+def embed_texts(data: EmbedRequest):
+    model = get_model()
+    vectors = model.encode(data.texts, convert_to_numpy=True, normalize_embeddings=True)
+
+    return {
+        "vectors": vectors.astype("float32").tolist(),
+        "dimension": int(vectors.shape[1]) if len(data.texts) > 0 else 0
+    }